@@ -7,3 +7,10 @@ dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.2"))
     testImplementation("org.junit.jupiter:junit-jupiter")
 }
+
+tasks.register<JavaExec>("migrateArchives") {
+    group = "application"
+    description = "Migra os pacotes .storyflame de um diretorio para o formato atual."
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("io.storyflame.app.migration.ArchiveMigrationCommand")
+}
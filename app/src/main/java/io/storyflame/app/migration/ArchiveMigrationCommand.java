@@ -0,0 +1,72 @@
+package io.storyflame.app.migration;
+
+import io.storyflame.core.storage.ArchiveMigrationReport;
+import io.storyflame.core.storage.ArchiveMigrationResult;
+import io.storyflame.core.storage.ProjectArchiveMigrator;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ArchiveMigrationCommand {
+    private static final String USAGE = "Uso: ArchiveMigrationCommand <diretorio> [--threads N]";
+
+    private ArchiveMigrationCommand() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Path directory = null;
+        Integer threads = null;
+        for (int index = 0; index < args.length; index++) {
+            if (args[index].equals("--threads") && index + 1 < args.length) {
+                try {
+                    threads = Integer.parseInt(args[++index]);
+                } catch (NumberFormatException exception) {
+                    err.println("Numero de threads invalido: " + args[index]);
+                    return 2;
+                }
+            } else if (directory == null && !args[index].startsWith("--")) {
+                directory = Path.of(args[index]);
+            } else {
+                err.println(USAGE);
+                return 2;
+            }
+        }
+        if (directory == null || !Files.isDirectory(directory)) {
+            err.println(directory == null ? USAGE : "Diretorio nao encontrado: " + directory);
+            return 2;
+        }
+
+        ProjectArchiveMigrator migrator = threads == null ? new ProjectArchiveMigrator() : new ProjectArchiveMigrator(threads);
+        AtomicInteger processed = new AtomicInteger();
+        ArchiveMigrationReport report;
+        try {
+            report = migrator.migrateDirectory(directory, result -> out.println(format(processed.incrementAndGet(), result)));
+        } catch (UncheckedIOException exception) {
+            err.println("Falha ao migrar pacotes: " + exception.getMessage());
+            return 1;
+        }
+        out.printf(
+                "Concluido em %d ms: %d migrados, %d ja atualizados, %d com falha.%n",
+                report.elapsed().toMillis(),
+                report.count(ArchiveMigrationResult.Status.MIGRATED),
+                report.count(ArchiveMigrationResult.Status.CURRENT),
+                report.count(ArchiveMigrationResult.Status.FAILED)
+        );
+        return report.hasFailures() ? 1 : 0;
+    }
+
+    private static String format(int position, ArchiveMigrationResult result) {
+        String status = switch (result.status()) {
+            case MIGRATED -> "migrado de v" + result.detectedVersion();
+            case CURRENT -> "ja atualizado";
+            case FAILED -> "falhou: " + String.join("; ", result.issues());
+        };
+        return "[%d] %s (%d ms) %s".formatted(position, result.path().getFileName(), result.elapsed().toMillis(), status);
+    }
+}
@@ -6,6 +6,7 @@ import io.storyflame.core.model.Scene;
 import io.storyflame.core.storage.ProjectArchiveInspection;
 import io.storyflame.core.storage.ProjectArchiveStore;
 import io.storyflame.core.storage.ProjectBackupService;
+import io.storyflame.core.storage.ProjectLibraryEntry;
 import io.storyflame.core.storage.ProjectStoragePaths;
 import io.storyflame.core.tags.CharacterTagProfileSynchronizer;
 import io.storyflame.core.validation.ProjectValidationResult;
@@ -32,6 +33,10 @@ public final class ProjectApplicationService {
         return store.listProjects();
     }
 
+    public List<ProjectLibraryEntry> listProjectSummaries() {
+        return store.listProjectSummaries();
+    }
+
     public boolean deleteProject(Path path) {
         Objects.requireNonNull(path);
         Path normalized = path.toAbsolutePath().normalize();
@@ -129,8 +134,8 @@ public final class ProjectApplicationService {
     public SaveProjectResult saveProject(Project project, Path previousPath) {
         Objects.requireNonNull(project);
         Path targetPath = resolveSavePath(previousPath, project);
-        store.save(project, targetPath);
-        BackupOutcome backupOutcome = createProjectBackup(targetPath, project);
+        boolean written = store.saveIfChanged(project, targetPath);
+        BackupOutcome backupOutcome = written ? createProjectBackup(targetPath, project) : new BackupOutcome(null, false);
         boolean retainedPreviousArchive = retainPreviousArchiveIfNeeded(previousPath, targetPath);
         return new SaveProjectResult(
                 targetPath,
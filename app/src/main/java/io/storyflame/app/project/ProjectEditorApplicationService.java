@@ -3,6 +3,7 @@ package io.storyflame.app.project;
 import io.storyflame.core.model.Chapter;
 import io.storyflame.core.model.Project;
 import io.storyflame.core.model.Scene;
+import io.storyflame.core.search.ProjectSearchIndex;
 import java.util.Objects;
 
 public final class ProjectEditorApplicationService {
@@ -25,6 +26,7 @@ public final class ProjectEditorApplicationService {
         scene.setTitle(title);
         scene.setSynopsis(synopsis);
         scene.setContent(content);
+        ProjectSearchIndex.sceneChanged(project, scene);
         project.touch();
     }
 
@@ -32,6 +34,7 @@ public final class ProjectEditorApplicationService {
         Objects.requireNonNull(project);
         Objects.requireNonNull(scene);
         scene.setTitle(title);
+        ProjectSearchIndex.sceneChanged(project, scene);
         project.touch();
     }
 
@@ -46,6 +49,7 @@ public final class ProjectEditorApplicationService {
         Objects.requireNonNull(project);
         Objects.requireNonNull(scene);
         scene.setContent(content);
+        ProjectSearchIndex.sceneChanged(project, scene);
         project.touch();
     }
 }
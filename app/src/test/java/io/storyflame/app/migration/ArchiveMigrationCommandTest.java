@@ -0,0 +1,55 @@
+package io.storyflame.app.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.model.Project;
+import io.storyflame.core.storage.ProjectArchiveStore;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ArchiveMigrationCommandTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void reportsEachArchiveAndSummary() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        store.save(Project.blank("Atual", "Autor"));
+        Files.writeString(tempDir.resolve("quebrado.storyflame"), "lixo", StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int exitCode = ArchiveMigrationCommand.run(
+                new String[] {tempDir.toString(), "--threads", "2"},
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8)
+        );
+
+        String output = out.toString(StandardCharsets.UTF_8);
+        assertEquals(1, exitCode);
+        assertTrue(output.contains("atual.storyflame"));
+        assertTrue(output.contains("ja atualizado"));
+        assertTrue(output.contains("quebrado.storyflame"));
+        assertTrue(output.contains("0 migrados, 1 ja atualizados, 1 com falha"));
+    }
+
+    @Test
+    void rejectsMissingDirectory() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+        int exitCode = ArchiveMigrationCommand.run(
+                new String[0],
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8)
+        );
+
+        assertEquals(2, exitCode);
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Uso:"));
+    }
+}
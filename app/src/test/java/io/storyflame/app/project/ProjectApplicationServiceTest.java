@@ -3,6 +3,7 @@ package io.storyflame.app.project;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.storyflame.core.model.Project;
@@ -60,6 +61,20 @@ class ProjectApplicationServiceTest {
         assertTrue(Files.exists(result.path()));
     }
 
+    @Test
+    void saveProjectSkipsArchiveAndBackupWhenNothingChanged() {
+        ProjectApplicationService service = newService();
+        ProjectApplicationService.LoadedProject loadedProject = service.createProject("Projeto Estavel", "Autor");
+        Project project = loadedProject.project();
+
+        ProjectApplicationService.SaveProjectResult result = service.saveProject(project, loadedProject.path());
+
+        assertEquals(loadedProject.path(), result.path());
+        assertNull(result.backupPath());
+        assertFalse(result.backupFailed());
+        assertFalse(Files.exists(tempDir.resolve("backups")));
+    }
+
     @Test
     void openProjectRestoresSavedProject() {
         ProjectApplicationService service = newService();
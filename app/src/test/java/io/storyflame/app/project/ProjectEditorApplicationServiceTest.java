@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import io.storyflame.core.model.Chapter;
 import io.storyflame.core.model.Project;
 import io.storyflame.core.model.Scene;
+import io.storyflame.core.search.ProjectSearch;
 import java.time.Instant;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +47,17 @@ class ProjectEditorApplicationServiceTest {
         assertEquals("Resumo B", scene.getSynopsis());
         assertEquals("Texto B", scene.getContent());
     }
+
+    @Test
+    void updateSceneContentKeepsSearchResultsCurrent() {
+        Project project = Project.blank("Projeto", "Autor");
+        Scene scene = new Scene("scene-1", "Cena", "O farol apagou.", null);
+        project.getChapters().add(new Chapter("chapter-1", "Capitulo", java.util.List.of(scene)));
+        assertEquals(1, ProjectSearch.search(project, "farol").size());
+
+        service.updateSceneContent(project, scene, "A lanterna acendeu.");
+
+        assertEquals(0, ProjectSearch.search(project, "farol").size());
+        assertEquals(1, ProjectSearch.search(project, "lanterna").size());
+    }
 }
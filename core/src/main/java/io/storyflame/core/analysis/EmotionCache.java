@@ -1,10 +1,12 @@
 package io.storyflame.core.analysis;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public final class EmotionCache {
-    private final List<EmotionCacheEntry> entries;
+    private List<EmotionCacheEntry> entries;
+    private boolean shared;
 
     public EmotionCache() {
         this.entries = new ArrayList<>();
@@ -14,11 +16,21 @@ public final class EmotionCache {
         this.entries = new ArrayList<>(entries == null ? List.of() : entries);
     }
 
-    public List<EmotionCacheEntry> getEntries() {
-        return entries;
+    private EmotionCache(List<EmotionCacheEntry> entries, boolean shared) {
+        this.entries = entries;
+        this.shared = shared;
     }
 
-    public EmotionChunkAnalysis find(String sceneId, String contentHash) {
+    public synchronized List<EmotionCacheEntry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    public synchronized EmotionCache snapshot() {
+        shared = true;
+        return new EmotionCache(entries, true);
+    }
+
+    public synchronized EmotionChunkAnalysis find(String sceneId, String contentHash) {
         for (EmotionCacheEntry entry : entries) {
             if (entry.sceneId().equals(sceneId) && entry.contentHash().equals(contentHash)) {
                 return entry.analysis();
@@ -27,7 +39,11 @@ public final class EmotionCache {
         return null;
     }
 
-    public void put(String sceneId, String contentHash, EmotionChunkAnalysis analysis) {
+    public synchronized void put(String sceneId, String contentHash, EmotionChunkAnalysis analysis) {
+        if (shared) {
+            entries = new ArrayList<>(entries);
+            shared = false;
+        }
         entries.removeIf(entry -> entry.sceneId().equals(sceneId));
         entries.add(new EmotionCacheEntry(sceneId, contentHash, analysis));
     }
@@ -1,13 +1,12 @@
 package io.storyflame.core.analysis;
 
 import com.google.gson.Gson;
+import io.storyflame.core.text.AccentFolding;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
-import java.text.Normalizer;
 import java.util.EnumMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -112,9 +111,7 @@ public final class FastTextEmotionEngine {
         if (value == null || value.isBlank()) {
             return "";
         }
-        return Normalizer.normalize(value, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}+", "")
-                .toLowerCase(Locale.ROOT);
+        return AccentFolding.fold(value);
     }
 
     private static final class LexiconModel {
@@ -0,0 +1,4 @@
+package io.storyflame.core.analysis;
+
+public record ProjectAnalysis(EmotionAnalysisReport report, EmotionCache cache) {
+}
@@ -3,8 +3,8 @@ package io.storyflame.core.archive;
 import java.util.List;
 
 public final class ProjectArchiveLayout {
-    public static final String SPEC_VERSION = "1";
-    public static final int SPEC_VERSION_NUMBER = 1;
+    public static final String SPEC_VERSION = "2";
+    public static final int SPEC_VERSION_NUMBER = 2;
     public static final String MANIFEST_FILE = "manifest.json";
     public static final String PROJECT_FILE = "project.json";
     public static final String NARRATIVE_TAGS_FILE = "narrative_tags.json";
@@ -34,6 +34,28 @@ public final class ProjectArchiveLayout {
         return CHAPTERS_DIRECTORY + chapterId + ".json";
     }
 
+    public static String chapterScenesDirectory(String chapterId) {
+        return CHAPTERS_DIRECTORY + chapterId + "/scenes/";
+    }
+
+    public static String sceneContentFile(String chapterId, String sceneId) {
+        return chapterScenesDirectory(chapterId) + sceneId + ".txt";
+    }
+
+    public static String chapterIdOf(String entryName) {
+        if (entryName == null || !entryName.startsWith(CHAPTERS_DIRECTORY)) {
+            return null;
+        }
+        String relative = entryName.substring(CHAPTERS_DIRECTORY.length());
+        int separator = relative.indexOf('/');
+        if (separator < 0) {
+            return relative.endsWith(".json") && relative.length() > ".json".length()
+                    ? relative.substring(0, relative.length() - ".json".length())
+                    : null;
+        }
+        return separator > 0 && relative.startsWith("/scenes/", separator) ? relative.substring(0, separator) : null;
+    }
+
     public static String characterFile(String characterId) {
         return CHARACTERS_DIRECTORY + characterId + ".json";
     }
@@ -1,16 +1,24 @@
 package io.storyflame.core.archive;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 public record ProjectManifest(
         String format,
         int version,
         String appVersion,
-        String createdAt
+        String createdAt,
+        Map<String, String> entries
 ) {
-    public static ProjectManifest initial(String createdAt) {
-        return new ProjectManifest("storyflame-zip", ProjectArchiveLayout.SPEC_VERSION_NUMBER, "0.2.0-SNAPSHOT", createdAt);
+    public ProjectManifest {
+        entries = entries == null ? null : new TreeMap<>(entries);
+    }
+
+    public static ProjectManifest initial(String createdAt, Map<String, String> entries) {
+        return new ProjectManifest("storyflame-zip", ProjectArchiveLayout.SPEC_VERSION_NUMBER, "0.2.0-SNAPSHOT", createdAt, entries);
     }
 
     public static ProjectManifest legacy(String createdAt) {
-        return new ProjectManifest("storyflame-zip", 0, "0.0.0-legacy", createdAt);
+        return new ProjectManifest("storyflame-zip", 0, "0.0.0-legacy", createdAt, null);
     }
 }
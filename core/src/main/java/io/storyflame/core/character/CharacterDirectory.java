@@ -2,7 +2,7 @@ package io.storyflame.core.character;
 
 import io.storyflame.core.model.Character;
 import io.storyflame.core.model.Project;
-import java.text.Normalizer;
+import io.storyflame.core.text.AccentFolding;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -30,21 +30,13 @@ public final class CharacterDirectory {
         if (normalizedQuery.isBlank()) {
             return new ArrayList<>(project.getCharacters());
         }
-        List<Character> matches = new ArrayList<>();
-        for (Character character : project.getCharacters()) {
-            String haystack = normalize(character.getName() + "\n" + character.getDescription());
-            if (haystack.contains(normalizedQuery)) {
-                matches.add(character);
-            }
-        }
-        return matches;
+        return CharacterIndex.of(project).search(project, normalizedQuery);
     }
 
     private static String normalize(String value) {
         if (value == null || value.isBlank()) {
             return "";
         }
-        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
-        return decomposed.replaceAll("\\p{M}+", "").toLowerCase();
+        return AccentFolding.fold(value);
     }
 }
@@ -0,0 +1,133 @@
+package io.storyflame.core.character;
+
+import io.storyflame.core.model.Character;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.text.AccentFolding;
+import io.storyflame.core.text.TrigramIndex;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+final class CharacterIndex {
+    private static final Map<Project, CharacterIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Character, IndexedCharacter> characters = new IdentityHashMap<>();
+    private final Map<String, Integer> termCounts = new HashMap<>();
+    private final TrigramIndex vocabulary = new TrigramIndex();
+    private long refreshedRevision = -1;
+
+    private CharacterIndex() {
+    }
+
+    static CharacterIndex of(Project project) {
+        Objects.requireNonNull(project, "project");
+        return INDEXES.computeIfAbsent(project, ignored -> new CharacterIndex());
+    }
+
+    synchronized List<Character> search(Project project, String normalizedQuery) {
+        refresh(project);
+        List<Character> matches = new ArrayList<>();
+        for (Character character : project.getCharacters()) {
+            if (characters.get(character).normalized.contains(normalizedQuery)) {
+                matches.add(character);
+            }
+        }
+        return matches.isEmpty() ? searchSimilar(project, normalizedQuery) : matches;
+    }
+
+    synchronized int vocabularySize() {
+        return vocabulary.size();
+    }
+
+    private List<Character> searchSimilar(Project project, String normalizedQuery) {
+        List<Set<String>> alternatives = new ArrayList<>();
+        for (String queryTerm : terms(normalizedQuery)) {
+            Set<String> similar = new HashSet<>(vocabulary.similar(queryTerm, TrigramIndex.defaultDistance(queryTerm)));
+            if (similar.isEmpty()) {
+                return List.of();
+            }
+            alternatives.add(similar);
+        }
+        List<Character> matches = new ArrayList<>();
+        for (Character character : project.getCharacters()) {
+            Set<String> terms = characters.get(character).terms;
+            if (!alternatives.isEmpty() && alternatives.stream().allMatch(similar -> similar.stream().anyMatch(terms::contains))) {
+                matches.add(character);
+            }
+        }
+        return matches;
+    }
+
+    private void refresh(Project project) {
+        long revision = project.getRevision();
+        if (revision == refreshedRevision) {
+            return;
+        }
+        Set<Character> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Character character : project.getCharacters()) {
+            live.add(character);
+            index(character);
+        }
+        characters.entrySet().removeIf(entry -> {
+            if (live.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getValue().terms.forEach(this::release);
+            return true;
+        });
+        refreshedRevision = revision;
+    }
+
+    private void index(Character character) {
+        IndexedCharacter indexed = characters.get(character);
+        if (indexed != null && indexed.revision == character.getRevision()) {
+            return;
+        }
+        String normalized = AccentFolding.fold(character.getName() + "\n" + character.getDescription());
+        Set<String> terms = terms(normalized);
+        terms.forEach(this::retain);
+        if (indexed != null) {
+            indexed.terms.forEach(this::release);
+        }
+        characters.put(character, new IndexedCharacter(character.getRevision(), normalized, terms));
+    }
+
+    private void retain(String term) {
+        if (termCounts.merge(term, 1, Integer::sum) == 1) {
+            vocabulary.add(term);
+        }
+    }
+
+    private void release(String term) {
+        if (termCounts.merge(term, -1, Integer::sum) == 0) {
+            termCounts.remove(term);
+            vocabulary.remove(term);
+        }
+    }
+
+    private static Set<String> terms(String normalized) {
+        Set<String> terms = new LinkedHashSet<>();
+        int start = -1;
+        for (int index = 0; index <= normalized.length(); index++) {
+            boolean termCharacter = index < normalized.length() && java.lang.Character.isLetterOrDigit(normalized.charAt(index));
+            if (termCharacter && start < 0) {
+                start = index;
+            } else if (!termCharacter && start >= 0) {
+                terms.add(normalized.substring(start, index));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private record IndexedCharacter(long revision, String normalized, Set<String> terms) {
+    }
+}
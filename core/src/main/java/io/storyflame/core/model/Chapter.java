@@ -4,11 +4,19 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 
 public final class Chapter {
     private String id;
     private String title;
-    private final List<Scene> scenes;
+    private List<Scene> scenes;
+    private Supplier<List<Scene>> sceneLoader;
+    private transient long revision;
+    private transient Chapter snapshot;
+    private transient long snapshotRevision;
+    private transient long contentRevision;
+    private transient LongConsumer owner;
 
     public Chapter() {
         this(UUID.randomUUID().toString(), "", new ArrayList<>());
@@ -17,7 +25,17 @@ public final class Chapter {
     public Chapter(String id, String title, List<Scene> scenes) {
         this.id = Objects.requireNonNullElse(id, UUID.randomUUID().toString());
         this.title = Objects.requireNonNullElse(title, "");
-        this.scenes = new ArrayList<>(Objects.requireNonNullElse(scenes, List.of()));
+        this.scenes = sceneList(Objects.requireNonNullElse(scenes, List.of()));
+    }
+
+    private Chapter(String id, String title, Supplier<List<Scene>> sceneLoader) {
+        this.id = Objects.requireNonNullElse(id, UUID.randomUUID().toString());
+        this.title = Objects.requireNonNullElse(title, "");
+        this.sceneLoader = Objects.requireNonNull(sceneLoader);
+    }
+
+    public static Chapter lazy(String id, String title, Supplier<List<Scene>> sceneLoader) {
+        return new Chapter(id, title, sceneLoader);
     }
 
     public String getId() {
@@ -26,6 +44,8 @@ public final class Chapter {
 
     public void setId(String id) {
         this.id = Objects.requireNonNullElse(id, this.id);
+        revision = ModelRevision.next();
+        contentChanged(revision);
     }
 
     public String getTitle() {
@@ -34,10 +54,82 @@ public final class Chapter {
 
     public void setTitle(String title) {
         this.title = Objects.requireNonNullElse(title, "");
+        revision = ModelRevision.next();
+        contentChanged(revision);
     }
 
-    public List<Scene> getScenes() {
+    public synchronized List<Scene> getScenes() {
+        if (scenes == null) {
+            scenes = sceneList(Objects.requireNonNullElse(sceneLoader.get(), List.of()));
+            sceneLoader = null;
+            LongConsumer current = owner;
+            if (current != null) {
+                current.accept(ModelRevision.next());
+            }
+        }
         return scenes;
     }
-}
 
+    public synchronized boolean isScenesLoaded() {
+        return scenes != null;
+    }
+
+    public synchronized Supplier<List<Scene>> getPendingSceneLoader() {
+        return sceneLoader;
+    }
+
+    public synchronized long getRevision() {
+        return revision;
+    }
+
+    public synchronized long getContentRevision() {
+        return contentRevision;
+    }
+
+    void attachTo(LongConsumer owner) {
+        this.owner = owner;
+    }
+
+    public synchronized Chapter snapshot() {
+        if (scenes == null) {
+            if (!isCurrentSnapshot() || snapshot.getPendingSceneLoader() != sceneLoader) {
+                snapshot = lazy(id, title, sceneLoader);
+                snapshotRevision = revision;
+            }
+            return snapshot;
+        }
+        if (!isCurrentSnapshot() || !sharesSceneSnapshots()) {
+            snapshot = new Chapter(id, title, scenes.stream().map(Scene::snapshot).toList());
+            snapshotRevision = revision;
+        }
+        return snapshot;
+    }
+
+    private List<Scene> sceneList(List<Scene> scenes) {
+        return new RevisionList<>(scenes, scene -> scene.attachTo(this::contentChanged), () -> contentChanged(ModelRevision.next()));
+    }
+
+    private void contentChanged(long stamp) {
+        contentRevision = stamp;
+        LongConsumer current = owner;
+        if (current != null) {
+            current.accept(stamp);
+        }
+    }
+
+    private boolean isCurrentSnapshot() {
+        return snapshot != null && snapshotRevision == revision;
+    }
+
+    private boolean sharesSceneSnapshots() {
+        if (snapshot.scenes == null || snapshot.scenes.size() != scenes.size()) {
+            return false;
+        }
+        for (int index = 0; index < scenes.size(); index++) {
+            if (snapshot.scenes.get(index) != scenes.get(index).snapshot()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,11 +2,16 @@ package io.storyflame.core.model;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 
 public final class Character {
     private String id;
     private String name;
     private String description;
+    private transient long revision;
+    private transient Character snapshot;
+    private transient long snapshotRevision;
+    private transient LongConsumer owner;
 
     public Character() {
         this(UUID.randomUUID().toString(), "", "");
@@ -24,6 +29,7 @@ public final class Character {
 
     public void setId(String id) {
         this.id = Objects.requireNonNullElse(id, this.id);
+        changed();
     }
 
     public String getName() {
@@ -32,6 +38,7 @@ public final class Character {
 
     public void setName(String name) {
         this.name = Objects.requireNonNullElse(name, "");
+        changed();
     }
 
     public String getDescription() {
@@ -40,6 +47,30 @@ public final class Character {
 
     public void setDescription(String description) {
         this.description = Objects.requireNonNullElse(description, "");
+        changed();
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    void attachTo(LongConsumer owner) {
+        this.owner = owner;
     }
-}
 
+    private void changed() {
+        revision = ModelRevision.next();
+        LongConsumer current = owner;
+        if (current != null) {
+            current.accept(revision);
+        }
+    }
+
+    public Character snapshot() {
+        if (snapshot == null || snapshotRevision != revision) {
+            snapshot = new Character(id, name, description);
+            snapshotRevision = revision;
+        }
+        return snapshot;
+    }
+}
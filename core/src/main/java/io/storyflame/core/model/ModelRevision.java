@@ -0,0 +1,18 @@
+package io.storyflame.core.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ModelRevision {
+    private static final AtomicLong CURRENT = new AtomicLong();
+
+    private ModelRevision() {
+    }
+
+    public static long current() {
+        return CURRENT.get();
+    }
+
+    static long next() {
+        return CURRENT.incrementAndGet();
+    }
+}
@@ -2,6 +2,7 @@ package io.storyflame.core.model;
 
 import io.storyflame.core.analysis.EmotionAnalysisReport;
 import io.storyflame.core.analysis.EmotionCache;
+import io.storyflame.core.analysis.ProjectAnalysis;
 import io.storyflame.core.tags.CharacterTagProfile;
 import io.storyflame.core.tags.NarrativeTag;
 import java.time.Instant;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 public final class Project {
     private String id;
@@ -22,6 +24,8 @@ public final class Project {
     private final List<CharacterTagProfile> characterTagProfiles;
     private EmotionAnalysisReport emotionAnalysis;
     private EmotionCache emotionCache;
+    private Supplier<ProjectAnalysis> analysisLoader;
+    private transient long revision;
 
     public Project() {
         this(
@@ -58,8 +62,16 @@ public final class Project {
         this.author = Objects.requireNonNullElse(author, "");
         this.createdAt = Objects.requireNonNullElse(createdAt, now);
         this.updatedAt = Objects.requireNonNullElse(updatedAt, this.createdAt);
-        this.chapters = new ArrayList<>(Objects.requireNonNullElse(chapters, List.of()));
-        this.characters = new ArrayList<>(Objects.requireNonNullElse(characters, List.of()));
+        this.chapters = new RevisionList<>(
+                Objects.requireNonNullElse(chapters, List.of()),
+                chapter -> chapter.attachTo(this::changed),
+                () -> changed(ModelRevision.next())
+        );
+        this.characters = new RevisionList<>(
+                Objects.requireNonNullElse(characters, List.of()),
+                character -> character.attachTo(this::changed),
+                () -> changed(ModelRevision.next())
+        );
         this.narrativeTags = new ArrayList<>(Objects.requireNonNullElse(narrativeTags, List.of()));
         this.characterTagProfiles = new ArrayList<>(Objects.requireNonNullElse(characterTagProfiles, List.of()));
         this.emotionAnalysis = emotionAnalysis;
@@ -84,6 +96,7 @@ public final class Project {
 
     public void setTitle(String title) {
         this.title = Objects.requireNonNullElse(title, "");
+        changed(ModelRevision.next());
         touch();
     }
 
@@ -93,6 +106,7 @@ public final class Project {
 
     public void setAuthor(String author) {
         this.author = Objects.requireNonNullElse(author, "");
+        changed(ModelRevision.next());
         touch();
     }
 
@@ -112,6 +126,10 @@ public final class Project {
         this.updatedAt = Objects.requireNonNullElse(updatedAt, this.updatedAt);
     }
 
+    public long getRevision() {
+        return revision;
+    }
+
     public List<Chapter> getChapters() {
         return chapters;
     }
@@ -128,23 +146,53 @@ public final class Project {
         return characterTagProfiles;
     }
 
-    public EmotionAnalysisReport getEmotionAnalysis() {
+    public synchronized EmotionAnalysisReport getEmotionAnalysis() {
+        loadAnalysis();
         return emotionAnalysis;
     }
 
-    public void setEmotionAnalysis(EmotionAnalysisReport emotionAnalysis) {
+    public synchronized void setEmotionAnalysis(EmotionAnalysisReport emotionAnalysis) {
+        loadAnalysis();
         this.emotionAnalysis = emotionAnalysis;
     }
 
-    public EmotionCache getEmotionCache() {
+    public synchronized EmotionCache getEmotionCache() {
+        loadAnalysis();
         return emotionCache;
     }
 
-    public void setEmotionCache(EmotionCache emotionCache) {
+    public synchronized void setEmotionCache(EmotionCache emotionCache) {
+        loadAnalysis();
         this.emotionCache = Objects.requireNonNullElse(emotionCache, new EmotionCache());
     }
 
+    public synchronized void loadAnalysisLazily(Supplier<ProjectAnalysis> analysisLoader) {
+        this.analysisLoader = analysisLoader;
+    }
+
+    public synchronized boolean isAnalysisLoaded() {
+        return analysisLoader == null;
+    }
+
+    public synchronized Supplier<ProjectAnalysis> getPendingAnalysisLoader() {
+        return analysisLoader;
+    }
+
     public void touch() {
         updatedAt = Instant.now();
     }
+
+    private void changed(long stamp) {
+        revision = stamp;
+    }
+
+    private void loadAnalysis() {
+        if (analysisLoader == null) {
+            return;
+        }
+        ProjectAnalysis analysis = analysisLoader.get();
+        analysisLoader = null;
+        emotionAnalysis = analysis == null ? null : analysis.report();
+        emotionCache = analysis == null || analysis.cache() == null ? new EmotionCache() : analysis.cache();
+    }
 }
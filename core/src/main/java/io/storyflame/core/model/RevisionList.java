@@ -0,0 +1,72 @@
+package io.storyflame.core.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+final class RevisionList<E> extends AbstractList<E> implements RandomAccess {
+    private final ArrayList<E> elements;
+    private final Consumer<? super E> attach;
+    private final Runnable changed;
+
+    RevisionList(Collection<? extends E> elements, Consumer<? super E> attach, Runnable changed) {
+        this.elements = new ArrayList<>(elements);
+        this.attach = attach;
+        this.changed = changed;
+        this.elements.forEach(attach);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = elements.set(index, element);
+        attach.accept(element);
+        changed.run();
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        elements.add(index, element);
+        modCount++;
+        attach.accept(element);
+        changed.run();
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        changed.run();
+        return removed;
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        elements.sort(comparator);
+        modCount++;
+        changed.run();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        elements.subList(fromIndex, toIndex).clear();
+        modCount++;
+        changed.run();
+    }
+}
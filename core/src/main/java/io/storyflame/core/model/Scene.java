@@ -2,6 +2,7 @@ package io.storyflame.core.model;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.LongConsumer;
 
 public final class Scene {
     private String id;
@@ -9,6 +10,10 @@ public final class Scene {
     private String synopsis;
     private String content;
     private String pointOfViewCharacterId;
+    private transient long revision;
+    private transient Scene snapshot;
+    private transient long snapshotRevision;
+    private transient LongConsumer owner;
 
     public Scene() {
         this(UUID.randomUUID().toString(), "", "", "", null);
@@ -32,6 +37,7 @@ public final class Scene {
 
     public void setId(String id) {
         this.id = Objects.requireNonNullElse(id, this.id);
+        changed();
     }
 
     public String getTitle() {
@@ -40,6 +46,7 @@ public final class Scene {
 
     public void setTitle(String title) {
         this.title = Objects.requireNonNullElse(title, "");
+        changed();
     }
 
     public String getSynopsis() {
@@ -48,6 +55,7 @@ public final class Scene {
 
     public void setSynopsis(String synopsis) {
         this.synopsis = Objects.requireNonNullElse(synopsis, "");
+        changed();
     }
 
     public String getContent() {
@@ -56,6 +64,7 @@ public final class Scene {
 
     public void setContent(String content) {
         this.content = Objects.requireNonNullElse(content, "");
+        changed();
     }
 
     public String getPointOfViewCharacterId() {
@@ -64,5 +73,30 @@ public final class Scene {
 
     public void setPointOfViewCharacterId(String pointOfViewCharacterId) {
         this.pointOfViewCharacterId = pointOfViewCharacterId;
+        changed();
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    void attachTo(LongConsumer owner) {
+        this.owner = owner;
+    }
+
+    private void changed() {
+        revision = ModelRevision.next();
+        LongConsumer current = owner;
+        if (current != null) {
+            current.accept(revision);
+        }
+    }
+
+    public Scene snapshot() {
+        if (snapshot == null || snapshotRevision != revision) {
+            snapshot = new Scene(id, title, synopsis, content, pointOfViewCharacterId);
+            snapshotRevision = revision;
+        }
+        return snapshot;
     }
 }
@@ -0,0 +1,553 @@
+package io.storyflame.core.search;
+
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import io.storyflame.core.text.AccentFolding;
+import io.storyflame.core.text.FoldedText;
+import io.storyflame.core.text.TrigramIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+public final class ProjectSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<RankedHit> RANKING = Comparator
+            .comparingDouble(RankedHit::score)
+            .reversed()
+            .thenComparingInt(RankedHit::order);
+    private static final Map<Project, ProjectSearchIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Chapter, IndexedField> chapterTitles = new IdentityHashMap<>();
+    private final Map<Scene, IndexedField> sceneTitles = new IdentityHashMap<>();
+    private final Map<Scene, IndexedField> sceneContents = new IdentityHashMap<>();
+    private final Map<String, Map<IndexedField, int[]>> postings = new HashMap<>();
+    private final TrigramIndex vocabulary = new TrigramIndex();
+    private final Map<SearchTarget, FieldStats> stats = new EnumMap<>(SearchTarget.class);
+    private final FoldedText foldedText = new FoldedText();
+    private long refreshedRevision = -1;
+
+    private ProjectSearchIndex() {
+    }
+
+    static ProjectSearchIndex of(Project project) {
+        Objects.requireNonNull(project, "project");
+        return INDEXES.computeIfAbsent(project, ignored -> new ProjectSearchIndex());
+    }
+
+    public static void sceneChanged(Project project, Scene scene) {
+        Objects.requireNonNull(project, "project");
+        Objects.requireNonNull(scene, "scene");
+        ProjectSearchIndex index = INDEXES.get(project);
+        if (index != null) {
+            index.updateScene(scene);
+        }
+    }
+
+    synchronized void updateScene(Scene scene) {
+        index(SearchTarget.SCENE_TITLE, sceneTitles, scene, scene.getRevision(), scene.getTitle());
+        index(SearchTarget.SCENE_CONTENT, sceneContents, scene, scene.getRevision(), scene.getContent());
+    }
+
+    synchronized List<SearchMatch> search(Project project, String query) {
+        refresh(project);
+        QueryPlan plan = plan(query);
+        List<SearchMatch> matches = new ArrayList<>();
+        List<Chapter> chapters = project.getChapters();
+        for (int chapterIndex = 0; chapterIndex < chapters.size(); chapterIndex++) {
+            Chapter chapter = chapters.get(chapterIndex);
+            IndexedField chapterTitle = chapterTitles.get(chapter);
+            if (plan.accepts(chapterTitle)) {
+                matches.add(plan.match(chapterTitle, chapterIndex, -1, chapter.getTitle()));
+            }
+
+            List<Scene> scenes = chapter.getScenes();
+            for (int sceneIndex = 0; sceneIndex < scenes.size(); sceneIndex++) {
+                Scene scene = scenes.get(sceneIndex);
+                IndexedField sceneTitle = sceneTitles.get(scene);
+                if (plan.accepts(sceneTitle)) {
+                    matches.add(plan.match(sceneTitle, chapterIndex, sceneIndex, scene.getTitle()));
+                }
+                IndexedField sceneContent = sceneContents.get(scene);
+                if (plan.accepts(sceneContent)) {
+                    matches.add(plan.match(sceneContent, chapterIndex, sceneIndex, scene.getTitle()));
+                }
+            }
+        }
+        return matches;
+    }
+
+    synchronized SearchPage searchRanked(Project project, String query, int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Search offset and limit must not be negative");
+        }
+        refresh(project);
+        QueryPlan plan = plan(query);
+        List<Map<SearchTarget, Integer>> documentFrequencies = documentFrequencies(plan.termFrequencies());
+        int capacity = (int) Math.min(Integer.MAX_VALUE, (long) offset + limit);
+        PriorityQueue<RankedHit> top = new PriorityQueue<>(RANKING.reversed());
+        int total = 0;
+        List<Chapter> chapters = project.getChapters();
+        for (int chapterIndex = 0; chapterIndex < chapters.size(); chapterIndex++) {
+            Chapter chapter = chapters.get(chapterIndex);
+            IndexedField chapterTitle = chapterTitles.get(chapter);
+            if (plan.accepts(chapterTitle)) {
+                offer(top, capacity, new RankedHit(chapterTitle, chapterIndex, -1, chapter.getTitle(), score(chapterTitle, plan.termFrequencies(), documentFrequencies), total++));
+            }
+            List<Scene> scenes = chapter.getScenes();
+            for (int sceneIndex = 0; sceneIndex < scenes.size(); sceneIndex++) {
+                Scene scene = scenes.get(sceneIndex);
+                for (IndexedField field : new IndexedField[] {sceneTitles.get(scene), sceneContents.get(scene)}) {
+                    if (plan.accepts(field)) {
+                        offer(top, capacity, new RankedHit(field, chapterIndex, sceneIndex, scene.getTitle(), score(field, plan.termFrequencies(), documentFrequencies), total++));
+                    }
+                }
+            }
+        }
+
+        List<RankedHit> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        List<SearchMatch> matches = new ArrayList<>();
+        for (RankedHit hit : ranked.subList(Math.min(offset, ranked.size()), ranked.size())) {
+            matches.add(plan.match(hit.field(), hit.chapterIndex(), hit.sceneIndex(), hit.title()));
+        }
+        return new SearchPage(matches, total, capacity < total ? capacity : -1);
+    }
+
+    private QueryPlan plan(String query) {
+        SearchQuery parsed = SearchQueryParser.parse(query);
+        if (parsed == null) {
+            String normalizedQuery = normalize(query);
+            List<Map<IndexedField, Integer>> termFrequencies = termFrequencies(terms(normalizedQuery), false);
+            Set<IndexedField> candidates = candidates(termFrequencies);
+            return new QueryPlan(
+                    field -> field != null
+                            && (candidates == null || candidates.contains(field))
+                            && field.normalized.contains(normalizedQuery),
+                    field -> excerpt(field, field.normalized.indexOf(normalizedQuery), normalizedQuery.length()),
+                    termFrequencies
+            );
+        }
+        Map<IndexedField, int[]> hits = evaluate(parsed);
+        List<String> scoringTerms = new ArrayList<>();
+        collectTerms(parsed, scoringTerms);
+        return new QueryPlan(
+                field -> field != null && hits.containsKey(field),
+                field -> excerptAt(field, hits.get(field)),
+                termFrequencies(List.copyOf(new LinkedHashSet<>(scoringTerms)), true)
+        );
+    }
+
+    private Map<IndexedField, int[]> evaluate(SearchQuery query) {
+        if (query instanceof SearchQuery.Term term) {
+            return termPositions(term.text());
+        }
+        if (query instanceof SearchQuery.Phrase phrase) {
+            return phrasePositions(phrase.terms());
+        }
+        if (query instanceof SearchQuery.Fuzzy fuzzy) {
+            Map<IndexedField, int[]> result = new IdentityHashMap<>();
+            for (String term : vocabulary.similar(fuzzy.text(), fuzzy.distance())) {
+                postings.get(term).forEach((field, positions) -> result.merge(field, positions, ProjectSearchIndex::union));
+            }
+            return result;
+        }
+        if (query instanceof SearchQuery.Not not) {
+            Map<IndexedField, int[]> excluded = evaluate(not.clause());
+            Map<IndexedField, int[]> result = new IdentityHashMap<>();
+            for (Collection<IndexedField> fields : List.of(chapterTitles.values(), sceneTitles.values(), sceneContents.values())) {
+                for (IndexedField field : fields) {
+                    if (!excluded.containsKey(field)) {
+                        result.put(field, new int[0]);
+                    }
+                }
+            }
+            return result;
+        }
+        if (query instanceof SearchQuery.And and) {
+            Map<IndexedField, int[]> result = null;
+            for (SearchQuery clause : and.clauses()) {
+                Map<IndexedField, int[]> clauseHits = evaluate(clause);
+                if (result == null) {
+                    result = clauseHits;
+                } else {
+                    result.keySet().retainAll(clauseHits.keySet());
+                    result.replaceAll((field, positions) -> union(positions, clauseHits.get(field)));
+                }
+                if (result.isEmpty()) {
+                    break;
+                }
+            }
+            return result;
+        }
+        if (query instanceof SearchQuery.Or or) {
+            Map<IndexedField, int[]> result = new IdentityHashMap<>();
+            for (SearchQuery clause : or.clauses()) {
+                evaluate(clause).forEach((field, positions) -> result.merge(field, positions, ProjectSearchIndex::union));
+            }
+            return result;
+        }
+        SearchQuery.Near near = (SearchQuery.Near) query;
+        Map<IndexedField, int[]> left = evaluate(near.left());
+        Map<IndexedField, int[]> right = evaluate(near.right());
+        Map<IndexedField, int[]> result = new IdentityHashMap<>();
+        left.forEach((field, leftPositions) -> {
+            int[] rightPositions = right.get(field);
+            if (rightPositions != null) {
+                int[] positions = nearPositions(leftPositions, rightPositions, near.distance());
+                if (positions.length > 0) {
+                    result.put(field, positions);
+                }
+            }
+        });
+        return result;
+    }
+
+    private Map<IndexedField, int[]> termPositions(String queryTerm) {
+        Map<IndexedField, int[]> fields = postings.get(queryTerm);
+        return fields == null ? new IdentityHashMap<>() : new IdentityHashMap<>(fields);
+    }
+
+    private Map<IndexedField, int[]> phrasePositions(List<String> phraseTerms) {
+        List<Map<IndexedField, int[]>> termHits = new ArrayList<>();
+        for (String phraseTerm : phraseTerms) {
+            termHits.add(termPositions(phraseTerm));
+        }
+        Map<IndexedField, int[]> result = new IdentityHashMap<>();
+        termHits.get(0).forEach((field, firstPositions) -> {
+            int[] starts = Arrays.stream(firstPositions)
+                    .filter(start -> {
+                        for (int termIndex = 1; termIndex < termHits.size(); termIndex++) {
+                            int[] positions = termHits.get(termIndex).get(field);
+                            if (positions == null || Arrays.binarySearch(positions, start + termIndex) < 0) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    })
+                    .toArray();
+            if (starts.length > 0) {
+                result.put(field, starts);
+            }
+        });
+        return result;
+    }
+
+    private static int[] nearPositions(int[] left, int[] right, int distance) {
+        IntStream.Builder positions = IntStream.builder();
+        for (int position : left) {
+            int insertion = Arrays.binarySearch(right, position);
+            if (insertion < 0) {
+                insertion = -insertion - 1;
+            }
+            for (int index = Math.max(0, insertion - 1); index < right.length && right[index] <= position + distance; index++) {
+                if (Math.abs(right[index] - position) <= distance) {
+                    positions.add(position);
+                    positions.add(right[index]);
+                }
+            }
+        }
+        return positions.build().sorted().distinct().toArray();
+    }
+
+    private static int[] union(int[] left, int[] right) {
+        return IntStream.concat(Arrays.stream(left), Arrays.stream(right)).sorted().distinct().toArray();
+    }
+
+    private void collectTerms(SearchQuery query, List<String> terms) {
+        if (query instanceof SearchQuery.Term term) {
+            terms.add(term.text());
+        } else if (query instanceof SearchQuery.Fuzzy fuzzy) {
+            terms.addAll(vocabulary.similar(fuzzy.text(), fuzzy.distance()));
+        } else if (query instanceof SearchQuery.Phrase phrase) {
+            terms.addAll(phrase.terms());
+        } else if (query instanceof SearchQuery.And and) {
+            and.clauses().forEach(clause -> collectTerms(clause, terms));
+        } else if (query instanceof SearchQuery.Or or) {
+            or.clauses().forEach(clause -> collectTerms(clause, terms));
+        } else if (query instanceof SearchQuery.Near near) {
+            collectTerms(near.left(), terms);
+            collectTerms(near.right(), terms);
+        }
+    }
+
+    private void refresh(Project project) {
+        long revision = project.getRevision();
+        if (revision == refreshedRevision) {
+            return;
+        }
+        Set<Object> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Chapter chapter : project.getChapters()) {
+            live.add(chapter);
+            index(SearchTarget.CHAPTER, chapterTitles, chapter, chapter.getRevision(), chapter.getTitle());
+            for (Scene scene : chapter.getScenes()) {
+                live.add(scene);
+                updateScene(scene);
+            }
+        }
+        removeStale(chapterTitles, live);
+        removeStale(sceneTitles, live);
+        removeStale(sceneContents, live);
+        refreshedRevision = revision;
+    }
+
+    private <K> void index(SearchTarget target, Map<K, IndexedField> fields, K owner, long revision, String text) {
+        String value = Objects.requireNonNullElse(text, "");
+        IndexedField field = fields.get(owner);
+        if (field != null && (field.revision == revision || field.text.equals(value))) {
+            field.revision = revision;
+            return;
+        }
+        if (field != null) {
+            unindex(field);
+        }
+        field = new IndexedField(target, value, normalize(value), revision);
+        fields.put(owner, field);
+        Map<String, int[]> positions = positions(field.normalized);
+        for (Map.Entry<String, int[]> entry : positions.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> {
+                vocabulary.add(term);
+                return new HashMap<>();
+            }).put(field, entry.getValue());
+            field.length += entry.getValue().length;
+        }
+        field.terms = positions.keySet();
+        FieldStats fieldStats = stats.computeIfAbsent(target, ignored -> new FieldStats());
+        fieldStats.count++;
+        fieldStats.totalLength += field.length;
+    }
+
+    private <K> void removeStale(Map<K, IndexedField> fields, Set<Object> live) {
+        fields.entrySet().removeIf(entry -> {
+            if (live.contains(entry.getKey())) {
+                return false;
+            }
+            unindex(entry.getValue());
+            return true;
+        });
+    }
+
+    private void unindex(IndexedField field) {
+        FieldStats fieldStats = stats.get(field.target);
+        fieldStats.count--;
+        fieldStats.totalLength -= field.length;
+        for (String term : field.terms) {
+            Map<IndexedField, int[]> fields = postings.get(term);
+            if (fields != null) {
+                fields.remove(field);
+                if (fields.isEmpty()) {
+                    postings.remove(term);
+                    vocabulary.remove(term);
+                }
+            }
+        }
+    }
+
+    private List<Map<IndexedField, Integer>> termFrequencies(List<String> queryTerms, boolean exact) {
+        List<Map<IndexedField, Integer>> frequencies = new ArrayList<>();
+        for (String queryTerm : queryTerms) {
+            Map<IndexedField, Integer> termFields = new IdentityHashMap<>();
+            Collection<String> matchingTerms = exact
+                    ? (postings.containsKey(queryTerm) ? List.of(queryTerm) : List.of())
+                    : vocabulary.containing(queryTerm);
+            for (String term : matchingTerms) {
+                postings.get(term).forEach((field, offsets) -> termFields.merge(field, offsets.length, Integer::sum));
+            }
+            frequencies.add(termFields);
+        }
+        return frequencies;
+    }
+
+    private static Set<IndexedField> candidates(List<Map<IndexedField, Integer>> termFrequencies) {
+        if (termFrequencies.isEmpty()) {
+            return null;
+        }
+        Set<IndexedField> candidates = null;
+        for (Map<IndexedField, Integer> termFields : termFrequencies) {
+            if (candidates == null) {
+                candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+                candidates.addAll(termFields.keySet());
+            } else {
+                candidates.retainAll(termFields.keySet());
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    private static List<Map<SearchTarget, Integer>> documentFrequencies(List<Map<IndexedField, Integer>> termFrequencies) {
+        List<Map<SearchTarget, Integer>> frequencies = new ArrayList<>();
+        for (Map<IndexedField, Integer> termFields : termFrequencies) {
+            Map<SearchTarget, Integer> targets = new EnumMap<>(SearchTarget.class);
+            for (IndexedField field : termFields.keySet()) {
+                targets.merge(field.target, 1, Integer::sum);
+            }
+            frequencies.add(targets);
+        }
+        return frequencies;
+    }
+
+    private double score(
+            IndexedField field,
+            List<Map<IndexedField, Integer>> termFrequencies,
+            List<Map<SearchTarget, Integer>> documentFrequencies
+    ) {
+        FieldStats fieldStats = stats.get(field.target);
+        double averageLength = Math.max(1.0, (double) fieldStats.totalLength / Math.max(1, fieldStats.count));
+        double score = 0.0;
+        for (int termIndex = 0; termIndex < termFrequencies.size(); termIndex++) {
+            int frequency = termFrequencies.get(termIndex).getOrDefault(field, 0);
+            if (frequency == 0) {
+                continue;
+            }
+            int documentFrequency = documentFrequencies.get(termIndex).get(field.target);
+            double idf = Math.log(1.0 + (fieldStats.count - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            double norm = K1 * (1.0 - B + B * field.length / averageLength);
+            score += idf * frequency * (K1 + 1.0) / (frequency + norm);
+        }
+        return score;
+    }
+
+    private static void offer(PriorityQueue<RankedHit> top, int capacity, RankedHit hit) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (top.size() < capacity) {
+            top.add(hit);
+        } else if (RANKING.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private String excerptAt(IndexedField field, int[] positions) {
+        if (positions == null || positions.length == 0) {
+            return excerpt(field, 0, 0);
+        }
+        int ordinal = 0;
+        int start = -1;
+        String normalized = field.normalized;
+        for (int index = 0; index <= normalized.length(); index++) {
+            boolean termCharacter = index < normalized.length() && Character.isLetterOrDigit(normalized.charAt(index));
+            if (termCharacter && start < 0) {
+                start = index;
+            } else if (!termCharacter && start >= 0) {
+                if (ordinal++ == positions[0]) {
+                    return excerpt(field, start, index - start);
+                }
+                start = -1;
+            }
+        }
+        return excerpt(field, 0, 0);
+    }
+
+    private String excerpt(IndexedField field, int matchIndex, int matchLength) {
+        String text = field.text;
+        if (text.isBlank()) {
+            return "";
+        }
+        if (matchIndex < 0) {
+            return text;
+        }
+        int matchStart = matchIndex;
+        int matchEnd = matchIndex + matchLength;
+        if (field.normalized.length() != text.length()) {
+            foldedText.fold(text);
+            matchStart = foldedText.sourceOffset(matchStart);
+            matchEnd = foldedText.sourceOffset(matchEnd);
+        }
+        int start = Math.max(0, matchStart - 24);
+        int end = Math.min(text.length(), matchEnd + 24);
+        String excerpt = text.substring(start, end).trim();
+        if (start > 0) {
+            excerpt = "..." + excerpt;
+        }
+        if (end < text.length()) {
+            excerpt = excerpt + "...";
+        }
+        return excerpt;
+    }
+
+    private static Map<String, int[]> positions(String normalized) {
+        Map<String, List<Integer>> ordinals = new HashMap<>();
+        int ordinal = 0;
+        int start = -1;
+        for (int index = 0; index <= normalized.length(); index++) {
+            boolean termCharacter = index < normalized.length() && Character.isLetterOrDigit(normalized.charAt(index));
+            if (termCharacter && start < 0) {
+                start = index;
+            } else if (!termCharacter && start >= 0) {
+                ordinals.computeIfAbsent(normalized.substring(start, index), ignored -> new ArrayList<>()).add(ordinal++);
+                start = -1;
+            }
+        }
+        Map<String, int[]> positions = new HashMap<>();
+        ordinals.forEach((term, termOrdinals) -> positions.put(term, termOrdinals.stream().mapToInt(Integer::intValue).toArray()));
+        return positions;
+    }
+
+    private static List<String> terms(String normalized) {
+        return List.copyOf(new LinkedHashSet<>(positions(normalized).keySet()));
+    }
+
+    private static String normalize(String value) {
+        return AccentFolding.fold(value);
+    }
+
+    private record QueryPlan(
+            Predicate<IndexedField> acceptor,
+            Function<IndexedField, String> excerpts,
+            List<Map<IndexedField, Integer>> termFrequencies
+    ) {
+        private boolean accepts(IndexedField field) {
+            return acceptor.test(field);
+        }
+
+        private SearchMatch match(IndexedField field, int chapterIndex, int sceneIndex, String title) {
+            return new SearchMatch(field.target, chapterIndex, sceneIndex, title, excerpts.apply(field));
+        }
+    }
+
+    private record RankedHit(IndexedField field, int chapterIndex, int sceneIndex, String title, double score, int order) {
+    }
+
+    private static final class FieldStats {
+        private int count;
+        private long totalLength;
+    }
+
+    private static final class IndexedField {
+        private final SearchTarget target;
+        private final String text;
+        private final String normalized;
+        private long revision;
+        private int length;
+        private Set<String> terms = Set.of();
+
+        private IndexedField(SearchTarget target, String text, String normalized, long revision) {
+            this.target = target;
+            this.text = text;
+            this.normalized = normalized;
+            this.revision = revision;
+        }
+
+    }
+}
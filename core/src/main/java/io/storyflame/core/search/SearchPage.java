@@ -0,0 +1,17 @@
+package io.storyflame.core.search;
+
+import java.util.List;
+
+public record SearchPage(
+        List<SearchMatch> matches,
+        int totalMatches,
+        int nextOffset
+) {
+    public SearchPage {
+        matches = List.copyOf(matches);
+    }
+
+    public boolean hasMore() {
+        return nextOffset >= 0;
+    }
+}
@@ -0,0 +1,35 @@
+package io.storyflame.core.search;
+
+import java.util.List;
+
+interface SearchQuery {
+    record Term(String text) implements SearchQuery {
+    }
+
+    record Fuzzy(String text, int distance) implements SearchQuery {
+    }
+
+    record Phrase(List<String> terms) implements SearchQuery {
+        public Phrase {
+            terms = List.copyOf(terms);
+        }
+    }
+
+    record And(List<SearchQuery> clauses) implements SearchQuery {
+        public And {
+            clauses = List.copyOf(clauses);
+        }
+    }
+
+    record Or(List<SearchQuery> clauses) implements SearchQuery {
+        public Or {
+            clauses = List.copyOf(clauses);
+        }
+    }
+
+    record Not(SearchQuery clause) implements SearchQuery {
+    }
+
+    record Near(SearchQuery left, SearchQuery right, int distance) implements SearchQuery {
+    }
+}
@@ -0,0 +1,236 @@
+package io.storyflame.core.search;
+
+import io.storyflame.core.text.AccentFolding;
+import io.storyflame.core.text.TrigramIndex;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+final class SearchQueryParser {
+    static final int DEFAULT_NEAR_DISTANCE = 5;
+
+    private static final Pattern NEAR_OPERATOR = Pattern.compile("NEAR(?:/(\\d{1,3}))?");
+    private static final Pattern FUZZY_WORD = Pattern.compile("(.+)~(\\d)?");
+
+    private final List<Token> tokens;
+    private int position;
+
+    private SearchQueryParser(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    static SearchQuery parse(String query) {
+        List<Token> tokens = tokenize(query == null ? "" : query);
+        if (!hasOperators(tokens)) {
+            return null;
+        }
+        SearchQueryParser parser = new SearchQueryParser(tokens);
+        List<SearchQuery> clauses = new ArrayList<>();
+        while (parser.position < tokens.size()) {
+            SearchQuery clause = parser.parseOr();
+            if (clause != null) {
+                clauses.add(clause);
+            } else {
+                parser.position++;
+            }
+        }
+        return combine(clauses, false);
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        String folded = AccentFolding.fold(text);
+        int start = -1;
+        for (int index = 0; index <= folded.length(); index++) {
+            boolean termCharacter = index < folded.length() && Character.isLetterOrDigit(folded.charAt(index));
+            if (termCharacter && start < 0) {
+                start = index;
+            } else if (!termCharacter && start >= 0) {
+                terms.add(folded.substring(start, index));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private SearchQuery parseOr() {
+        List<SearchQuery> clauses = new ArrayList<>();
+        addIfPresent(clauses, parseAnd());
+        while (accept(TokenType.OR)) {
+            addIfPresent(clauses, parseAnd());
+        }
+        return combine(clauses, true);
+    }
+
+    private SearchQuery parseAnd() {
+        List<SearchQuery> clauses = new ArrayList<>();
+        addIfPresent(clauses, parseNear());
+        while (position < tokens.size()) {
+            TokenType type = tokens.get(position).type();
+            if (type == TokenType.AND) {
+                position++;
+            } else if (type != TokenType.WORD && type != TokenType.FUZZY && type != TokenType.PHRASE && type != TokenType.NOT && type != TokenType.OPEN) {
+                break;
+            }
+            addIfPresent(clauses, parseNear());
+        }
+        return combine(clauses, false);
+    }
+
+    private SearchQuery parseNear() {
+        SearchQuery left = parseUnary();
+        while (position < tokens.size() && tokens.get(position).type() == TokenType.NEAR) {
+            int distance = tokens.get(position++).distance();
+            SearchQuery right = parseUnary();
+            if (left == null) {
+                left = right;
+            } else if (right != null) {
+                left = new SearchQuery.Near(left, right, distance);
+            }
+        }
+        return left;
+    }
+
+    private SearchQuery parseUnary() {
+        if (accept(TokenType.NOT)) {
+            SearchQuery clause = parseUnary();
+            return clause == null ? null : new SearchQuery.Not(clause);
+        }
+        if (position >= tokens.size()) {
+            return null;
+        }
+        Token token = tokens.get(position);
+        switch (token.type()) {
+            case OPEN -> {
+                position++;
+                SearchQuery clause = parseOr();
+                accept(TokenType.CLOSE);
+                return clause;
+            }
+            case WORD, PHRASE -> {
+                position++;
+                List<String> terms = terms(token.text());
+                if (terms.isEmpty()) {
+                    return null;
+                }
+                return terms.size() == 1 ? new SearchQuery.Term(terms.get(0)) : new SearchQuery.Phrase(terms);
+            }
+            case FUZZY -> {
+                position++;
+                List<String> terms = terms(token.text());
+                if (terms.size() != 1) {
+                    return terms.isEmpty() ? null : new SearchQuery.Phrase(terms);
+                }
+                String term = terms.get(0);
+                int distance = token.distance() < 0 ? TrigramIndex.defaultDistance(term) : Math.min(token.distance(), TrigramIndex.MAX_DISTANCE);
+                return new SearchQuery.Fuzzy(term, distance);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private boolean accept(TokenType type) {
+        if (position < tokens.size() && tokens.get(position).type() == type) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static void addIfPresent(List<SearchQuery> clauses, SearchQuery clause) {
+        if (clause != null) {
+            clauses.add(clause);
+        }
+    }
+
+    private static SearchQuery combine(List<SearchQuery> clauses, boolean or) {
+        if (clauses.isEmpty()) {
+            return null;
+        }
+        if (clauses.size() == 1) {
+            return clauses.get(0);
+        }
+        return or ? new SearchQuery.Or(clauses) : new SearchQuery.And(clauses);
+    }
+
+    private static boolean hasOperators(List<Token> tokens) {
+        for (Token token : tokens) {
+            if (token.type() != TokenType.WORD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int index = 0;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (Character.isWhitespace(current)) {
+                index++;
+            } else if (current == '(' || current == ')') {
+                tokens.add(new Token(current == '(' ? TokenType.OPEN : TokenType.CLOSE, String.valueOf(current), 0));
+                index++;
+            } else if (current == '"') {
+                int end = query.indexOf('"', index + 1);
+                int stop = end < 0 ? query.length() : end;
+                tokens.add(new Token(TokenType.PHRASE, query.substring(index + 1, stop), 0));
+                index = stop + 1;
+            } else {
+                int end = index;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end)) && "()\"".indexOf(query.charAt(end)) < 0) {
+                    end++;
+                }
+                tokens.add(word(query.substring(index, end)));
+                index = end;
+            }
+        }
+        return tokens;
+    }
+
+    private static Token word(String text) {
+        switch (text) {
+            case "AND" -> {
+                return new Token(TokenType.AND, text, 0);
+            }
+            case "OR" -> {
+                return new Token(TokenType.OR, text, 0);
+            }
+            case "NOT" -> {
+                return new Token(TokenType.NOT, text, 0);
+            }
+            default -> {
+                Matcher near = NEAR_OPERATOR.matcher(text);
+                if (near.matches()) {
+                    int distance = near.group(1) == null ? DEFAULT_NEAR_DISTANCE : Integer.parseInt(near.group(1));
+                    return new Token(TokenType.NEAR, text, distance);
+                }
+                Matcher fuzzy = FUZZY_WORD.matcher(text);
+                if (fuzzy.matches()) {
+                    int distance = fuzzy.group(2) == null ? -1 : Integer.parseInt(fuzzy.group(2));
+                    return new Token(TokenType.FUZZY, fuzzy.group(1), distance);
+                }
+                return new Token(TokenType.WORD, text, 0);
+            }
+        }
+    }
+
+    private enum TokenType {
+        WORD,
+        FUZZY,
+        PHRASE,
+        AND,
+        OR,
+        NOT,
+        NEAR,
+        OPEN,
+        CLOSE
+    }
+
+    private record Token(TokenType type, String text, int distance) {
+    }
+}
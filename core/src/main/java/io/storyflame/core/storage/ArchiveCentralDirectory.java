@@ -0,0 +1,139 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+final class ArchiveCentralDirectory {
+    static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ENCRYPTED_FLAG = 0x0001;
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+    private ArchiveCentralDirectory() {
+    }
+
+    static Map<String, Entry> read(ByteBuffer archive) throws ZipException {
+        return parse(archive, 0);
+    }
+
+    static Map<String, Entry> read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long tailStart = Math.max(0, size - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_SIZE);
+        ByteBuffer tail = readFully(channel, tailStart, (int) (size - tailStart));
+        int end = findEndOfCentralDirectory(tail);
+        long directoryOffset = unsignedInt(tail, end + 16);
+        if (directoryOffset != ZIP64_MARKER && directoryOffset < tailStart) {
+            tailStart = directoryOffset;
+            tail = readFully(channel, tailStart, (int) Math.min(Integer.MAX_VALUE, size - tailStart));
+        }
+        return parse(tail, tailStart);
+    }
+
+    static byte[] rawData(FileChannel channel, Entry entry) throws IOException {
+        ByteBuffer header = readFully(channel, entry.localHeaderOffset(), LOCAL_HEADER_SIZE);
+        if (header.limit() < LOCAL_HEADER_SIZE || header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header for " + entry.name());
+        }
+        long dataStart = entry.localHeaderOffset() + LOCAL_HEADER_SIZE + unsignedShort(header, 26) + unsignedShort(header, 28);
+        ByteBuffer data = readFully(channel, dataStart, entry.compressedSize());
+        if (data.limit() < entry.compressedSize()) {
+            throw new ZipException("Truncated archive entry " + entry.name());
+        }
+        return data.array();
+    }
+
+    private static Map<String, Entry> parse(ByteBuffer buffer, long bufferStart) throws ZipException {
+        int end = findEndOfCentralDirectory(buffer);
+        int entryCount = unsignedShort(buffer, end + 10);
+        long directorySize = unsignedInt(buffer, end + 12);
+        long directoryOffset = unsignedInt(buffer, end + 16);
+        if (directoryOffset == ZIP64_MARKER
+                || directoryOffset < bufferStart
+                || directoryOffset - bufferStart + directorySize > end) {
+            throw new ZipException("Invalid central directory");
+        }
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        int position = (int) (directoryOffset - bufferStart);
+        for (int index = 0; index < entryCount; index++) {
+            if (position > end - CENTRAL_HEADER_SIZE || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header");
+            }
+            int flags = unsignedShort(buffer, position + 8);
+            int method = unsignedShort(buffer, position + 10);
+            long crc = unsignedInt(buffer, position + 16);
+            long compressedSize = unsignedInt(buffer, position + 20);
+            long size = unsignedInt(buffer, position + 24);
+            int nameLength = unsignedShort(buffer, position + 28);
+            int extraLength = unsignedShort(buffer, position + 30);
+            int commentLength = unsignedShort(buffer, position + 32);
+            long localHeaderOffset = unsignedInt(buffer, position + 42);
+            if (position + CENTRAL_HEADER_SIZE + nameLength > end) {
+                throw new ZipException("Invalid central directory header");
+            }
+            byte[] name = new byte[nameLength];
+            buffer.get(position + CENTRAL_HEADER_SIZE, name);
+            String entryName = new String(name, StandardCharsets.UTF_8);
+            if (compressedSize == ZIP64_MARKER || size == ZIP64_MARKER || localHeaderOffset == ZIP64_MARKER) {
+                throw new ZipException("ZIP64 archive entries are not supported: " + entryName);
+            }
+            if ((flags & ENCRYPTED_FLAG) != 0) {
+                throw new ZipException("Encrypted archive entries are not supported: " + entryName);
+            }
+            if (method != ZipEntry.STORED && method != ZipEntry.DEFLATED) {
+                throw new ZipException("Unsupported compression method " + method + " for " + entryName);
+            }
+            entries.putIfAbsent(entryName, new Entry(entryName, method, crc, size, (int) compressedSize, localHeaderOffset));
+            position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer buffer) throws ZipException {
+        int last = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        int first = Math.max(0, last - MAX_COMMENT_SIZE);
+        for (int position = last; position >= first; position--) {
+            if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE
+                    && position + END_OF_CENTRAL_DIRECTORY_SIZE + unsignedShort(buffer, position + 20) == buffer.limit()) {
+                return position;
+            }
+        }
+        throw new ZipException("zip END header not found");
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                break;
+            }
+            offset += read;
+        }
+        return buffer.flip();
+    }
+
+    static int unsignedShort(ByteBuffer buffer, int position) {
+        return Short.toUnsignedInt(buffer.getShort(position));
+    }
+
+    static long unsignedInt(ByteBuffer buffer, int position) {
+        return Integer.toUnsignedLong(buffer.getInt(position));
+    }
+
+    record Entry(String name, int method, long crc, long size, int compressedSize, long localHeaderOffset) {
+    }
+}
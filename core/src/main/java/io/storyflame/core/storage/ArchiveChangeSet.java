@@ -0,0 +1,47 @@
+package io.storyflame.core.storage;
+
+import io.storyflame.core.archive.ProjectArchiveLayout;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+public record ArchiveChangeSet(Path path, Set<String> changedEntries, Set<String> changedChapterIds, boolean requiresFullReload) {
+    public ArchiveChangeSet {
+        changedEntries = Set.copyOf(changedEntries);
+        changedChapterIds = Set.copyOf(changedChapterIds);
+    }
+
+    static ArchiveChangeSet none(Path path) {
+        return new ArchiveChangeSet(path, Set.of(), Set.of(), false);
+    }
+
+    public boolean isEmpty() {
+        return changedEntries.isEmpty() && !requiresFullReload;
+    }
+
+    public ArchiveChangeSet withoutChapters(Set<String> chapterIds) {
+        Set<String> entries = new HashSet<>();
+        for (String entry : changedEntries) {
+            String chapterId = ProjectArchiveLayout.chapterIdOf(entry);
+            if (chapterId == null || !chapterIds.contains(chapterId)) {
+                entries.add(entry);
+            }
+        }
+        Set<String> chapters = new HashSet<>(changedChapterIds);
+        chapters.removeAll(chapterIds);
+        return new ArchiveChangeSet(path, entries, chapters, requiresFullReload);
+    }
+
+    public ArchiveChangeSet onlyChapters(Set<String> chapterIds) {
+        Set<String> entries = new HashSet<>();
+        for (String entry : changedEntries) {
+            String chapterId = ProjectArchiveLayout.chapterIdOf(entry);
+            if (chapterId != null && chapterIds.contains(chapterId)) {
+                entries.add(entry);
+            }
+        }
+        Set<String> chapters = new HashSet<>(changedChapterIds);
+        chapters.retainAll(chapterIds);
+        return new ArchiveChangeSet(path, entries, chapters, false);
+    }
+}
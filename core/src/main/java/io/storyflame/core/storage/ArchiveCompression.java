@@ -0,0 +1,22 @@
+package io.storyflame.core.storage;
+
+import java.util.zip.Deflater;
+
+public record ArchiveCompression(int level, int minimumDeflateSize) {
+    public static final ArchiveCompression DEFAULT = new ArchiveCompression(Deflater.DEFAULT_COMPRESSION, 64);
+    public static final ArchiveCompression FASTEST = new ArchiveCompression(Deflater.BEST_SPEED, 64);
+    public static final ArchiveCompression SMALLEST = new ArchiveCompression(Deflater.BEST_COMPRESSION, 64);
+
+    public ArchiveCompression {
+        if (level != Deflater.DEFAULT_COMPRESSION && (level < Deflater.NO_COMPRESSION || level > Deflater.BEST_COMPRESSION)) {
+            throw new IllegalArgumentException("Invalid deflate level: " + level);
+        }
+        if (minimumDeflateSize < 0) {
+            throw new IllegalArgumentException("Minimum deflate size cannot be negative");
+        }
+    }
+
+    boolean deflates(int contentLength) {
+        return level != Deflater.NO_COMPRESSION && contentLength >= minimumDeflateSize;
+    }
+}
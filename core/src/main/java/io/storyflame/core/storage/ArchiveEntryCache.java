@@ -0,0 +1,45 @@
+package io.storyflame.core.storage;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class ArchiveEntryCache {
+    private static final int MAX_ARCHIVES = 4;
+
+    private final Map<Path, SavedArchive> archives = new LinkedHashMap<>(8, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, SavedArchive> eldest) {
+            return size() > MAX_ARCHIVES;
+        }
+    };
+
+    synchronized SavedArchive get(Path path) {
+        return archives.get(key(path));
+    }
+
+    synchronized void put(Path path, SavedArchive archive) {
+        archives.put(key(path), archive);
+    }
+
+    synchronized void remove(Path path) {
+        archives.remove(key(path));
+    }
+
+    private static Path key(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    record CachedEntry(Object source, EncodedArchiveEntry encoded) {
+    }
+
+    record SavedArchive(Map<String, CachedEntry> entries, int encodedEntries, int reusedEntries, int copiedEntries) {
+        SavedArchive {
+            entries = Map.copyOf(entries);
+        }
+
+        CachedEntry entry(String name) {
+            return entries.get(name);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.storyflame.core.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+final class ArchiveFiles {
+    private ArchiveFiles() {
+    }
+
+    @FunctionalInterface
+    interface Content {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    static void writeAtomically(Path path, Content content) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = directory.resolve("." + path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel));
+                content.writeTo(output);
+                output.flush();
+                channel.force(true);
+            }
+            moveIntoPlace(temporary, path);
+        } catch (IOException | RuntimeException exception) {
+            try {
+                Files.deleteIfExists(temporary);
+            } catch (IOException deleteException) {
+                exception.addSuppressed(deleteException);
+            }
+            throw exception;
+        }
+        syncDirectory(directory);
+    }
+
+    static void moveIntoPlace(Path temporary, Path path) throws IOException {
+        try {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+}
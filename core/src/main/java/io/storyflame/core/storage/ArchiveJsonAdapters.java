@@ -0,0 +1,599 @@
+package io.storyflame.core.storage;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.storyflame.core.analysis.EmotionAnalysisReport;
+import io.storyflame.core.analysis.EmotionCacheEntry;
+import io.storyflame.core.analysis.EmotionChunkAnalysis;
+import io.storyflame.core.analysis.EmotionLabel;
+import io.storyflame.core.analysis.SentimentLabel;
+import io.storyflame.core.tags.CharacterTagProfile;
+import io.storyflame.core.tags.NarrativeTag;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ArchiveJsonAdapters {
+    private static final InstantTypeAdapter INSTANTS = new InstantTypeAdapter();
+
+    private ArchiveJsonAdapters() {
+    }
+
+    static GsonBuilder register(GsonBuilder builder) {
+        return builder
+                .registerTypeAdapter(ProjectArchiveStore.ProjectDocument.class, new ProjectDocumentAdapter())
+                .registerTypeAdapter(ProjectArchiveStore.ChapterDocument.class, new ChapterDocumentAdapter())
+                .registerTypeAdapter(ProjectArchiveStore.CharacterDocument.class, new CharacterDocumentAdapter())
+                .registerTypeAdapter(NarrativeTag.class, new NarrativeTagAdapter())
+                .registerTypeAdapter(CharacterTagProfile.class, new CharacterTagProfileAdapter())
+                .registerTypeAdapter(EmotionAnalysisReport.class, new EmotionAnalysisReportAdapter())
+                .registerTypeAdapter(EmotionCacheEntry.class, new EmotionCacheEntryAdapter())
+                .registerTypeAdapter(EmotionChunkAnalysis.class, new EmotionChunkAnalysisAdapter());
+    }
+
+    private static final class ProjectDocumentAdapter extends TypeAdapter<ProjectArchiveStore.ProjectDocument> {
+        @Override
+        public void write(JsonWriter out, ProjectArchiveStore.ProjectDocument value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "id", value.id());
+            writeString(out, "title", value.title());
+            writeString(out, "author", value.author());
+            writeInstant(out, "createdAt", value.createdAt());
+            writeInstant(out, "updatedAt", value.updatedAt());
+            writeStrings(out, "chapterIds", value.chapterIds());
+            writeStrings(out, "characterIds", value.characterIds());
+            if (value.chapterTitles() != null) {
+                out.name("chapterTitles").beginObject();
+                for (Map.Entry<String, String> entry : value.chapterTitles().entrySet()) {
+                    writeString(out, entry.getKey(), entry.getValue());
+                }
+                out.endObject();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public ProjectArchiveStore.ProjectDocument read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String id = null;
+            String title = null;
+            String author = null;
+            Instant createdAt = null;
+            Instant updatedAt = null;
+            List<String> chapterIds = null;
+            List<String> characterIds = null;
+            Map<String, String> chapterTitles = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = readString(in);
+                    case "title" -> title = readString(in);
+                    case "author" -> author = readString(in);
+                    case "createdAt" -> createdAt = INSTANTS.read(in);
+                    case "updatedAt" -> updatedAt = INSTANTS.read(in);
+                    case "chapterIds" -> chapterIds = readStrings(in);
+                    case "characterIds" -> characterIds = readStrings(in);
+                    case "chapterTitles" -> chapterTitles = readStringMap(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ProjectArchiveStore.ProjectDocument(
+                    id,
+                    title,
+                    author,
+                    createdAt,
+                    updatedAt,
+                    chapterIds,
+                    characterIds,
+                    chapterTitles
+            );
+        }
+    }
+
+    private static final class ChapterDocumentAdapter extends TypeAdapter<ProjectArchiveStore.ChapterDocument> {
+        @Override
+        public void write(JsonWriter out, ProjectArchiveStore.ChapterDocument value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "id", value.id());
+            writeString(out, "title", value.title());
+            if (value.scenes() != null) {
+                out.name("scenes").beginArray();
+                for (ProjectArchiveStore.SceneDocument scene : value.scenes()) {
+                    writeScene(out, scene);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public ProjectArchiveStore.ChapterDocument read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String id = null;
+            String title = null;
+            List<ProjectArchiveStore.SceneDocument> scenes = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = readString(in);
+                    case "title" -> title = readString(in);
+                    case "scenes" -> scenes = readScenes(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ProjectArchiveStore.ChapterDocument(id, title, scenes);
+        }
+
+        private static void writeScene(JsonWriter out, ProjectArchiveStore.SceneDocument scene) throws IOException {
+            if (scene == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "id", scene.id());
+            writeString(out, "title", scene.title());
+            writeString(out, "synopsis", scene.synopsis());
+            writeString(out, "content", scene.content());
+            writeString(out, "pointOfViewCharacterId", scene.pointOfViewCharacterId());
+            out.endObject();
+        }
+
+        private static List<ProjectArchiveStore.SceneDocument> readScenes(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<ProjectArchiveStore.SceneDocument> scenes = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                String id = null;
+                String title = null;
+                String synopsis = null;
+                String content = null;
+                String pointOfViewCharacterId = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "id" -> id = readString(in);
+                        case "title" -> title = readString(in);
+                        case "synopsis" -> synopsis = readString(in);
+                        case "content" -> content = readString(in);
+                        case "pointOfViewCharacterId" -> pointOfViewCharacterId = readString(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                scenes.add(new ProjectArchiveStore.SceneDocument(id, title, synopsis, content, pointOfViewCharacterId));
+            }
+            in.endArray();
+            return scenes;
+        }
+    }
+
+    private static final class CharacterDocumentAdapter extends TypeAdapter<ProjectArchiveStore.CharacterDocument> {
+        @Override
+        public void write(JsonWriter out, ProjectArchiveStore.CharacterDocument value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "id", value.id());
+            writeString(out, "name", value.name());
+            writeString(out, "description", value.description());
+            out.endObject();
+        }
+
+        @Override
+        public ProjectArchiveStore.CharacterDocument read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String id = null;
+            String name = null;
+            String description = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = readString(in);
+                    case "name" -> name = readString(in);
+                    case "description" -> description = readString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ProjectArchiveStore.CharacterDocument(id, name, description);
+        }
+    }
+
+    private static final class NarrativeTagAdapter extends TypeAdapter<NarrativeTag> {
+        @Override
+        public void write(JsonWriter out, NarrativeTag value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "id", value.id());
+            writeString(out, "label", value.label());
+            writeString(out, "description", value.description());
+            writeString(out, "template", value.template());
+            out.endObject();
+        }
+
+        @Override
+        public NarrativeTag read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String id = null;
+            String label = null;
+            String description = null;
+            String template = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = readString(in);
+                    case "label" -> label = readString(in);
+                    case "description" -> description = readString(in);
+                    case "template" -> template = readString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new NarrativeTag(id, label, description, template);
+        }
+    }
+
+    private static final class CharacterTagProfileAdapter extends TypeAdapter<CharacterTagProfile> {
+        @Override
+        public void write(JsonWriter out, CharacterTagProfile value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "characterId", value.getCharacterId());
+            writeString(out, "prefix", value.getPrefix());
+            writeStrings(out, "preferredTagIds", value.getPreferredTagIds());
+            out.endObject();
+        }
+
+        @Override
+        public CharacterTagProfile read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String characterId = null;
+            String prefix = null;
+            List<String> preferredTagIds = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "characterId" -> characterId = readString(in);
+                    case "prefix" -> prefix = readString(in);
+                    case "preferredTagIds" -> preferredTagIds = readStrings(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new CharacterTagProfile(characterId, prefix, preferredTagIds);
+        }
+    }
+
+    private static final class EmotionAnalysisReportAdapter extends TypeAdapter<EmotionAnalysisReport> {
+        private final EmotionChunkAnalysisAdapter analyses = new EmotionChunkAnalysisAdapter();
+
+        @Override
+        public void write(JsonWriter out, EmotionAnalysisReport value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeInstant(out, "generatedAt", value.generatedAt());
+            out.name("chunkCount").value(value.chunkCount());
+            writeString(out, "overallSentiment", value.overallSentiment() == null ? null : value.overallSentiment().name());
+            writeString(out, "dominantEmotion", value.dominantEmotion() == null ? null : value.dominantEmotion().name());
+            writeEmotionScores(out, "averageEmotionScores", value.averageEmotionScores());
+            if (value.chunks() != null) {
+                out.name("chunks").beginArray();
+                for (EmotionChunkAnalysis chunk : value.chunks()) {
+                    analyses.write(out, chunk);
+                }
+                out.endArray();
+            }
+            out.endObject();
+        }
+
+        @Override
+        public EmotionAnalysisReport read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Instant generatedAt = null;
+            int chunkCount = 0;
+            SentimentLabel overallSentiment = null;
+            EmotionLabel dominantEmotion = null;
+            Map<EmotionLabel, Double> averageEmotionScores = null;
+            List<EmotionChunkAnalysis> chunks = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "generatedAt" -> generatedAt = INSTANTS.read(in);
+                    case "chunkCount" -> chunkCount = in.nextInt();
+                    case "overallSentiment" -> overallSentiment = readEnum(in, SentimentLabel.class);
+                    case "dominantEmotion" -> dominantEmotion = readEnum(in, EmotionLabel.class);
+                    case "averageEmotionScores" -> averageEmotionScores = readEmotionScores(in);
+                    case "chunks" -> chunks = readChunks(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EmotionAnalysisReport(generatedAt, chunkCount, overallSentiment, dominantEmotion, averageEmotionScores, chunks);
+        }
+
+        private List<EmotionChunkAnalysis> readChunks(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<EmotionChunkAnalysis> chunks = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                chunks.add(analyses.read(in));
+            }
+            in.endArray();
+            return chunks;
+        }
+    }
+
+    private static final class EmotionCacheEntryAdapter extends TypeAdapter<EmotionCacheEntry> {
+        private final EmotionChunkAnalysisAdapter analyses = new EmotionChunkAnalysisAdapter();
+
+        @Override
+        public void write(JsonWriter out, EmotionCacheEntry value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "sceneId", value.sceneId());
+            writeString(out, "contentHash", value.contentHash());
+            if (value.analysis() != null) {
+                out.name("analysis");
+                analyses.write(out, value.analysis());
+            }
+            out.endObject();
+        }
+
+        @Override
+        public EmotionCacheEntry read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String sceneId = null;
+            String contentHash = null;
+            EmotionChunkAnalysis analysis = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "sceneId" -> sceneId = readString(in);
+                    case "contentHash" -> contentHash = readString(in);
+                    case "analysis" -> analysis = analyses.read(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EmotionCacheEntry(sceneId, contentHash, analysis);
+        }
+    }
+
+    private static final class EmotionChunkAnalysisAdapter extends TypeAdapter<EmotionChunkAnalysis> {
+        @Override
+        public void write(JsonWriter out, EmotionChunkAnalysis value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            writeString(out, "chapterId", value.chapterId());
+            writeString(out, "chapterTitle", value.chapterTitle());
+            writeString(out, "sceneId", value.sceneId());
+            writeString(out, "sceneTitle", value.sceneTitle());
+            writeString(out, "excerpt", value.excerpt());
+            out.name("wordCount").value(value.wordCount());
+            out.name("chunkIndex").value(value.chunkIndex());
+            writeString(out, "sentiment", value.sentiment() == null ? null : value.sentiment().name());
+            writeString(out, "dominantEmotion", value.dominantEmotion() == null ? null : value.dominantEmotion().name());
+            writeEmotionScores(out, "emotionScores", value.emotionScores());
+            out.endObject();
+        }
+
+        @Override
+        public EmotionChunkAnalysis read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            String chapterId = null;
+            String chapterTitle = null;
+            String sceneId = null;
+            String sceneTitle = null;
+            String excerpt = null;
+            int wordCount = 0;
+            int chunkIndex = 0;
+            SentimentLabel sentiment = null;
+            EmotionLabel dominantEmotion = null;
+            Map<EmotionLabel, Double> emotionScores = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "chapterId" -> chapterId = readString(in);
+                    case "chapterTitle" -> chapterTitle = readString(in);
+                    case "sceneId" -> sceneId = readString(in);
+                    case "sceneTitle" -> sceneTitle = readString(in);
+                    case "excerpt" -> excerpt = readString(in);
+                    case "wordCount" -> wordCount = in.nextInt();
+                    case "chunkIndex" -> chunkIndex = in.nextInt();
+                    case "sentiment" -> sentiment = readEnum(in, SentimentLabel.class);
+                    case "dominantEmotion" -> dominantEmotion = readEnum(in, EmotionLabel.class);
+                    case "emotionScores" -> emotionScores = readEmotionScores(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EmotionChunkAnalysis(
+                    chapterId,
+                    chapterTitle,
+                    sceneId,
+                    sceneTitle,
+                    excerpt,
+                    wordCount,
+                    chunkIndex,
+                    sentiment,
+                    dominantEmotion,
+                    emotionScores
+            );
+        }
+    }
+
+    private static void writeString(JsonWriter out, String name, String value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value);
+        }
+    }
+
+    private static void writeInstant(JsonWriter out, String name, Instant value) throws IOException {
+        if (value != null) {
+            out.name(name).value(value.toString());
+        }
+    }
+
+    private static void writeStrings(JsonWriter out, String name, List<String> values) throws IOException {
+        if (values == null) {
+            return;
+        }
+        out.name(name).beginArray();
+        for (String value : values) {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(value);
+            }
+        }
+        out.endArray();
+    }
+
+    private static void writeEmotionScores(JsonWriter out, String name, Map<EmotionLabel, Double> scores) throws IOException {
+        if (scores == null) {
+            return;
+        }
+        out.name(name).beginObject();
+        for (Map.Entry<EmotionLabel, Double> score : scores.entrySet()) {
+            out.name(String.valueOf(score.getKey())).value(score.getValue());
+        }
+        out.endObject();
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextString();
+    }
+
+    private static List<String> readStrings(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(readString(in));
+        }
+        in.endArray();
+        return values;
+    }
+
+    private static Map<String, String> readStringMap(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, String> values = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            values.put(in.nextName(), readString(in));
+        }
+        in.endObject();
+        return values;
+    }
+
+    private static Map<EmotionLabel, Double> readEmotionScores(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<EmotionLabel, Double> scores = new EnumMap<>(EmotionLabel.class);
+        in.beginObject();
+        while (in.hasNext()) {
+            EmotionLabel label = enumValue(EmotionLabel.class, in.nextName());
+            if (label == null || in.peek() == JsonToken.NULL) {
+                in.skipValue();
+                continue;
+            }
+            scores.put(label, in.nextDouble());
+        }
+        in.endObject();
+        return scores;
+    }
+
+    private static <E extends Enum<E>> E readEnum(JsonReader in, Class<E> type) throws IOException {
+        String value = readString(in);
+        return value == null ? null : enumValue(type, value);
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(value)) {
+                return constant;
+            }
+        }
+        return null;
+    }
+}
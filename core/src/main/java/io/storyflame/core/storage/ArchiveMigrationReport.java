@@ -0,0 +1,18 @@
+package io.storyflame.core.storage;
+
+import java.time.Duration;
+import java.util.List;
+
+public record ArchiveMigrationReport(List<ArchiveMigrationResult> results, Duration elapsed) {
+    public ArchiveMigrationReport {
+        results = List.copyOf(results);
+    }
+
+    public long count(ArchiveMigrationResult.Status status) {
+        return results.stream().filter(result -> result.status() == status).count();
+    }
+
+    public boolean hasFailures() {
+        return count(ArchiveMigrationResult.Status.FAILED) > 0;
+    }
+}
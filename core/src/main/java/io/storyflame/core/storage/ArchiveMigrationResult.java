@@ -0,0 +1,23 @@
+package io.storyflame.core.storage;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public record ArchiveMigrationResult(
+        Path path,
+        Status status,
+        int detectedVersion,
+        Duration elapsed,
+        List<String> issues
+) {
+    public ArchiveMigrationResult {
+        issues = List.copyOf(issues);
+    }
+
+    public enum Status {
+        MIGRATED,
+        CURRENT,
+        FAILED
+    }
+}
@@ -0,0 +1,84 @@
+package io.storyflame.core.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+final class ArchiveRawEntries implements Closeable {
+    private static final ArchiveRawEntries EMPTY = new ArchiveRawEntries(null, Map.of(), Map.of());
+
+    private final FileChannel channel;
+    private final Map<String, ArchiveCentralDirectory.Entry> entries;
+    private final Map<String, String> hashes;
+
+    private ArchiveRawEntries(FileChannel channel, Map<String, ArchiveCentralDirectory.Entry> entries, Map<String, String> hashes) {
+        this.channel = channel;
+        this.entries = entries;
+        this.hashes = hashes;
+    }
+
+    static ArchiveRawEntries open(Path path, Map<String, String> hashes) {
+        if (path == null || hashes == null || Files.notExists(path)) {
+            return EMPTY;
+        }
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new ArchiveRawEntries(channel, ArchiveCentralDirectory.read(channel), Map.copyOf(hashes));
+        } catch (IOException | RuntimeException exception) {
+            closeQuietly(channel);
+            return EMPTY;
+        }
+    }
+
+    EncodedArchiveEntry reuse(String name, byte[] content) throws IOException {
+        ArchiveCentralDirectory.Entry entry = entries.get(name);
+        String hash = hashes.get(name);
+        if (entry == null || hash == null || entry.size() != content.length || entry.crc() != crc(content)) {
+            return null;
+        }
+        String contentHash = EncodedArchiveEntry.contentHash(content);
+        if (!contentHash.equals(hash)) {
+            return null;
+        }
+        return new EncodedArchiveEntry(name, entry.method(), entry.crc(), entry.size(), ArchiveCentralDirectory.rawData(channel, entry), hash);
+    }
+
+    EncodedArchiveEntry copy(String name) throws IOException {
+        return copy(name, hashes.get(name));
+    }
+
+    EncodedArchiveEntry copy(String name, String hash) throws IOException {
+        ArchiveCentralDirectory.Entry entry = entries.get(name);
+        if (entry == null || hash == null) {
+            return null;
+        }
+        return new EncodedArchiveEntry(name, entry.method(), entry.crc(), entry.size(), ArchiveCentralDirectory.rawData(channel, entry), hash);
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+    }
+
+    private static long crc(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.storyflame.core.storage;
+
+import java.util.Locale;
+
+public record ArchiveReadOptions(long mappedReadThreshold) {
+    public static final ArchiveReadOptions STREAMED = new ArchiveReadOptions(Long.MAX_VALUE);
+    public static final ArchiveReadOptions MAPPED = new ArchiveReadOptions(0);
+    public static final ArchiveReadOptions DEFAULT = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows")
+            ? STREAMED
+            : new ArchiveReadOptions(8L * 1024 * 1024);
+
+    public ArchiveReadOptions {
+        if (mappedReadThreshold < 0) {
+            throw new IllegalArgumentException("Mapped read threshold cannot be negative");
+        }
+    }
+
+    boolean maps(long archiveSize) {
+        return archiveSize >= mappedReadThreshold;
+    }
+}
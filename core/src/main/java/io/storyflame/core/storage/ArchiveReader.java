@@ -0,0 +1,23 @@
+package io.storyflame.core.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+interface ArchiveReader extends Closeable {
+    static ArchiveReader open(Path path, ArchiveReadOptions options) throws IOException {
+        if (options.maps(Files.size(path))) {
+            return MappedArchiveReader.open(path);
+        }
+        return new ZipFileArchiveReader(path);
+    }
+
+    List<String> entryNames();
+
+    boolean contains(String entryName);
+
+    InputStream open(String entryName) throws IOException;
+}
@@ -0,0 +1,131 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class ArchiveTasks implements AutoCloseable {
+    static final int MINIMUM_PARALLEL_TASKS = 8;
+    private static final long IDLE_SECONDS = 30;
+    private static final ThreadLocal<Boolean> WORKER = ThreadLocal.withInitial(() -> false);
+
+    private final int parallelism;
+    private final AtomicInteger threadCount = new AtomicInteger();
+    private ThreadPoolExecutor executor;
+    private boolean closed;
+
+    ArchiveTasks(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    static int defaultParallelism() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors());
+    }
+
+    <T> List<T> run(List<? extends Callable<T>> tasks) throws IOException {
+        return run(tasks, MINIMUM_PARALLEL_TASKS);
+    }
+
+    <T> List<T> run(List<? extends Callable<T>> tasks, int minimumParallelTasks) throws IOException {
+        List<T> results = new ArrayList<>(tasks.size());
+        ExecutorService executor = parallel(tasks.size(), minimumParallelTasks) ? executor() : null;
+        if (executor == null) {
+            for (Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<T> future : futures) {
+                results.add(await(future));
+            }
+            return results;
+        } finally {
+            if (results.size() < futures.size()) {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private boolean parallel(int taskCount, int minimumParallelTasks) {
+        return Math.min(parallelism, taskCount) >= 2 && taskCount >= minimumParallelTasks && !WORKER.get();
+    }
+
+    private synchronized ExecutorService executor() {
+        if (closed) {
+            return null;
+        }
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(
+                    parallelism,
+                    parallelism,
+                    IDLE_SECONDS,
+                    TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(() -> {
+                            WORKER.set(true);
+                            runnable.run();
+                        }, "storyflame-archive-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    private static <T> T call(Callable<T> task) throws IOException {
+        try {
+            return task.call();
+        } catch (IOException | RuntimeException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while processing project archive entries");
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+final class BackupBlobStore {
+    private static final Pattern BLOB_NAME = Pattern.compile("[0-9a-fA-F]{3,}(\\.[0-9]+)?");
+
+    private final Path directory;
+
+    BackupBlobStore(Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    boolean contains(String blob) {
+        return Files.isRegularFile(blobPath(blob));
+    }
+
+    void put(String blob, byte[] data) throws IOException {
+        Path path = blobPath(blob);
+        if (Files.isRegularFile(path)) {
+            return;
+        }
+        Files.createDirectories(path.getParent());
+        Path temporary = path.resolveSibling("." + blob + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.write(temporary, data);
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    byte[] read(String blob) throws IOException {
+        return Files.readAllBytes(blobPath(blob));
+    }
+
+    int retainOnly(Set<String> referencedHashes) throws IOException {
+        if (Files.notExists(directory)) {
+            return 0;
+        }
+        List<Path> blobs;
+        try (var stream = Files.walk(directory)) {
+            blobs = stream.filter(Files::isRegularFile).toList();
+        }
+        int deleted = 0;
+        for (Path blob : blobs) {
+            if (!referencedHashes.contains(blob.getFileName().toString()) && Files.deleteIfExists(blob)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private Path blobPath(String blob) {
+        if (blob == null || !BLOB_NAME.matcher(blob).matches()) {
+            throw new IllegalArgumentException("Invalid backup blob hash: " + blob);
+        }
+        return directory.resolve(blob.substring(0, 2)).resolve(blob);
+    }
+}
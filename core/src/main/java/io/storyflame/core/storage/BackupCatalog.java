@@ -0,0 +1,140 @@
+package io.storyflame.core.storage;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+final class BackupCatalog {
+    static final String DIRECTORY = "catalogs";
+    private static final int CATALOG_VERSION = 1;
+
+    private final Path file;
+    private final Gson gson;
+    private final List<Entry> entries;
+
+    private BackupCatalog(Path file, Gson gson, List<Entry> entries) {
+        this.file = file;
+        this.gson = gson;
+        this.entries = entries;
+    }
+
+    static BackupCatalog load(Path backupRootDirectory, Path projectBackupDirectory, Gson gson) throws IOException {
+        Path file = backupRootDirectory.resolve(DIRECTORY).resolve(projectBackupDirectory.getFileName() + ".json");
+        List<Entry> stored = read(file, gson);
+        if (stored != null) {
+            return new BackupCatalog(file, gson, stored);
+        }
+        BackupCatalog rebuilt = new BackupCatalog(file, gson, scan(projectBackupDirectory));
+        rebuilt.persist();
+        return rebuilt;
+    }
+
+    Entry latest() {
+        return entries.isEmpty() ? null : entries.get(entries.size() - 1);
+    }
+
+    List<Entry> newestFirst() {
+        List<Entry> newestFirst = new ArrayList<>(entries);
+        newestFirst.sort(Comparator.comparing(Entry::createdAt).reversed());
+        return newestFirst;
+    }
+
+    void add(Entry entry) {
+        entries.removeIf(existing -> existing.fileName().equals(entry.fileName()));
+        entries.add(Objects.requireNonNull(entry));
+    }
+
+    List<Entry> removeOldest(int retained) {
+        List<Entry> removed = new ArrayList<>();
+        while (entries.size() > retained) {
+            removed.add(entries.remove(0));
+        }
+        return removed;
+    }
+
+    void persist() throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                gson.toJson(new CatalogDocument(CATALOG_VERSION, List.copyOf(entries)), writer);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static List<Entry> read(Path file, Gson gson) {
+        if (Files.notExists(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            CatalogDocument document = gson.fromJson(reader, CatalogDocument.class);
+            if (document == null || document.version() != CATALOG_VERSION || document.entries() == null) {
+                return null;
+            }
+            List<Entry> entries = new ArrayList<>();
+            for (Entry entry : document.entries()) {
+                if (entry != null && entry.fileName() != null && entry.createdAt() != null) {
+                    entries.add(entry);
+                }
+            }
+            entries.sort(Comparator.comparing(Entry::createdAt));
+            return entries;
+        } catch (IOException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private static List<Entry> scan(Path projectBackupDirectory) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        if (Files.notExists(projectBackupDirectory)) {
+            return entries;
+        }
+        try (var stream = Files.list(projectBackupDirectory)) {
+            for (Path path : stream.filter(BackupCatalog::isBackup).toList()) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                entries.add(new Entry(
+                        path.getFileName().toString(),
+                        attributes.lastModifiedTime().toInstant(),
+                        attributes.size(),
+                        null
+                ));
+            }
+        }
+        entries.sort(Comparator.comparing(Entry::createdAt));
+        return entries;
+    }
+
+    static boolean isBackup(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.endsWith(ProjectStoragePaths.BACKUP_MANIFEST_EXTENSION)
+                || fileName.endsWith(ProjectStoragePaths.ARCHIVE_EXTENSION);
+    }
+
+    record Entry(String fileName, Instant createdAt, long size, String archiveHash) {
+        boolean manifest() {
+            return fileName.endsWith(ProjectStoragePaths.BACKUP_MANIFEST_EXTENSION);
+        }
+    }
+
+    private record CatalogDocument(int version, List<Entry> entries) {
+    }
+}
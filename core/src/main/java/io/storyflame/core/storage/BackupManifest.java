@@ -0,0 +1,44 @@
+package io.storyflame.core.storage;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+record BackupManifest(
+        int version,
+        String projectId,
+        String title,
+        Instant createdAt,
+        List<Entry> entries
+) {
+    static final int CURRENT_VERSION = 2;
+
+    Entry entry(String name) {
+        if (entries == null) {
+            return null;
+        }
+        for (Entry entry : entries) {
+            if (entry.name().equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    record Entry(String name, boolean directory, long crc, long size, String hash, Integer method) {
+        static Entry directory(String name) {
+            return new Entry(name, true, 0L, 0L, null, null);
+        }
+
+        int archiveMethod() {
+            return method == null ? ZipEntry.DEFLATED : method;
+        }
+
+        String blob() {
+            if (hash == null) {
+                return null;
+            }
+            return archiveMethod() == ZipEntry.DEFLATED ? hash : hash + "." + archiveMethod();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.storyflame.core.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+record EncodedArchiveEntry(String name, int method, long crc, long size, byte[] data, String hash) {
+    EncodedArchiveEntry {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(data);
+    }
+
+    static EncodedArchiveEntry deflated(String name, byte[] content) {
+        return deflated(name, content, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    static EncodedArchiveEntry encode(String name, byte[] content, ArchiveCompression compression) {
+        if (compression.deflates(content.length)) {
+            return deflated(name, content, compression.level());
+        }
+        return new EncodedArchiveEntry(name, ZipEntry.STORED, crc(content), content.length, content, contentHash(content));
+    }
+
+    private static EncodedArchiveEntry deflated(String name, byte[] content, int level) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return new EncodedArchiveEntry(name, ZipEntry.DEFLATED, crc(content), content.length, output.toByteArray(), contentHash(content));
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static EncodedArchiveEntry directory(String name) {
+        return new EncodedArchiveEntry(name, ZipEntry.STORED, 0L, 0L, new byte[0], null);
+    }
+
+    private static long crc(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return crc.getValue();
+    }
+
+    static String contentHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    long compressedSize() {
+        return data.length;
+    }
+}
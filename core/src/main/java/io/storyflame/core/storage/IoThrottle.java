@@ -0,0 +1,48 @@
+package io.storyflame.core.storage;
+
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+final class IoThrottle {
+    static final IoThrottle UNLIMITED = new IoThrottle(0);
+
+    private final long bytesPerSecond;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+    private long nextAvailableNanos;
+
+    IoThrottle(long bytesPerSecond) {
+        this(bytesPerSecond, System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+    }
+
+    IoThrottle(long bytesPerSecond, LongSupplier nanoClock, Sleeper sleeper) {
+        this.bytesPerSecond = Math.max(0, bytesPerSecond);
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+        this.sleeper = Objects.requireNonNull(sleeper);
+    }
+
+    synchronized void acquire(long bytes) throws InterruptedIOException {
+        if (bytesPerSecond == 0 || bytes <= 0) {
+            return;
+        }
+        long now = nanoClock.getAsLong();
+        long start = Math.max(now, nextAvailableNanos);
+        nextAvailableNanos = start + bytes * TimeUnit.SECONDS.toNanos(1) / bytesPerSecond;
+        long waitNanos = start - now;
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            sleeper.sleep(waitNanos);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while throttling backup I/O");
+        }
+    }
+
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
@@ -14,5 +14,11 @@ final class JsonMapperFactory {
                 .registerTypeAdapter(Instant.class, new InstantTypeAdapter())
                 .create();
     }
+
+    static Gson createCompact() {
+        return ArchiveJsonAdapters.register(new GsonBuilder())
+                .registerTypeAdapter(Instant.class, new InstantTypeAdapter())
+                .create();
+    }
 }
 
@@ -0,0 +1,171 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+final class MappedArchiveReader implements ArchiveReader {
+    private final ByteBuffer buffer;
+    private final Map<String, ArchiveCentralDirectory.Entry> entries;
+
+    private MappedArchiveReader(ByteBuffer buffer, Map<String, ArchiveCentralDirectory.Entry> entries) {
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    static MappedArchiveReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new ZipException("Project archive is too large to map: " + path);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedArchiveReader(buffer, ArchiveCentralDirectory.read(buffer));
+        }
+    }
+
+    @Override
+    public List<String> entryNames() {
+        return List.copyOf(entries.keySet());
+    }
+
+    @Override
+    public boolean contains(String entryName) {
+        return entries.containsKey(entryName);
+    }
+
+    @Override
+    public InputStream open(String entryName) throws IOException {
+        ArchiveCentralDirectory.Entry entry = entries.get(entryName);
+        if (entry == null) {
+            return null;
+        }
+        long localHeader = entry.localHeaderOffset();
+        if (localHeader > buffer.limit() - ArchiveCentralDirectory.LOCAL_HEADER_SIZE
+                || buffer.getInt((int) localHeader) != ArchiveCentralDirectory.LOCAL_HEADER_SIGNATURE) {
+            throw new ZipException("Invalid local header for " + entryName);
+        }
+        long dataStart = localHeader
+                + ArchiveCentralDirectory.LOCAL_HEADER_SIZE
+                + ArchiveCentralDirectory.unsignedShort(buffer, (int) localHeader + 26)
+                + ArchiveCentralDirectory.unsignedShort(buffer, (int) localHeader + 28);
+        if (dataStart + entry.compressedSize() > buffer.limit()) {
+            throw new ZipException("Truncated archive entry " + entryName);
+        }
+        ByteBuffer data = buffer.slice((int) dataStart, entry.compressedSize());
+        return entry.method() == ZipEntry.STORED ? new StoredInputStream(data) : new InflatingInputStream(data, entryName);
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static final class StoredInputStream extends InputStream {
+        private final ByteBuffer data;
+
+        private StoredInputStream(ByteBuffer data) {
+            this.data = data;
+        }
+
+        @Override
+        public int read() {
+            return data.hasRemaining() ? data.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, data.remaining());
+            data.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public byte[] readAllBytes() {
+            byte[] content = new byte[data.remaining()];
+            data.get(content);
+            return content;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, data.remaining()));
+            data.position(data.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return data.remaining();
+        }
+    }
+
+    private static final class InflatingInputStream extends InputStream {
+        private final Inflater inflater = new Inflater(true);
+        private final String entryName;
+        private boolean suppliedPadding;
+        private boolean closed;
+
+        private InflatingInputStream(ByteBuffer data, String entryName) {
+            this.entryName = entryName;
+            inflater.setInput(data);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (length == 0) {
+                return 0;
+            }
+            try {
+                while (true) {
+                    int count = inflater.inflate(target, offset, length);
+                    if (count > 0) {
+                        return count;
+                    }
+                    if (inflater.finished()) {
+                        return -1;
+                    }
+                    if (inflater.needsDictionary() || !inflater.needsInput() || suppliedPadding) {
+                        throw new ZipException("Unexpected end of archive entry " + entryName);
+                    }
+                    suppliedPadding = true;
+                    inflater.setInput(new byte[1]);
+                }
+            } catch (DataFormatException exception) {
+                throw new ZipException("Invalid compressed data in " + entryName + ": " + exception.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                inflater.end();
+            }
+        }
+    }
+}
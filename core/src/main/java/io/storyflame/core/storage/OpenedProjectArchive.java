@@ -0,0 +1,6 @@
+package io.storyflame.core.storage;
+
+import io.storyflame.core.model.Project;
+
+public record OpenedProjectArchive(Project project, ProjectArchiveInspection inspection) {
+}
@@ -3,44 +3,57 @@ package io.storyflame.core.storage;
 import com.google.gson.Gson;
 import io.storyflame.core.archive.ProjectArchiveLayout;
 import io.storyflame.core.archive.ProjectManifest;
-import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipException;
 
 public final class ProjectArchiveInspector {
     private final Gson gson;
+    private final ArchiveReadOptions readOptions;
 
     public ProjectArchiveInspector() {
+        this(ArchiveReadOptions.DEFAULT);
+    }
+
+    public ProjectArchiveInspector(ArchiveReadOptions readOptions) {
         this.gson = JsonMapperFactory.create();
+        this.readOptions = Objects.requireNonNull(readOptions);
     }
 
     public ProjectArchiveInspection inspect(Path path) {
-        Set<String> entryNames = new HashSet<>();
-        List<String> issues = new ArrayList<>();
-        ProjectManifest manifest = null;
-        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
-            ZipEntry entry;
-            while ((entry = zip.getNextEntry()) != null) {
-                entryNames.add(entry.getName());
-                if (ProjectArchiveLayout.MANIFEST_FILE.equals(entry.getName())) {
-                    manifest = readManifest(zip);
-                }
-            }
+        try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+            return inspect(zip);
+        } catch (ZipException exception) {
+            return inspect(Set.of(), null);
         } catch (IOException exception) {
             throw new UncheckedIOException("Unable to inspect project archive: " + path, exception);
         }
+    }
+
+    ProjectArchiveInspection inspect(ArchiveReader zip) throws IOException {
+        Set<String> entryNames = new HashSet<>(zip.entryNames());
+        ProjectManifest manifest = null;
+        InputStream manifestEntry = zip.open(ProjectArchiveLayout.MANIFEST_FILE);
+        if (manifestEntry != null) {
+            try (InputStream input = manifestEntry) {
+                manifest = readManifest(input);
+            }
+        }
+        return inspect(entryNames, manifest);
+    }
 
+    ProjectArchiveInspection inspect(Set<String> entryNames, ProjectManifest manifest) {
+        List<String> issues = new ArrayList<>();
         if (!entryNames.contains(ProjectArchiveLayout.PROJECT_FILE)) {
             issues.add("Pacote sem project.json");
         }
@@ -74,7 +87,7 @@ public final class ProjectArchiveInspector {
         return new ProjectArchiveInspection(issues.isEmpty(), requiresMigration, detectedVersion, List.copyOf(issues));
     }
 
-    private ProjectManifest readManifest(ZipInputStream zip) {
+    private ProjectManifest readManifest(InputStream zip) {
         try {
             Reader reader = new InputStreamReader(zip, StandardCharsets.UTF_8);
             return gson.fromJson(reader, ProjectManifest.class);
@@ -0,0 +1,93 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+public final class ProjectArchiveMigrator {
+    private final int parallelism;
+
+    public ProjectArchiveMigrator() {
+        this(ArchiveTasks.defaultParallelism());
+    }
+
+    public ProjectArchiveMigrator(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public ArchiveMigrationReport migrateDirectory(Path directory, Consumer<ArchiveMigrationResult> onProgress) {
+        Objects.requireNonNull(directory);
+        try (var stream = Files.list(directory)) {
+            List<Path> archives = stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(ProjectStoragePaths.ARCHIVE_EXTENSION))
+                    .sorted(Comparator.comparing(Path::getFileName))
+                    .toList();
+            return migrate(directory, archives, onProgress);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to list project archives in " + directory, exception);
+        }
+    }
+
+    private ArchiveMigrationReport migrate(Path baseDirectory, List<Path> archives, Consumer<ArchiveMigrationResult> onProgress) {
+        try (ProjectArchiveStore store = new ProjectArchiveStore(baseDirectory, 1);
+             ArchiveTasks archiveTasks = new ArchiveTasks(parallelism)) {
+            List<Callable<ArchiveMigrationResult>> tasks = new ArrayList<>(archives.size());
+            for (Path archive : archives) {
+                tasks.add(() -> report(migrate(store, archive), onProgress));
+            }
+            long started = System.nanoTime();
+            List<ArchiveMigrationResult> results = archiveTasks.run(tasks, 2);
+            return new ArchiveMigrationReport(results, Duration.ofNanos(System.nanoTime() - started));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Archive migration was interrupted", exception);
+        }
+    }
+
+    private ArchiveMigrationResult migrate(ProjectArchiveStore store, Path archive) {
+        long started = System.nanoTime();
+        int detectedVersion = 0;
+        try {
+            ProjectArchiveInspection inspection = store.inspect(archive);
+            detectedVersion = inspection.detectedVersion();
+            if (!inspection.valid()) {
+                return result(archive, ArchiveMigrationResult.Status.FAILED, detectedVersion, started, inspection.issues());
+            }
+            if (!inspection.requiresMigration()) {
+                return result(archive, ArchiveMigrationResult.Status.CURRENT, detectedVersion, started, List.of());
+            }
+            store.migrateArchive(archive, archive);
+            return result(archive, ArchiveMigrationResult.Status.MIGRATED, detectedVersion, started, List.of());
+        } catch (RuntimeException exception) {
+            String issue = exception.getMessage() == null ? exception.getClass().getSimpleName() : exception.getMessage();
+            return result(archive, ArchiveMigrationResult.Status.FAILED, detectedVersion, started, List.of(issue));
+        }
+    }
+
+    private ArchiveMigrationResult result(
+            Path archive,
+            ArchiveMigrationResult.Status status,
+            int detectedVersion,
+            long started,
+            List<String> issues
+    ) {
+        return new ArchiveMigrationResult(archive, status, detectedVersion, Duration.ofNanos(System.nanoTime() - started), issues);
+    }
+
+    private ArchiveMigrationResult report(ArchiveMigrationResult result, Consumer<ArchiveMigrationResult> onProgress) {
+        if (onProgress != null) {
+            synchronized (this) {
+                onProgress.accept(result);
+            }
+        }
+        return result;
+    }
+}
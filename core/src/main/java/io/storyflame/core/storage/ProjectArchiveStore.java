@@ -5,6 +5,8 @@ import io.storyflame.core.archive.ProjectArchiveLayout;
 import io.storyflame.core.archive.ProjectManifest;
 import io.storyflame.core.analysis.EmotionAnalysisReport;
 import io.storyflame.core.analysis.EmotionCache;
+import io.storyflame.core.analysis.EmotionCacheEntry;
+import io.storyflame.core.analysis.ProjectAnalysis;
 import io.storyflame.core.model.Chapter;
 import io.storyflame.core.model.Character;
 import io.storyflame.core.model.Project;
@@ -12,13 +14,17 @@ import io.storyflame.core.model.Scene;
 import io.storyflame.core.tags.CharacterTagProfile;
 import io.storyflame.core.tags.NarrativeTag;
 import io.storyflame.core.tags.NarrativeTagCatalog;
+import io.storyflame.core.text.WordCount;
 import io.storyflame.core.validation.ProjectValidationOperation;
 import io.storyflame.core.validation.ProjectValidationResult;
 import io.storyflame.core.validation.ProjectValidationService;
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UncheckedIOException;
@@ -29,25 +35,76 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipException;
 
-public final class ProjectArchiveStore {
+public final class ProjectArchiveStore implements AutoCloseable {
     private final Gson gson;
     private final Path baseDirectory;
     private final ProjectArchiveInspector archiveInspector;
+    private final ArchiveEntryCache entryCache;
+    private final ArchiveTasks archiveTasks;
+    private final UnaryOperator<OutputStream> archiveOutput;
+    private final ProjectLibraryIndex libraryIndex;
+    private final ArchiveCompression compression;
+    private final ArchiveReadOptions readOptions;
+    private final Map<Path, Map<String, String>> knownEntryHashes = new ConcurrentHashMap<>();
 
     public ProjectArchiveStore(Path baseDirectory) {
+        this(baseDirectory, ArchiveCompression.DEFAULT);
+    }
+
+    public ProjectArchiveStore(Path baseDirectory, ArchiveCompression compression) {
+        this(baseDirectory, compression, ArchiveReadOptions.DEFAULT);
+    }
+
+    public ProjectArchiveStore(Path baseDirectory, ArchiveCompression compression, ArchiveReadOptions readOptions) {
+        this(baseDirectory, ArchiveTasks.defaultParallelism(), UnaryOperator.identity(), compression, readOptions);
+    }
+
+    ProjectArchiveStore(Path baseDirectory, int parallelism) {
+        this(baseDirectory, parallelism, UnaryOperator.identity());
+    }
+
+    ProjectArchiveStore(Path baseDirectory, int parallelism, UnaryOperator<OutputStream> archiveOutput) {
+        this(baseDirectory, parallelism, archiveOutput, ArchiveCompression.DEFAULT, ArchiveReadOptions.DEFAULT);
+    }
+
+    ProjectArchiveStore(
+            Path baseDirectory,
+            int parallelism,
+            UnaryOperator<OutputStream> archiveOutput,
+            ArchiveCompression compression,
+            ArchiveReadOptions readOptions
+    ) {
         this.baseDirectory = Objects.requireNonNull(baseDirectory);
-        this.gson = JsonMapperFactory.create();
-        this.archiveInspector = new ProjectArchiveInspector();
+        this.archiveTasks = new ArchiveTasks(parallelism);
+        this.archiveOutput = Objects.requireNonNull(archiveOutput);
+        this.compression = Objects.requireNonNull(compression);
+        this.readOptions = Objects.requireNonNull(readOptions);
+        this.libraryIndex = new ProjectLibraryIndex(baseDirectory, this::summarize);
+        this.gson = JsonMapperFactory.createCompact();
+        this.archiveInspector = new ProjectArchiveInspector(readOptions);
+        this.entryCache = new ArchiveEntryCache();
+    }
+
+    @Override
+    public void close() {
+        archiveTasks.close();
     }
 
     public Path getBaseDirectory() {
@@ -73,42 +130,327 @@ public final class ProjectArchiveStore {
     }
 
     public Path save(Project project, Path path) {
+        saveIfChanged(project, path);
+        return path;
+    }
+
+    public boolean saveIfChanged(Project project, Path path) {
+        ArchiveWrite write = writeArchive(project, path);
+        for (ArchiveSource source : write.lazySources()) {
+            source.rebind(path);
+        }
+        return write.written();
+    }
+
+    public Path exportArchive(Project project, Path targetPath) {
+        writeArchive(project, targetPath);
+        return targetPath;
+    }
+
+    private ArchiveWrite writeArchive(Project project, Path path) {
         Objects.requireNonNull(project);
         Objects.requireNonNull(path);
-        project.touch();
+        Map<String, String> recordedHashes = recordedEntryHashes(path);
+        Map<Path, ArchiveRawEntries> copySources = new HashMap<>();
+        ArchiveRawEntries recordedEntries = ArchiveRawEntries.open(path, recordedHashes);
+        copySources.put(archiveKey(path), recordedEntries);
+        EntryEncoder encoder = new EntryEncoder(entryCache.get(path), recordedEntries);
+        Set<ArchiveSource> lazySources = new HashSet<>();
         try {
-            Files.createDirectories(path.getParent());
-            try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
-                writeJson(zip, ProjectArchiveLayout.MANIFEST_FILE, ProjectManifest.initial(Instant.now().toString()));
-                writeJson(zip, ProjectArchiveLayout.PROJECT_FILE, ProjectDocument.from(project));
-                writeJson(zip, ProjectArchiveLayout.NARRATIVE_TAGS_FILE, new ArrayList<>(project.getNarrativeTags()));
-                writeJson(zip, ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE, new ArrayList<>(project.getCharacterTagProfiles()));
-                zip.putNextEntry(new ZipEntry(ProjectArchiveLayout.CHAPTERS_DIRECTORY));
-                zip.closeEntry();
-                zip.putNextEntry(new ZipEntry(ProjectArchiveLayout.CHARACTERS_DIRECTORY));
-                zip.closeEntry();
-                zip.putNextEntry(new ZipEntry(ProjectArchiveLayout.ANALYSIS_DIRECTORY));
-                zip.closeEntry();
+            ProjectDocument projectDocument = ProjectDocument.from(project);
+            encoder.add(ProjectArchiveLayout.PROJECT_FILE, projectDocument);
+            encoder.add(ProjectArchiveLayout.NARRATIVE_TAGS_FILE, new ArrayList<>(project.getNarrativeTags()));
+            encoder.add(ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE, new ArrayList<>(project.getCharacterTagProfiles()));
+            encoder.addDirectory(ProjectArchiveLayout.CHAPTERS_DIRECTORY);
+            encoder.addDirectory(ProjectArchiveLayout.CHARACTERS_DIRECTORY);
+            encoder.addDirectory(ProjectArchiveLayout.ANALYSIS_DIRECTORY);
+            if (project.getPendingAnalysisLoader() instanceof ArchiveAnalysisLoader loader) {
+                ArchiveEntryCopy copy = loader.copy(copySources);
+                for (String entryName : copy.entryNames()) {
+                    encoder.addCopy(entryName, loader, copy);
+                }
+                lazySources.add(loader.source);
+            } else {
                 if (project.getEmotionAnalysis() != null) {
-                    writeJson(zip, ProjectArchiveLayout.EMOTION_ANALYSIS_FILE, project.getEmotionAnalysis());
+                    encoder.add(ProjectArchiveLayout.EMOTION_ANALYSIS_FILE, project.getEmotionAnalysis());
                 }
-                writeJson(zip, ProjectArchiveLayout.EMOTION_CACHE_FILE, project.getEmotionCache());
+                encoder.add(ProjectArchiveLayout.EMOTION_CACHE_FILE, EmotionCacheDocument.from(project.getEmotionCache()));
+            }
+
+            for (Chapter chapter : project.getChapters()) {
+                if (chapter.getPendingSceneLoader() instanceof ArchiveChapterLoader loader && loader.canCopy(chapter)) {
+                    ArchiveEntryCopy copy = loader.copy(copySources);
+                    for (String entryName : copy.entryNames()) {
+                        encoder.addCopy(entryName, loader, copy);
+                    }
+                    lazySources.add(loader.source);
+                } else {
+                    addChapter(encoder, chapter);
+                }
+            }
+            for (Character character : project.getCharacters()) {
+                encoder.add(ProjectArchiveLayout.characterFile(character.getId()), CharacterDocument.from(character));
+            }
+            List<EncodedArchiveEntry> entries = new ArrayList<>(encoder.encodeAll());
+            Map<String, String> entryHashes = entryHashes(entries);
+            if (matchesRecordedArchive(path, entryHashes, recordedHashes, projectDocument)) {
+                entryCache.put(path, encoder.savedArchive());
+                knownEntryHashes.put(archiveKey(path), Map.copyOf(recordedHashes));
+                return new ArchiveWrite(lazySources, false);
+            }
+
+            project.touch();
+            EncodedArchiveEntry projectEntry = encoder.reencode(ProjectArchiveLayout.PROJECT_FILE, ProjectDocument.from(project));
+            entries.set(0, projectEntry);
+            entryHashes.put(projectEntry.name(), projectEntry.hash());
+            entries.add(0, EncodedArchiveEntry.encode(
+                    ProjectArchiveLayout.MANIFEST_FILE,
+                    toJsonBytes(ProjectManifest.initial(Instant.now().toString(), entryHashes)),
+                    compression
+            ));
+
+            Map<String, String> previousHashes = knownEntryHashes.put(archiveKey(path), Map.copyOf(entryHashes));
+            try {
+                writeAtomically(path, entries);
+            } catch (IOException | RuntimeException exception) {
+                restoreKnownHashes(path, previousHashes);
+                throw exception;
+            }
+            entryCache.put(path, encoder.savedArchive());
+            return new ArchiveWrite(lazySources, true);
+        } catch (IOException | UncheckedIOException exception) {
+            entryCache.remove(path);
+            IOException cause = exception instanceof UncheckedIOException unchecked ? unchecked.getCause() : (IOException) exception;
+            throw new UncheckedIOException("Unable to save project archive: " + path, cause);
+        } finally {
+            copySources.values().forEach(ArchiveRawEntries::close);
+        }
+    }
+
+    public ArchiveChangeSet detectExternalChanges(Path path) {
+        Objects.requireNonNull(path);
+        Map<String, String> known = knownEntryHashes.get(archiveKey(path));
+        if (known == null || Files.notExists(path)) {
+            return ArchiveChangeSet.none(path);
+        }
+        Map<String, String> current = recordedEntryHashes(path);
+        if (current == null) {
+            return new ArchiveChangeSet(path, Set.of(), Set.of(), true);
+        }
+        if (current.equals(known)) {
+            return ArchiveChangeSet.none(path);
+        }
+        Set<String> changedEntries = new TreeSet<>();
+        Set<String> names = new HashSet<>(known.keySet());
+        names.addAll(current.keySet());
+        for (String name : names) {
+            if (!Objects.equals(known.get(name), current.get(name))) {
+                changedEntries.add(name);
+            }
+        }
+        Set<String> changedChapterIds = new TreeSet<>();
+        boolean requiresFullReload = false;
+        for (String name : changedEntries) {
+            String chapterId = ProjectArchiveLayout.chapterIdOf(name);
+            if (chapterId == null) {
+                requiresFullReload |= !name.equals(ProjectArchiveLayout.PROJECT_FILE) && !isAnalysisEntry(name);
+            } else {
+                changedChapterIds.add(chapterId);
+            }
+        }
+        return new ArchiveChangeSet(path, changedEntries, changedChapterIds, requiresFullReload);
+    }
 
-                for (Chapter chapter : project.getChapters()) {
-                    writeJson(zip, ProjectArchiveLayout.chapterFile(chapter.getId()), ChapterDocument.from(chapter));
+    public boolean reloadChanges(Project project, Path path, ArchiveChangeSet changes) {
+        Objects.requireNonNull(project);
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(changes);
+        if (changes.requiresFullReload()) {
+            return false;
+        }
+        try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+            Map<String, String> current = hasEntry(zip, ProjectArchiveLayout.MANIFEST_FILE)
+                    ? readEntry(zip, ProjectArchiveLayout.MANIFEST_FILE, this::readManifest).entries()
+                    : null;
+            if (current == null) {
+                return false;
+            }
+            ProjectDocument projectDocument = null;
+            if (changes.changedEntries().contains(ProjectArchiveLayout.PROJECT_FILE)) {
+                projectDocument = readEntry(zip, ProjectArchiveLayout.PROJECT_FILE, this::readProject);
+                if (!sameStructure(project, projectDocument)) {
+                    return false;
+                }
+            }
+            List<Chapter> chapters = project.getChapters();
+            for (String chapterId : changes.changedChapterIds()) {
+                if (!hasEntry(zip, ProjectArchiveLayout.chapterFile(chapterId))
+                        || chapters.stream().noneMatch(chapter -> chapter.getId().equals(chapterId))) {
+                    return false;
                 }
-                for (Character character : project.getCharacters()) {
-                    writeJson(zip, ProjectArchiveLayout.characterFile(character.getId()), character);
+            }
+            for (int index = 0; index < chapters.size(); index++) {
+                String chapterId = chapters.get(index).getId();
+                if (changes.changedChapterIds().contains(chapterId)) {
+                    chapters.set(index, readChapterModel(zip, chapterId));
                 }
             }
-            return path;
+            if (changes.changedEntries().stream().anyMatch(ProjectArchiveStore::isAnalysisEntry)) {
+                List<String> analysisEntries = analysisEntries(zip);
+                project.loadAnalysisLazily(analysisEntries.isEmpty()
+                        ? () -> new ProjectAnalysis(null, new EmotionCache())
+                        : new ArchiveAnalysisLoader(new ArchiveSource(path), analysisEntries));
+            }
+            if (projectDocument != null) {
+                project.setTitle(projectDocument.title());
+                project.setAuthor(projectDocument.author());
+                project.setUpdatedAt(projectDocument.updatedAt());
+            }
+            rememberEntryHashes(path, current, changes.changedEntries());
+            return true;
         } catch (IOException exception) {
-            throw new UncheckedIOException("Unable to save project archive: " + path, exception);
+            throw new UncheckedIOException("Unable to reload project changes: " + path, exception);
         }
     }
 
-    public Path exportArchive(Project project, Path targetPath) {
-        return save(project, targetPath);
+    public void acknowledgeExternalChanges(Path path, ArchiveChangeSet changes) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(changes);
+        Map<String, String> current = recordedEntryHashes(path);
+        if (current == null) {
+            knownEntryHashes.remove(archiveKey(path));
+        } else if (changes.requiresFullReload()) {
+            knownEntryHashes.put(archiveKey(path), Map.copyOf(current));
+        } else {
+            rememberEntryHashes(path, current, changes.changedEntries());
+        }
+    }
+
+    private void rememberEntryHashes(Path path, Map<String, String> current, Set<String> entryNames) {
+        Map<String, String> updated = new HashMap<>(knownEntryHashes.getOrDefault(archiveKey(path), Map.of()));
+        for (String name : entryNames) {
+            String hash = current.get(name);
+            if (hash == null) {
+                updated.remove(name);
+            } else {
+                updated.put(name, hash);
+            }
+        }
+        knownEntryHashes.put(archiveKey(path), Map.copyOf(updated));
+    }
+
+    private static boolean isAnalysisEntry(String entryName) {
+        return entryName.equals(ProjectArchiveLayout.EMOTION_ANALYSIS_FILE) || entryName.equals(ProjectArchiveLayout.EMOTION_CACHE_FILE);
+    }
+
+    private List<String> analysisEntries(ArchiveReader zip) {
+        return List.of(ProjectArchiveLayout.EMOTION_ANALYSIS_FILE, ProjectArchiveLayout.EMOTION_CACHE_FILE).stream()
+                .filter(entryName -> hasEntry(zip, entryName))
+                .toList();
+    }
+
+    private static boolean sameStructure(Project project, ProjectDocument projectDocument) {
+        return Objects.equals(project.getId(), projectDocument.id())
+                && projectDocument.referencedChapterIds().equals(project.getChapters().stream().map(Chapter::getId).toList())
+                && projectDocument.referencedCharacterIds().equals(project.getCharacters().stream().map(Character::getId).toList());
+    }
+
+    private void restoreKnownHashes(Path path, Map<String, String> previousHashes) {
+        if (previousHashes == null) {
+            knownEntryHashes.remove(archiveKey(path));
+        } else {
+            knownEntryHashes.put(archiveKey(path), previousHashes);
+        }
+    }
+
+    private static Path archiveKey(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private Map<String, String> entryHashes(List<EncodedArchiveEntry> entries) {
+        Map<String, String> hashes = new HashMap<>();
+        for (EncodedArchiveEntry entry : entries) {
+            if (entry.hash() != null) {
+                hashes.put(entry.name(), entry.hash());
+            }
+        }
+        return hashes;
+    }
+
+    private boolean matchesRecordedArchive(
+            Path path,
+            Map<String, String> entryHashes,
+            Map<String, String> recordedHashes,
+            ProjectDocument projectDocument
+    ) {
+        if (recordedHashes == null) {
+            return false;
+        }
+        if (entryHashes.equals(recordedHashes)) {
+            return true;
+        }
+        Map<String, String> contentHashes = new HashMap<>(entryHashes);
+        Map<String, String> recordedContentHashes = new HashMap<>(recordedHashes);
+        String recordedProjectHash = recordedContentHashes.remove(ProjectArchiveLayout.PROJECT_FILE);
+        contentHashes.remove(ProjectArchiveLayout.PROJECT_FILE);
+        if (recordedProjectHash == null || !contentHashes.equals(recordedContentHashes)) {
+            return false;
+        }
+        Instant recordedUpdatedAt = recordedUpdatedAt(path);
+        return recordedUpdatedAt != null && recordedProjectHash.equals(
+                EncodedArchiveEntry.contentHash(toJsonBytes(projectDocument.withUpdatedAt(recordedUpdatedAt)))
+        );
+    }
+
+    private Instant recordedUpdatedAt(Path path) {
+        try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+            return readEntry(zip, ProjectArchiveLayout.PROJECT_FILE, this::readProject).updatedAt();
+        } catch (IOException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private Map<String, String> recordedEntryHashes(Path path) {
+        if (Files.notExists(path)) {
+            return null;
+        }
+        try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+            if (!hasEntry(zip, ProjectArchiveLayout.MANIFEST_FILE)) {
+                return null;
+            }
+            ProjectManifest manifest = readEntry(zip, ProjectArchiveLayout.MANIFEST_FILE, this::readManifest);
+            return manifest == null ? null : manifest.entries();
+        } catch (IOException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private void writeAtomically(Path path, List<EncodedArchiveEntry> entries) throws IOException {
+        ArchiveFiles.writeAtomically(path, output -> {
+            ProjectArchiveWriter writer = new ProjectArchiveWriter(new BufferedOutputStream(archiveOutput.apply(output)));
+            for (EncodedArchiveEntry entry : entries) {
+                writer.write(entry);
+            }
+            writer.finish();
+        });
+    }
+
+    private void addChapter(EntryEncoder encoder, Chapter chapter) {
+        Set<String> sceneIds = new HashSet<>();
+        List<SceneDocument> scenes = new ArrayList<>();
+        List<Scene> textScenes = new ArrayList<>();
+        for (Scene scene : chapter.getScenes()) {
+            if (sceneIds.add(scene.getId())) {
+                scenes.add(SceneDocument.metadata(scene));
+                textScenes.add(scene);
+            } else {
+                scenes.add(SceneDocument.from(scene));
+            }
+        }
+        encoder.add(ProjectArchiveLayout.chapterFile(chapter.getId()), new ChapterDocument(chapter.getId(), chapter.getTitle(), scenes));
+        for (Scene scene : textScenes) {
+            encoder.addText(ProjectArchiveLayout.sceneContentFile(chapter.getId(), scene.getId()), scene.getContent());
+        }
     }
 
     public ProjectArchiveInspection inspect(Path path) {
@@ -116,57 +458,100 @@ public final class ProjectArchiveStore {
     }
 
     public Project open(Path path) {
+        return openInspected(path).project();
+    }
+
+    public OpenedProjectArchive openInspected(Path path) {
+        return read(path, false);
+    }
+
+    public Project openLazily(Path path) {
+        return read(path, true).project();
+    }
+
+    private OpenedProjectArchive read(Path path, boolean lazyChapters) {
         Objects.requireNonNull(path);
-        ProjectArchiveInspection inspection = inspect(path);
-        if (!inspection.valid()) {
-            throw new IllegalStateException("Project archive is invalid: " + String.join("; ", inspection.issues()));
-        }
-        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
-            ProjectDocument projectDocument = null;
+        try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+            ProjectArchiveInspection inspection = archiveInspector.inspect(zip);
+            requireValid(inspection);
+            byte[] manifestBytes = hasEntry(zip, ProjectArchiveLayout.MANIFEST_FILE)
+                    ? readEntry(zip, ProjectArchiveLayout.MANIFEST_FILE, this::readBytes)
+                    : null;
+            ProjectManifest manifest = manifestBytes == null
+                    ? null
+                    : readManifest(new ByteArrayInputStream(manifestBytes));
+            ProjectDocument projectDocument = readEntry(zip, ProjectArchiveLayout.PROJECT_FILE, this::readProject);
+            List<NarrativeTag> narrativeTags = readEntry(zip, ProjectArchiveLayout.NARRATIVE_TAGS_FILE, this::readNarrativeTags);
+            List<CharacterTagProfile> characterTagProfiles = readEntry(
+                    zip,
+                    ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE,
+                    this::readCharacterTagProfiles
+            );
+            ArchiveSource source = new ArchiveSource(path);
+            Map<String, List<String>> sceneEntries = lazyChapters ? sceneEntriesByChapter(zip) : Map.of();
             Map<String, Chapter> chapters = new LinkedHashMap<>();
-            Map<String, Character> characters = new LinkedHashMap<>();
-            List<NarrativeTag> narrativeTags = List.of();
-            List<CharacterTagProfile> characterTagProfiles = List.of();
-            EmotionAnalysisReport emotionAnalysis = null;
-            EmotionCache emotionCache = new EmotionCache();
-            ProjectManifest manifest = null;
-            ZipEntry entry;
-            while ((entry = zip.getNextEntry()) != null) {
-                String name = entry.getName();
-                if (entry.isDirectory()) {
+            List<String> eagerChapterIds = new ArrayList<>();
+            for (String chapterId : projectDocument.referencedChapterIds()) {
+                if (chapters.containsKey(chapterId) || !hasEntry(zip, ProjectArchiveLayout.chapterFile(chapterId))) {
                     continue;
                 }
-                if (ProjectArchiveLayout.MANIFEST_FILE.equals(name)) {
-                    manifest = readManifest(zip);
-                } else if (ProjectArchiveLayout.PROJECT_FILE.equals(name)) {
-                    projectDocument = readProject(zip);
-                } else if (ProjectArchiveLayout.NARRATIVE_TAGS_FILE.equals(name)) {
-                    narrativeTags = readNarrativeTags(zip);
-                } else if (ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE.equals(name)) {
-                    characterTagProfiles = readCharacterTagProfiles(zip);
-                } else if (ProjectArchiveLayout.EMOTION_ANALYSIS_FILE.equals(name)) {
-                    emotionAnalysis = readEmotionAnalysis(zip);
-                } else if (ProjectArchiveLayout.EMOTION_CACHE_FILE.equals(name)) {
-                    emotionCache = readEmotionCache(zip);
-                } else if (name.startsWith(ProjectArchiveLayout.CHAPTERS_DIRECTORY)) {
-                    ChapterDocument document = readChapter(zip);
-                    chapters.put(document.id(), document.toModel());
-                } else if (name.startsWith(ProjectArchiveLayout.CHARACTERS_DIRECTORY)) {
-                    Character character = readCharacter(zip);
-                    characters.put(character.getId(), character);
+                String title = projectDocument.chapterTitle(chapterId);
+                if (lazyChapters && title != null) {
+                    chapters.put(chapterId, Chapter.lazy(chapterId, title, new ArchiveChapterLoader(
+                            source,
+                            chapterId,
+                            title,
+                            sceneEntries.getOrDefault(chapterId, List.of())
+                    )));
+                } else {
+                    chapters.put(chapterId, null);
+                    eagerChapterIds.add(chapterId);
                 }
             }
-            if (projectDocument == null) {
-                throw new IllegalStateException("Project archive is missing project.json");
+            chapters.putAll(readEntries(eagerChapterIds, chapterId -> () -> readChapterModel(zip, chapterId)));
+
+            List<String> characterIds = projectDocument.referencedCharacterIds().stream()
+                    .distinct()
+                    .filter(characterId -> hasEntry(zip, ProjectArchiveLayout.characterFile(characterId)))
+                    .toList();
+            Map<String, Character> characters = readEntries(
+                    characterIds,
+                    characterId -> () -> readEntry(zip, ProjectArchiveLayout.characterFile(characterId), this::readCharacter)
+            );
+            projectDocument.validateArchiveContents(chapters.keySet(), characters.keySet());
+            Project project = projectDocument.toModel(
+                    chapters,
+                    characters,
+                    narrativeTags,
+                    characterTagProfiles,
+                    null,
+                    new EmotionCache()
+            );
+            List<String> analysisEntries = analysisEntries(zip);
+            if (!analysisEntries.isEmpty()) {
+                project.loadAnalysisLazily(new ArchiveAnalysisLoader(source, analysisEntries));
+            }
+            if (manifest != null && manifest.entries() != null) {
+                knownEntryHashes.put(archiveKey(path), Map.copyOf(manifest.entries()));
             }
-            normalizeManifest(manifest);
-            projectDocument.validateArchiveContents(chapters, characters);
-            return projectDocument.toModel(chapters, characters, narrativeTags, characterTagProfiles, emotionAnalysis, emotionCache);
+            if (Files.exists(ProjectStoragePaths.journalPath(path))) {
+                new ProjectEditJournal(path).replay(project, ProjectEditJournal.archiveVersion(manifestBytes));
+            }
+            return new OpenedProjectArchive(project, inspection);
+        } catch (ZipException exception) {
+            requireValid(archiveInspector.inspect(Set.of(), null));
+            throw new UncheckedIOException("Unable to open project archive: " + path, exception);
         } catch (IOException exception) {
             throw new UncheckedIOException("Unable to open project archive: " + path, exception);
         }
     }
 
+    private void requireValid(ProjectArchiveInspection inspection) {
+        if (!inspection.valid()) {
+            throw new IllegalStateException("Project archive is invalid: " + String.join("; ", inspection.issues()));
+        }
+    }
+
     public Path importArchive(Path sourcePath) {
         Project project = open(sourcePath);
         Path targetPath = ProjectStoragePaths.suggestedArchivePath(baseDirectory, project);
@@ -194,64 +579,161 @@ public final class ProjectArchiveStore {
         }
     }
 
-    private void writeJson(ZipOutputStream zip, String entryName, Object value) throws IOException {
-        zip.putNextEntry(new ZipEntry(entryName));
-        Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
-        gson.toJson(value, writer);
-        writer.flush();
-        zip.closeEntry();
+    public List<ProjectLibraryEntry> listProjectSummaries() {
+        return libraryIndex.refresh(listProjects());
     }
 
-    private ProjectManifest readManifest(ZipInputStream zip) {
+    ProjectLibraryEntry summarize(Path path) {
+        OpenedProjectArchive opened = openInspected(path);
+        Project project = opened.project();
+        int sceneCount = 0;
+        int wordCount = 0;
+        for (Chapter chapter : project.getChapters()) {
+            for (Scene scene : chapter.getScenes()) {
+                sceneCount++;
+                wordCount += WordCount.count(scene.getContent());
+            }
+        }
         try {
-            Reader reader = new InputStreamReader(zip, StandardCharsets.UTF_8);
-            return gson.fromJson(reader, ProjectManifest.class);
-        } catch (Exception exception) {
-            throw new IllegalStateException("Invalid manifest.json", exception);
+            return new ProjectLibraryEntry(
+                    path,
+                    Files.size(path),
+                    Files.getLastModifiedTime(path).toInstant(),
+                    true,
+                    project.getId(),
+                    project.getTitle(),
+                    project.getAuthor(),
+                    opened.inspection().detectedVersion(),
+                    project.getChapters().size(),
+                    sceneCount,
+                    wordCount
+            );
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read project archive attributes: " + path, exception);
         }
     }
 
-    private void normalizeManifest(ProjectManifest manifest) {
-        if (manifest == null) {
-            return;
+    ArchiveEntryCache.SavedArchive lastSavedArchive(Path path) {
+        return entryCache.get(path);
+    }
+
+    private byte[] toJsonBytes(Object value) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+            gson.toJson(value, writer);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
         }
-        if (manifest.version() > ProjectArchiveLayout.SPEC_VERSION_NUMBER) {
-            throw new IllegalStateException("Unsupported project archive version: " + manifest.version());
+        return output.toByteArray();
+    }
+
+    private <T> Map<String, T> readEntries(List<String> ids, Function<String, Callable<T>> readers) throws IOException {
+        List<Callable<T>> tasks = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            tasks.add(readers.apply(id));
+        }
+        List<T> values = archiveTasks.run(tasks);
+        Map<String, T> valuesById = new LinkedHashMap<>();
+        for (int index = 0; index < ids.size(); index++) {
+            valuesById.put(ids.get(index), values.get(index));
+        }
+        return valuesById;
+    }
+
+    private Chapter readChapterModel(ArchiveReader zip, String chapterId) throws IOException {
+        ChapterDocument document = readEntry(zip, ProjectArchiveLayout.chapterFile(chapterId), this::readChapter);
+        List<SceneDocument> scenes = new ArrayList<>();
+        if (document.scenes() != null) {
+            for (SceneDocument scene : document.scenes()) {
+                String contentEntry = ProjectArchiveLayout.sceneContentFile(chapterId, scene.id());
+                if (scene.content() == null && scene.id() != null && hasEntry(zip, contentEntry)) {
+                    scenes.add(scene.withContent(readEntry(zip, contentEntry, this::readText)));
+                } else {
+                    scenes.add(scene);
+                }
+            }
+        }
+        return new ChapterDocument(document.id(), document.title(), scenes).toModel();
+    }
+
+    private Map<String, List<String>> sceneEntriesByChapter(ArchiveReader zip) {
+        Map<String, List<String>> sceneEntries = new HashMap<>();
+        zip.entryNames().forEach(name -> {
+            int scenesIndex = name.indexOf("/scenes/", ProjectArchiveLayout.CHAPTERS_DIRECTORY.length());
+            if (name.startsWith(ProjectArchiveLayout.CHAPTERS_DIRECTORY) && scenesIndex > 0 && name.endsWith(".txt")) {
+                String chapterId = name.substring(ProjectArchiveLayout.CHAPTERS_DIRECTORY.length(), scenesIndex);
+                sceneEntries.computeIfAbsent(chapterId, ignored -> new ArrayList<>()).add(name);
+            }
+        });
+        return sceneEntries;
+    }
+
+    private boolean hasEntry(ArchiveReader zip, String entryName) {
+        return zip.contains(entryName);
+    }
+
+    private <T> T readEntry(ArchiveReader zip, String entryName, Function<InputStream, T> reader) throws IOException {
+        InputStream entry = zip.open(entryName);
+        if (entry == null) {
+            throw new IllegalStateException("Project archive is missing " + entryName);
+        }
+        try (InputStream input = entry) {
+            return reader.apply(input);
+        }
+    }
+
+    private byte[] readBytes(InputStream zip) {
+        try {
+            return zip.readAllBytes();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
         }
     }
 
-    private ProjectDocument readProject(ZipInputStream zip) {
+    private String readText(InputStream zip) {
+        try {
+            return new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private ProjectManifest readManifest(InputStream zip) {
+        return readJson(zip, ProjectManifest.class, "manifest.json");
+    }
+
+    private ProjectDocument readProject(InputStream zip) {
         return readJson(zip, ProjectDocument.class, "project.json");
     }
 
-    private ChapterDocument readChapter(ZipInputStream zip) {
+    private ChapterDocument readChapter(InputStream zip) {
         return readJson(zip, ChapterDocument.class, "chapter document");
     }
 
-    private Character readCharacter(ZipInputStream zip) {
-        return readJson(zip, Character.class, "character document");
+    private Character readCharacter(InputStream zip) {
+        return readJson(zip, CharacterDocument.class, "character document").toModel();
     }
 
-    private List<NarrativeTag> readNarrativeTags(ZipInputStream zip) {
+    private List<NarrativeTag> readNarrativeTags(InputStream zip) {
         NarrativeTag[] tags = readJson(zip, NarrativeTag[].class, "narrative_tags.json");
         return tags == null ? List.of() : List.of(tags);
     }
 
-    private List<CharacterTagProfile> readCharacterTagProfiles(ZipInputStream zip) {
+    private List<CharacterTagProfile> readCharacterTagProfiles(InputStream zip) {
         CharacterTagProfile[] profiles = readJson(zip, CharacterTagProfile[].class, "character_tag_profiles.json");
         return profiles == null ? List.of() : List.of(profiles);
     }
 
-    private EmotionAnalysisReport readEmotionAnalysis(ZipInputStream zip) {
+    private EmotionAnalysisReport readEmotionAnalysis(InputStream zip) {
         return readJson(zip, EmotionAnalysisReport.class, "analysis/emotion.json");
     }
 
-    private EmotionCache readEmotionCache(ZipInputStream zip) {
+    private EmotionCache readEmotionCache(InputStream zip) {
         EmotionCache cache = readJson(zip, EmotionCache.class, "analysis/emotion_cache.json");
         return cache == null ? new EmotionCache() : cache;
     }
 
-    private <T> T readJson(ZipInputStream zip, Class<T> type, String entryLabel) {
+    private <T> T readJson(InputStream zip, Class<T> type, String entryLabel) {
         try {
             Reader reader = new InputStreamReader(zip, StandardCharsets.UTF_8);
             T value = gson.fromJson(reader, type);
@@ -266,16 +748,21 @@ public final class ProjectArchiveStore {
         }
     }
 
-    private record ProjectDocument(
+    record ProjectDocument(
             String id,
             String title,
             String author,
             Instant createdAt,
             Instant updatedAt,
             List<String> chapterIds,
-            List<String> characterIds
+            List<String> characterIds,
+            Map<String, String> chapterTitles
     ) {
         static ProjectDocument from(Project project) {
+            Map<String, String> chapterTitles = new LinkedHashMap<>();
+            for (Chapter chapter : project.getChapters()) {
+                chapterTitles.put(chapter.getId(), chapter.getTitle());
+            }
             return new ProjectDocument(
                     project.getId(),
                     project.getTitle(),
@@ -283,18 +770,35 @@ public final class ProjectArchiveStore {
                     project.getCreatedAt(),
                     project.getUpdatedAt(),
                     project.getChapters().stream().map(Chapter::getId).toList(),
-                    project.getCharacters().stream().map(Character::getId).toList()
+                    project.getCharacters().stream().map(Character::getId).toList(),
+                    chapterTitles
             );
         }
 
-        void validateArchiveContents(Map<String, Chapter> chaptersById, Map<String, Character> charactersById) {
-            List<String> missingChapters = missingEntries(chapterIds, chaptersById.keySet());
+        ProjectDocument withUpdatedAt(Instant updatedAt) {
+            return new ProjectDocument(id, title, author, createdAt, updatedAt, chapterIds, characterIds, chapterTitles);
+        }
+
+        List<String> referencedChapterIds() {
+            return chapterIds == null ? List.of() : chapterIds;
+        }
+
+        List<String> referencedCharacterIds() {
+            return characterIds == null ? List.of() : characterIds;
+        }
+
+        String chapterTitle(String chapterId) {
+            return chapterTitles == null ? null : chapterTitles.get(chapterId);
+        }
+
+        void validateArchiveContents(Set<String> availableChapterIds, Set<String> availableCharacterIds) {
+            List<String> missingChapters = missingEntries(chapterIds, availableChapterIds);
             if (!missingChapters.isEmpty()) {
                 throw new IllegalStateException(
                         "Project archive is incomplete: missing chapter entries " + String.join(", ", missingChapters)
                 );
             }
-            List<String> missingCharacters = missingEntries(characterIds, charactersById.keySet());
+            List<String> missingCharacters = missingEntries(characterIds, availableCharacterIds);
             if (!missingCharacters.isEmpty()) {
                 throw new IllegalStateException(
                         "Project archive is incomplete: missing character entries " + String.join(", ", missingCharacters)
@@ -353,13 +857,299 @@ public final class ProjectArchiveStore {
         }
     }
 
-    private record ChapterDocument(String id, String title, List<Scene> scenes) {
+    record ChapterDocument(String id, String title, List<SceneDocument> scenes) {
         static ChapterDocument from(Chapter chapter) {
-            return new ChapterDocument(chapter.getId(), chapter.getTitle(), new ArrayList<>(chapter.getScenes()));
+            return new ChapterDocument(
+                    chapter.getId(),
+                    chapter.getTitle(),
+                    chapter.getScenes().stream().map(SceneDocument::from).toList()
+            );
         }
 
         Chapter toModel() {
-            return new Chapter(id, title, scenes);
+            List<Scene> models = new ArrayList<>();
+            if (scenes != null) {
+                for (SceneDocument scene : scenes) {
+                    models.add(scene.toModel());
+                }
+            }
+            return new Chapter(id, title, models);
+        }
+    }
+
+    record SceneDocument(String id, String title, String synopsis, String content, String pointOfViewCharacterId) {
+        static SceneDocument from(Scene scene) {
+            return new SceneDocument(
+                    scene.getId(),
+                    scene.getTitle(),
+                    scene.getSynopsis(),
+                    scene.getContent(),
+                    scene.getPointOfViewCharacterId()
+            );
+        }
+
+        static SceneDocument metadata(Scene scene) {
+            return new SceneDocument(
+                    scene.getId(),
+                    scene.getTitle(),
+                    scene.getSynopsis(),
+                    null,
+                    scene.getPointOfViewCharacterId()
+            );
+        }
+
+        SceneDocument withContent(String content) {
+            return new SceneDocument(id, title, synopsis, content, pointOfViewCharacterId);
+        }
+
+        Scene toModel() {
+            return new Scene(id, title, synopsis, content, pointOfViewCharacterId);
+        }
+    }
+
+    record CharacterDocument(String id, String name, String description) {
+        static CharacterDocument from(Character character) {
+            return new CharacterDocument(character.getId(), character.getName(), character.getDescription());
+        }
+
+        Character toModel() {
+            return new Character(id, name, description);
+        }
+    }
+
+    private record EmotionCacheDocument(List<EmotionCacheEntry> entries) {
+        static EmotionCacheDocument from(EmotionCache cache) {
+            return new EmotionCacheDocument(cache.snapshot().getEntries());
+        }
+    }
+
+    private static final class ArchiveSource {
+        private volatile Path path;
+
+        private ArchiveSource(Path path) {
+            this.path = path;
+        }
+
+        private void rebind(Path path) {
+            this.path = path;
+        }
+    }
+
+    private final class ArchiveChapterLoader implements Supplier<List<Scene>> {
+        private final ArchiveSource source;
+        private final String chapterId;
+        private final String title;
+        private final List<String> sceneEntries;
+
+        private ArchiveChapterLoader(ArchiveSource source, String chapterId, String title, List<String> sceneEntries) {
+            this.source = source;
+            this.chapterId = chapterId;
+            this.title = title;
+            this.sceneEntries = List.copyOf(sceneEntries);
         }
+
+        @Override
+        public List<Scene> get() {
+            Path path = source.path;
+            try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+                return readChapterModel(zip, chapterId).getScenes();
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to load chapter " + chapterId + " from " + path, exception);
+            }
+        }
+
+        private boolean canCopy(Chapter chapter) {
+            return chapterId.equals(chapter.getId()) && title.equals(chapter.getTitle());
+        }
+
+        private ArchiveEntryCopy copy(Map<Path, ArchiveRawEntries> copySources) {
+            List<String> entryNames = new ArrayList<>();
+            entryNames.add(ProjectArchiveLayout.chapterFile(chapterId));
+            entryNames.addAll(sceneEntries);
+            return new ArchiveEntryCopy(source.path, "chapter " + chapterId, entryNames, rawEntries(copySources, source.path));
+        }
+    }
+
+    private final class ArchiveAnalysisLoader implements Supplier<ProjectAnalysis> {
+        private final ArchiveSource source;
+        private final List<String> entryNames;
+
+        private ArchiveAnalysisLoader(ArchiveSource source, List<String> entryNames) {
+            this.source = source;
+            this.entryNames = List.copyOf(entryNames);
+        }
+
+        @Override
+        public ProjectAnalysis get() {
+            Path path = source.path;
+            try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+                EmotionAnalysisReport report = hasEntry(zip, ProjectArchiveLayout.EMOTION_ANALYSIS_FILE)
+                        ? readEntry(zip, ProjectArchiveLayout.EMOTION_ANALYSIS_FILE, ProjectArchiveStore.this::readEmotionAnalysis)
+                        : null;
+                EmotionCache cache = hasEntry(zip, ProjectArchiveLayout.EMOTION_CACHE_FILE)
+                        ? readEntry(zip, ProjectArchiveLayout.EMOTION_CACHE_FILE, ProjectArchiveStore.this::readEmotionCache)
+                        : new EmotionCache();
+                return new ProjectAnalysis(report, cache);
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to load analysis from " + path, exception);
+            }
+        }
+
+        private ArchiveEntryCopy copy(Map<Path, ArchiveRawEntries> copySources) {
+            return new ArchiveEntryCopy(source.path, "analysis", entryNames, rawEntries(copySources, source.path));
+        }
+    }
+
+    private ArchiveRawEntries rawEntries(Map<Path, ArchiveRawEntries> copySources, Path sourcePath) {
+        return copySources.computeIfAbsent(archiveKey(sourcePath), ignored -> ArchiveRawEntries.open(sourcePath, recordedEntryHashes(sourcePath)));
+    }
+
+    private final class ArchiveEntryCopy {
+        private final Path path;
+        private final String description;
+        private final List<String> entryNames;
+        private final ArchiveRawEntries rawEntries;
+        private Map<String, byte[]> copiedEntries;
+
+        private ArchiveEntryCopy(Path path, String description, List<String> entryNames, ArchiveRawEntries rawEntries) {
+            this.path = path;
+            this.description = description;
+            this.entryNames = entryNames;
+            this.rawEntries = rawEntries;
+        }
+
+        List<String> entryNames() {
+            return entryNames;
+        }
+
+        EncodedArchiveEntry raw(String entryName) throws IOException {
+            return rawEntries.copy(entryName);
+        }
+
+        synchronized byte[] bytes(String entryName) {
+            if (copiedEntries == null) {
+                copiedEntries = readAll();
+            }
+            return copiedEntries.get(entryName);
+        }
+
+        private Map<String, byte[]> readAll() {
+            Map<String, byte[]> entries = new HashMap<>();
+            try (ArchiveReader zip = ArchiveReader.open(path, readOptions)) {
+                for (String entryName : entryNames) {
+                    entries.put(entryName, readEntry(zip, entryName, input -> {
+                        try {
+                            return input.readAllBytes();
+                        } catch (IOException exception) {
+                            throw new UncheckedIOException(exception);
+                        }
+                    }));
+                }
+                return entries;
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Unable to copy " + description + " from " + path, exception);
+            }
+        }
+    }
+
+    private final class EntryEncoder {
+        private final ArchiveEntryCache.SavedArchive previous;
+        private final ArchiveRawEntries recordedEntries;
+        private final List<PendingEntry> pendingEntries = new ArrayList<>();
+        private final Map<String, ArchiveEntryCache.CachedEntry> entries = new LinkedHashMap<>();
+        private final AtomicInteger encodedEntries = new AtomicInteger();
+        private final AtomicInteger copiedEntries = new AtomicInteger();
+        private int reusedEntries;
+
+        private EntryEncoder(ArchiveEntryCache.SavedArchive previous, ArchiveRawEntries recordedEntries) {
+            this.previous = previous;
+            this.recordedEntries = recordedEntries;
+        }
+
+        void add(String name, Object source) {
+            add(name, source, () -> toJsonBytes(source));
+        }
+
+        void addText(String name, String content) {
+            add(name, content, () -> content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void add(String name, Object source, Supplier<byte[]> content) {
+            if (reuseCached(name, source)) {
+                return;
+            }
+            pendingEntries.add(new PendingEntry(name, source, () -> {
+                byte[] bytes = content.get();
+                EncodedArchiveEntry recorded = recordedEntries.reuse(name, bytes);
+                if (recorded != null) {
+                    copiedEntries.incrementAndGet();
+                    return recorded;
+                }
+                encodedEntries.incrementAndGet();
+                return EncodedArchiveEntry.encode(name, bytes, compression);
+            }));
+        }
+
+        void addCopy(String name, Object source, ArchiveEntryCopy copy) {
+            if (reuseCached(name, source)) {
+                return;
+            }
+            pendingEntries.add(new PendingEntry(name, source, () -> {
+                EncodedArchiveEntry raw = copy.raw(name);
+                if (raw != null) {
+                    copiedEntries.incrementAndGet();
+                    return raw;
+                }
+                encodedEntries.incrementAndGet();
+                return EncodedArchiveEntry.encode(name, copy.bytes(name), compression);
+            }));
+        }
+
+        private boolean reuseCached(String name, Object source) {
+            ArchiveEntryCache.CachedEntry cached = previous == null ? null : previous.entry(name);
+            if (cached == null || !cached.source().equals(source)) {
+                return false;
+            }
+            reusedEntries++;
+            EncodedArchiveEntry encoded = cached.encoded();
+            pendingEntries.add(new PendingEntry(name, source, () -> encoded));
+            return true;
+        }
+
+        void addDirectory(String name) {
+            EncodedArchiveEntry directory = EncodedArchiveEntry.directory(name);
+            pendingEntries.add(new PendingEntry(name, null, () -> directory));
+        }
+
+        List<EncodedArchiveEntry> encodeAll() throws IOException {
+            List<Callable<EncodedArchiveEntry>> tasks = new ArrayList<>(pendingEntries.size());
+            for (PendingEntry pending : pendingEntries) {
+                tasks.add(pending.task());
+            }
+            List<EncodedArchiveEntry> encoded = archiveTasks.run(tasks);
+            for (int index = 0; index < pendingEntries.size(); index++) {
+                PendingEntry pending = pendingEntries.get(index);
+                if (pending.source() != null) {
+                    entries.put(pending.name(), new ArchiveEntryCache.CachedEntry(pending.source(), encoded.get(index)));
+                }
+            }
+            return encoded;
+        }
+
+        EncodedArchiveEntry reencode(String name, Object source) {
+            EncodedArchiveEntry encoded = EncodedArchiveEntry.encode(name, toJsonBytes(source), compression);
+            entries.put(name, new ArchiveEntryCache.CachedEntry(source, encoded));
+            return encoded;
+        }
+
+        ArchiveEntryCache.SavedArchive savedArchive() {
+            return new ArchiveEntryCache.SavedArchive(entries, encodedEntries.get(), reusedEntries, copiedEntries.get());
+        }
+    }
+
+    private record ArchiveWrite(Set<ArchiveSource> lazySources, boolean written) {
+    }
+
+    private record PendingEntry(String name, Object source, Callable<EncodedArchiveEntry> task) {
     }
 }
@@ -0,0 +1,83 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public final class ProjectArchiveWatcher implements AutoCloseable {
+    private final ProjectArchiveStore store;
+    private final Path directory;
+    private final Consumer<ArchiveChangeSet> onExternalChange;
+    private final Consumer<RuntimeException> onError;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    public ProjectArchiveWatcher(
+            ProjectArchiveStore store,
+            Consumer<ArchiveChangeSet> onExternalChange,
+            Consumer<RuntimeException> onError
+    ) {
+        this.store = Objects.requireNonNull(store);
+        this.directory = store.getBaseDirectory();
+        this.onExternalChange = Objects.requireNonNull(onExternalChange);
+        this.onError = Objects.requireNonNull(onError);
+        try {
+            Files.createDirectories(directory);
+            this.watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to watch project directory: " + directory, exception);
+        }
+        this.thread = new Thread(this::watch, "storyflame-archive-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+        thread.interrupt();
+    }
+
+    private void watch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException exception) {
+                return;
+            }
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.context() instanceof Path fileName
+                        && fileName.toString().endsWith(ProjectStoragePaths.ARCHIVE_EXTENSION)) {
+                    check(directory.resolve(fileName));
+                }
+            }
+            if (!key.reset()) {
+                return;
+            }
+        }
+    }
+
+    private void check(Path archive) {
+        try {
+            ArchiveChangeSet changes = store.detectExternalChanges(archive);
+            if (!changes.isEmpty()) {
+                onExternalChange.accept(changes);
+            }
+        } catch (RuntimeException exception) {
+            onError.accept(exception);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.storyflame.core.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+final class ProjectArchiveWriter implements Closeable {
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int VERSION = 20;
+    private static final int UTF8_NAMES_FLAG = 0x0800;
+    private static final int MAX_ENTRIES = 0xFFFF;
+    private static final long MAX_SIZE = 0xFFFFFFFFL;
+
+    private final OutputStream output;
+    private final int dosTime;
+    private final int dosDate;
+    private final List<WrittenEntry> writtenEntries = new ArrayList<>();
+    private long offset;
+    private boolean finished;
+
+    ProjectArchiveWriter(OutputStream output) {
+        this(output, LocalDateTime.now());
+    }
+
+    ProjectArchiveWriter(OutputStream output, LocalDateTime modifiedAt) {
+        this.output = Objects.requireNonNull(output);
+        LocalDateTime timestamp = modifiedAt.getYear() < 1980 ? LocalDateTime.of(1980, 1, 1, 0, 0) : modifiedAt;
+        this.dosTime = (timestamp.getHour() << 11) | (timestamp.getMinute() << 5) | (timestamp.getSecond() >> 1);
+        this.dosDate = ((timestamp.getYear() - 1980) << 9) | (timestamp.getMonthValue() << 5) | timestamp.getDayOfMonth();
+    }
+
+    void write(EncodedArchiveEntry entry) throws IOException {
+        if (finished) {
+            throw new IOException("Archive writer is already finished");
+        }
+        if (writtenEntries.size() >= MAX_ENTRIES) {
+            throw new IOException("Project archive exceeds " + MAX_ENTRIES + " entries");
+        }
+        if (entry.size() > MAX_SIZE || entry.compressedSize() > MAX_SIZE || offset > MAX_SIZE) {
+            throw new IOException("Project archive entry is too large: " + entry.name());
+        }
+        byte[] name = entry.name().getBytes(StandardCharsets.UTF_8);
+        long localHeaderOffset = offset;
+        writeInt(LOCAL_HEADER_SIGNATURE);
+        writeShort(VERSION);
+        writeShort(UTF8_NAMES_FLAG);
+        writeShort(entry.method());
+        writeShort(dosTime);
+        writeShort(dosDate);
+        writeInt(entry.crc());
+        writeInt(entry.compressedSize());
+        writeInt(entry.size());
+        writeShort(name.length);
+        writeShort(0);
+        writeBytes(name);
+        writeBytes(entry.data());
+        writtenEntries.add(new WrittenEntry(entry, name, localHeaderOffset));
+    }
+
+    void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        long centralDirectoryOffset = offset;
+        for (WrittenEntry written : writtenEntries) {
+            EncodedArchiveEntry entry = written.entry();
+            writeInt(CENTRAL_HEADER_SIGNATURE);
+            writeShort(VERSION);
+            writeShort(VERSION);
+            writeShort(UTF8_NAMES_FLAG);
+            writeShort(entry.method());
+            writeShort(dosTime);
+            writeShort(dosDate);
+            writeInt(entry.crc());
+            writeInt(entry.compressedSize());
+            writeInt(entry.size());
+            writeShort(written.name().length);
+            writeShort(0);
+            writeShort(0);
+            writeShort(0);
+            writeShort(0);
+            writeInt(0);
+            writeInt(written.localHeaderOffset());
+            writeBytes(written.name());
+        }
+        long centralDirectorySize = offset - centralDirectoryOffset;
+        if (centralDirectoryOffset > MAX_SIZE) {
+            throw new IOException("Project archive is too large");
+        }
+        writeInt(END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+        writeShort(0);
+        writeShort(0);
+        writeShort(writtenEntries.size());
+        writeShort(writtenEntries.size());
+        writeInt(centralDirectorySize);
+        writeInt(centralDirectoryOffset);
+        writeShort(0);
+        output.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private void writeShort(int value) throws IOException {
+        output.write(value & 0xFF);
+        output.write((value >>> 8) & 0xFF);
+        offset += 2;
+    }
+
+    private void writeInt(long value) throws IOException {
+        output.write((int) (value & 0xFF));
+        output.write((int) ((value >>> 8) & 0xFF));
+        output.write((int) ((value >>> 16) & 0xFF));
+        output.write((int) ((value >>> 24) & 0xFF));
+        offset += 4;
+    }
+
+    private void writeBytes(byte[] value) throws IOException {
+        output.write(value);
+        offset += value.length;
+    }
+
+    private record WrittenEntry(EncodedArchiveEntry entry, byte[] name, long localHeaderOffset) {
+    }
+}
@@ -1,34 +1,42 @@
 package io.storyflame.core.storage;
 
-import io.storyflame.core.analysis.EmotionAnalysisReport;
-import io.storyflame.core.analysis.EmotionCache;
-import io.storyflame.core.analysis.EmotionCacheEntry;
-import io.storyflame.core.analysis.EmotionChunkAnalysis;
-import io.storyflame.core.analysis.EmotionLabel;
+import io.storyflame.core.analysis.ProjectAnalysis;
 import io.storyflame.core.model.Chapter;
 import io.storyflame.core.model.Character;
+import io.storyflame.core.model.ModelRevision;
 import io.storyflame.core.model.Project;
 import io.storyflame.core.model.Scene;
 import io.storyflame.core.tags.CharacterTagProfile;
-import io.storyflame.core.tags.NarrativeTag;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 public final class ProjectAutosaveService implements AutoCloseable {
+    static final int COMPACTION_DELAY_FACTOR = 15;
+    static final long COMPACTION_THRESHOLD_BYTES = ProjectEditJournal.MAX_JOURNAL_BYTES / 2;
+
     private final ProjectArchiveStore store;
     private final Duration delay;
+    private final Duration compactionDelay;
     private final Scheduler scheduler;
+    private final Map<Path, ProjectEditJournal> journals = new HashMap<>();
+    private final Map<Path, Long> savedRevisions = new HashMap<>();
     private ScheduledFuture<?> pendingSave;
+    private Runnable pendingTask;
+    private boolean pendingJournalCompaction;
+    private boolean pendingFullSave;
 
     public ProjectAutosaveService(ProjectArchiveStore store, Duration delay) {
         this(store, delay, Scheduler.threadBacked());
@@ -37,6 +45,7 @@ public final class ProjectAutosaveService implements AutoCloseable {
     ProjectAutosaveService(ProjectArchiveStore store, Duration delay, Scheduler scheduler) {
         this.store = Objects.requireNonNull(store);
         this.delay = Objects.requireNonNull(delay);
+        this.compactionDelay = delay.multipliedBy(COMPACTION_DELAY_FACTOR);
         this.scheduler = Objects.requireNonNull(scheduler);
     }
 
@@ -44,14 +53,44 @@ public final class ProjectAutosaveService implements AutoCloseable {
         schedule(project, path, onSaved, null);
     }
 
+    public synchronized void scheduleSceneEdit(
+            Project project,
+            Path path,
+            String chapterId,
+            Scene scene,
+            Runnable onSaved,
+            Consumer<Exception> onError
+    ) {
+        ProjectEditJournal journal = journal(path);
+        journal.recordSceneContent(chapterId, scene.getId(), scene.getContent());
+        Exception failure = journal.takeFailure();
+        if (failure != null && onError != null) {
+            onError.accept(failure);
+        }
+        boolean fullSave = pendingFullSave && pendingSave != null && !pendingSave.isDone();
+        Duration wait = fullSave || journal.size() >= COMPACTION_THRESHOLD_BYTES ? delay : compactionDelay;
+        scheduleSave(project, path, onSaved, onError, wait);
+        pendingFullSave = fullSave;
+    }
+
     public synchronized void schedule(Project project, Path path, Runnable onSaved, Consumer<Exception> onError) {
+        scheduleSave(project, path, onSaved, onError, delay);
+        pendingFullSave = true;
+    }
+
+    private void scheduleSave(Project project, Path path, Runnable onSaved, Consumer<Exception> onError, Duration wait) {
         if (pendingSave != null) {
             pendingSave.cancel(false);
         }
+        long revision = ModelRevision.current();
         Project snapshot = snapshot(project);
-        pendingSave = scheduler.schedule(() -> {
+        ProjectEditJournal journal = journal(path);
+        long journalPosition = journal.position();
+        pendingJournalCompaction = journal.hasUncompactedEdits();
+        pendingTask = () -> {
             try {
-                store.save(snapshot, path);
+                journal.checkpoint(journalPosition, () -> store.save(snapshot, path));
+                markSaved(path, revision);
                 if (onSaved != null) {
                     onSaved.run();
                 }
@@ -60,15 +99,44 @@ public final class ProjectAutosaveService implements AutoCloseable {
                     onError.accept(exception);
                 }
             }
-        }, delay);
+        };
+        pendingSave = scheduler.schedule(pendingTask, wait);
     }
 
     @Override
     public synchronized void close() {
-        if (pendingSave != null) {
-            pendingSave.cancel(false);
+        if (pendingSave != null && pendingSave.cancel(false) && pendingJournalCompaction) {
+            pendingTask.run();
         }
         scheduler.shutdown();
+        journals.values().forEach(ProjectEditJournal::close);
+    }
+
+    public synchronized void markLoaded(Path path) {
+        savedRevisions.put(key(path), 0L);
+    }
+
+    public synchronized void markSaved(Path path, long revision) {
+        savedRevisions.merge(key(path), revision, Math::max);
+    }
+
+    public synchronized Set<String> unsavedChapterIds(Project project, Path path) {
+        Long savedRevision = savedRevisions.get(key(path));
+        Set<String> unsaved = new LinkedHashSet<>();
+        for (Chapter chapter : project.getChapters()) {
+            if (savedRevision == null || chapter.getContentRevision() > savedRevision) {
+                unsaved.add(chapter.getId());
+            }
+        }
+        return unsaved;
+    }
+
+    synchronized ProjectEditJournal journal(Path path) {
+        return journals.computeIfAbsent(key(path), ProjectEditJournal::new);
+    }
+
+    private static Path key(Path path) {
+        return path.toAbsolutePath().normalize();
     }
 
     interface Scheduler {
@@ -98,61 +166,22 @@ public final class ProjectAutosaveService implements AutoCloseable {
 
     private static Project snapshot(Project project) {
         Objects.requireNonNull(project);
-        return new Project(
+        Supplier<ProjectAnalysis> pendingAnalysis = project.getPendingAnalysisLoader();
+        Project snapshot = new Project(
                 project.getId(),
                 project.getTitle(),
                 project.getAuthor(),
                 project.getCreatedAt(),
                 project.getUpdatedAt(),
-                copyChapters(project.getChapters()),
-                copyCharacters(project.getCharacters()),
-                copyNarrativeTags(project.getNarrativeTags()),
+                project.getChapters().stream().map(Chapter::snapshot).toList(),
+                project.getCharacters().stream().map(Character::snapshot).toList(),
+                project.getNarrativeTags(),
                 copyCharacterTagProfiles(project.getCharacterTagProfiles()),
-                copyEmotionAnalysis(project.getEmotionAnalysis()),
-                copyEmotionCache(project.getEmotionCache())
+                pendingAnalysis == null ? project.getEmotionAnalysis() : null,
+                pendingAnalysis == null ? project.getEmotionCache().snapshot() : null
         );
-    }
-
-    private static List<Chapter> copyChapters(List<Chapter> chapters) {
-        List<Chapter> copies = new ArrayList<>();
-        for (Chapter chapter : chapters) {
-            copies.add(new Chapter(
-                    chapter.getId(),
-                    chapter.getTitle(),
-                    copyScenes(chapter.getScenes())
-            ));
-        }
-        return copies;
-    }
-
-    private static List<Scene> copyScenes(List<Scene> scenes) {
-        List<Scene> copies = new ArrayList<>();
-        for (Scene scene : scenes) {
-            copies.add(new Scene(
-                    scene.getId(),
-                    scene.getTitle(),
-                    scene.getSynopsis(),
-                    scene.getContent(),
-                    scene.getPointOfViewCharacterId()
-            ));
-        }
-        return copies;
-    }
-
-    private static List<Character> copyCharacters(List<Character> characters) {
-        List<Character> copies = new ArrayList<>();
-        for (Character character : characters) {
-            copies.add(new Character(
-                    character.getId(),
-                    character.getName(),
-                    character.getDescription()
-            ));
-        }
-        return copies;
-    }
-
-    private static List<NarrativeTag> copyNarrativeTags(List<NarrativeTag> tags) {
-        return tags == null ? List.of() : new ArrayList<>(tags);
+        snapshot.loadAnalysisLazily(pendingAnalysis);
+        return snapshot;
     }
 
     private static List<CharacterTagProfile> copyCharacterTagProfiles(List<CharacterTagProfile> profiles) {
@@ -166,77 +195,4 @@ public final class ProjectAutosaveService implements AutoCloseable {
         }
         return copies;
     }
-
-    private static EmotionAnalysisReport copyEmotionAnalysis(EmotionAnalysisReport report) {
-        if (report == null) {
-            return null;
-        }
-        return new EmotionAnalysisReport(
-                report.generatedAt(),
-                report.chunkCount(),
-                report.overallSentiment(),
-                report.dominantEmotion(),
-                copyEmotionScores(report.averageEmotionScores()),
-                copyChunkAnalyses(report.chunks())
-        );
-    }
-
-    private static List<EmotionChunkAnalysis> copyChunkAnalyses(List<EmotionChunkAnalysis> chunks) {
-        if (chunks == null) {
-            return List.of();
-        }
-        List<EmotionChunkAnalysis> copies = new ArrayList<>();
-        for (EmotionChunkAnalysis chunk : chunks) {
-            copies.add(new EmotionChunkAnalysis(
-                    chunk.chapterId(),
-                    chunk.chapterTitle(),
-                    chunk.sceneId(),
-                    chunk.sceneTitle(),
-                    chunk.excerpt(),
-                    chunk.wordCount(),
-                    chunk.chunkIndex(),
-                    chunk.sentiment(),
-                    chunk.dominantEmotion(),
-                    copyEmotionScores(chunk.emotionScores())
-            ));
-        }
-        return copies;
-    }
-
-    private static Map<EmotionLabel, Double> copyEmotionScores(Map<EmotionLabel, Double> scores) {
-        return scores == null ? Map.of() : new LinkedHashMap<>(scores);
-    }
-
-    private static EmotionCache copyEmotionCache(EmotionCache cache) {
-        if (cache == null) {
-            return new EmotionCache();
-        }
-        List<EmotionCacheEntry> copiedEntries = new ArrayList<>();
-        for (EmotionCacheEntry entry : cache.getEntries()) {
-            copiedEntries.add(new EmotionCacheEntry(
-                    entry.sceneId(),
-                    entry.contentHash(),
-                    copyEmotionChunkAnalysis(entry.analysis())
-            ));
-        }
-        return new EmotionCache(copiedEntries);
-    }
-
-    private static EmotionChunkAnalysis copyEmotionChunkAnalysis(EmotionChunkAnalysis chunk) {
-        if (chunk == null) {
-            return null;
-        }
-        return new EmotionChunkAnalysis(
-                chunk.chapterId(),
-                chunk.chapterTitle(),
-                chunk.sceneId(),
-                chunk.sceneTitle(),
-                chunk.excerpt(),
-                chunk.wordCount(),
-                chunk.chunkIndex(),
-                chunk.sentiment(),
-                chunk.dominantEmotion(),
-                copyEmotionScores(chunk.emotionScores())
-        );
-    }
 }
@@ -1,89 +1,353 @@
 package io.storyflame.core.storage;
 
+import com.google.gson.Gson;
+import io.storyflame.core.archive.ProjectArchiveLayout;
+import io.storyflame.core.archive.ProjectManifest;
 import io.storyflame.core.model.Project;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 public final class ProjectBackupService {
     private static final DateTimeFormatter BACKUP_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
             .withZone(ZoneOffset.UTC);
+    private static final String BLOBS_DIRECTORY = "blobs";
 
     private final Path backupRootDirectory;
     private final int maxBackupsPerProject;
     private final Duration minimumInterval;
+    private final BackupBlobStore blobStore;
+    private final Gson gson;
+    private final Map<Path, BackupCatalog> catalogs = new HashMap<>();
+    private final Set<Path> backupsInProgress = new HashSet<>();
+    private boolean garbagePending;
 
     public ProjectBackupService(Path backupRootDirectory, int maxBackupsPerProject, Duration minimumInterval) {
         this.backupRootDirectory = Objects.requireNonNull(backupRootDirectory);
         this.maxBackupsPerProject = Math.max(1, maxBackupsPerProject);
         this.minimumInterval = Objects.requireNonNull(minimumInterval);
+        this.blobStore = new BackupBlobStore(backupRootDirectory.resolve(BLOBS_DIRECTORY));
+        this.gson = JsonMapperFactory.createCompact();
     }
 
     public Path createBackup(Path archivePath, Project project) {
+        return createBackup(archivePath, project, IoThrottle.UNLIMITED);
+    }
+
+    Path createBackup(Path archivePath, Project project, IoThrottle throttle) {
         Objects.requireNonNull(archivePath);
         Objects.requireNonNull(project);
         if (Files.notExists(archivePath)) {
             return null;
         }
+        Path projectBackupDirectory = ProjectStoragePaths.backupDirectory(backupRootDirectory, project);
         try {
-            Path projectBackupDirectory = ProjectStoragePaths.backupDirectory(backupRootDirectory, project);
-            Files.createDirectories(projectBackupDirectory);
-            Instant now = Instant.now();
-            if (hasRecentBackup(projectBackupDirectory, now)) {
+            PendingBackup pending = beginBackup(projectBackupDirectory);
+            if (pending == null) {
                 return null;
             }
-            String fileName = BACKUP_TIMESTAMP.format(now)
-                    + "-"
-                    + ProjectStoragePaths.sanitize(project.getTitle().isBlank() ? "project" : project.getTitle())
-                    + ProjectStoragePaths.ARCHIVE_EXTENSION;
+            try {
+                String fileName = BACKUP_TIMESTAMP.format(pending.createdAt())
+                        + "-"
+                        + ProjectStoragePaths.sanitize(project.getTitle().isBlank() ? "project" : project.getTitle())
+                        + ProjectStoragePaths.BACKUP_MANIFEST_EXTENSION;
+                BackupManifest manifest = storeArchive(archivePath, project, pending.createdAt(), pending.previous(), throttle);
+                return completeBackup(projectBackupDirectory, fileName, manifest, Files.size(archivePath));
+            } finally {
+                abandonBackup(projectBackupDirectory);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to create project backup for " + archivePath, exception);
+        }
+    }
+
+    private synchronized PendingBackup beginBackup(Path projectBackupDirectory) throws IOException {
+        if (backupsInProgress.contains(projectBackupDirectory)) {
+            return null;
+        }
+        Files.createDirectories(projectBackupDirectory);
+        BackupCatalog catalog = catalog(projectBackupDirectory);
+        Instant now = Instant.now();
+        if (hasRecentBackup(catalog, now)) {
+            return null;
+        }
+        backupsInProgress.add(projectBackupDirectory);
+        return new PendingBackup(now, latestManifest(projectBackupDirectory, catalog));
+    }
+
+    private synchronized Path completeBackup(Path projectBackupDirectory, String fileName, BackupManifest manifest, long size)
+            throws IOException {
+        try {
             Path backupPath = projectBackupDirectory.resolve(fileName);
-            Files.copy(archivePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
-            trimBackups(projectBackupDirectory);
+            writeManifest(backupPath, manifest);
+            BackupCatalog catalog = catalog(projectBackupDirectory);
+            catalog.add(new BackupCatalog.Entry(fileName, manifest.createdAt(), size, archiveHash(manifest)));
+            trimBackups(projectBackupDirectory, catalog);
             return backupPath;
+        } finally {
+            finishBackup(projectBackupDirectory);
+        }
+    }
+
+    private synchronized void abandonBackup(Path projectBackupDirectory) throws IOException {
+        if (backupsInProgress.contains(projectBackupDirectory)) {
+            finishBackup(projectBackupDirectory);
+        }
+    }
+
+    private void finishBackup(Path projectBackupDirectory) throws IOException {
+        backupsInProgress.remove(projectBackupDirectory);
+        if (garbagePending && backupsInProgress.isEmpty()) {
+            garbagePending = false;
+            collectGarbage();
+        }
+    }
+
+    public synchronized Path restoreBackup(Path backupPath, Path targetPath) {
+        Objects.requireNonNull(backupPath);
+        Objects.requireNonNull(targetPath);
+        try {
+            if (backupPath.getFileName().toString().endsWith(ProjectStoragePaths.ARCHIVE_EXTENSION)) {
+                ArchiveFiles.writeAtomically(targetPath, output -> Files.copy(backupPath, output));
+                return targetPath;
+            }
+            BackupManifest manifest = readManifest(backupPath);
+            ArchiveFiles.writeAtomically(targetPath, output -> {
+                ProjectArchiveWriter writer = new ProjectArchiveWriter(output);
+                for (BackupManifest.Entry entry : manifest.entries()) {
+                    writer.write(entry.directory()
+                            ? EncodedArchiveEntry.directory(entry.name())
+                            : new EncodedArchiveEntry(entry.name(), entry.archiveMethod(), entry.crc(), entry.size(), blobStore.read(entry.blob()), entry.hash()));
+                }
+                writer.finish();
+            });
+            return targetPath;
         } catch (IOException exception) {
-            throw new UncheckedIOException("Unable to create project backup for " + archivePath, exception);
+            throw new UncheckedIOException("Unable to restore project backup " + backupPath, exception);
         }
     }
 
-    private boolean hasRecentBackup(Path projectBackupDirectory, Instant now) throws IOException {
-        try (var stream = Files.list(projectBackupDirectory)) {
-            Path latestBackup = stream
-                    .filter(path -> path.getFileName().toString().endsWith(ProjectStoragePaths.ARCHIVE_EXTENSION))
-                    .max(Comparator.comparing(this::lastModifiedTime))
-                    .orElse(null);
-            if (latestBackup == null) {
-                return false;
+    public synchronized List<ProjectBackupVersion> listBackups(Project project) {
+        Objects.requireNonNull(project);
+        Path projectBackupDirectory = ProjectStoragePaths.backupDirectory(backupRootDirectory, project);
+        if (Files.notExists(projectBackupDirectory)) {
+            return List.of();
+        }
+        try {
+            List<ProjectBackupVersion> versions = new ArrayList<>();
+            for (BackupCatalog.Entry entry : catalog(projectBackupDirectory).newestFirst()) {
+                versions.add(new ProjectBackupVersion(
+                        projectBackupDirectory.resolve(entry.fileName()),
+                        entry.createdAt(),
+                        entry.size(),
+                        entry.archiveHash()
+                ));
             }
-            Instant latestModified = lastModifiedTime(latestBackup);
-            return latestModified.plus(minimumInterval).isAfter(now);
+            return List.copyOf(versions);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read backup catalog for " + projectBackupDirectory, exception);
         }
     }
 
-    private void trimBackups(Path projectBackupDirectory) throws IOException {
-        try (var stream = Files.list(projectBackupDirectory)) {
-            var backups = stream
-                    .filter(path -> path.getFileName().toString().endsWith(ProjectStoragePaths.ARCHIVE_EXTENSION))
-                    .sorted(Comparator.comparing(this::lastModifiedTime).reversed())
-                    .toList();
-            for (int index = maxBackupsPerProject; index < backups.size(); index++) {
-                Files.deleteIfExists(backups.get(index));
+    private BackupManifest storeArchive(
+            Path archivePath,
+            Project project,
+            Instant now,
+            BackupManifest previous,
+            IoThrottle throttle
+    ) throws IOException {
+        List<BackupManifest.Entry> entries = new ArrayList<>();
+        try (ZipFile zip = new ZipFile(archivePath.toFile())) {
+            Map<String, String> recordedHashes = recordedEntryHashes(zip);
+            try (ArchiveRawEntries rawEntries = ArchiveRawEntries.open(archivePath, recordedHashes)) {
+                for (ZipEntry zipEntry : zip.stream().toList()) {
+                    if (zipEntry.isDirectory()) {
+                        entries.add(BackupManifest.Entry.directory(zipEntry.getName()));
+                        continue;
+                    }
+                    BackupManifest.Entry previousEntry = previous == null ? null : previous.entry(zipEntry.getName());
+                    String hash = recordedHashes.get(zipEntry.getName());
+                    byte[] content = null;
+                    if (hash == null || !matchesRecordedHash(previousEntry, hash, zipEntry)) {
+                        content = readContent(zip, zipEntry, throttle);
+                        hash = EncodedArchiveEntry.contentHash(content);
+                    }
+                    if (previousEntry != null
+                            && !previousEntry.directory()
+                            && hash.equals(previousEntry.hash())
+                            && blobStore.contains(previousEntry.blob())) {
+                        entries.add(previousEntry);
+                        continue;
+                    }
+                    EncodedArchiveEntry encoded = rawEntries.copy(zipEntry.getName(), hash);
+                    if (encoded == null) {
+                        encoded = EncodedArchiveEntry.deflated(zipEntry.getName(), content == null ? readContent(zip, zipEntry, throttle) : content);
+                    }
+                    throttle.acquire(encoded.compressedSize());
+                    BackupManifest.Entry entry = new BackupManifest.Entry(
+                            zipEntry.getName(),
+                            false,
+                            encoded.crc(),
+                            encoded.size(),
+                            encoded.hash(),
+                            encoded.method()
+                    );
+                    blobStore.put(entry.blob(), encoded.data());
+                    entries.add(entry);
+                }
             }
         }
+        return new BackupManifest(BackupManifest.CURRENT_VERSION, project.getId(), project.getTitle(), now, List.copyOf(entries));
     }
 
-    private Instant lastModifiedTime(Path path) {
+    private Map<String, String> recordedEntryHashes(ZipFile zip) {
+        ZipEntry manifestEntry = zip.getEntry(ProjectArchiveLayout.MANIFEST_FILE);
+        if (manifestEntry == null) {
+            return Map.of();
+        }
+        try (Reader reader = new InputStreamReader(zip.getInputStream(manifestEntry), StandardCharsets.UTF_8)) {
+            ProjectManifest manifest = gson.fromJson(reader, ProjectManifest.class);
+            return manifest == null || manifest.entries() == null ? Map.of() : manifest.entries();
+        } catch (IOException | RuntimeException exception) {
+            return Map.of();
+        }
+    }
+
+    private static boolean matchesRecordedHash(BackupManifest.Entry previousEntry, String hash, ZipEntry zipEntry) {
+        return previousEntry == null
+                || !hash.equals(previousEntry.hash())
+                || previousEntry.crc() == zipEntry.getCrc() && previousEntry.size() == zipEntry.getSize();
+    }
+
+    private static byte[] readContent(ZipFile zip, ZipEntry zipEntry, IoThrottle throttle) throws IOException {
+        byte[] content;
+        try (InputStream input = zip.getInputStream(zipEntry)) {
+            content = input.readAllBytes();
+        }
+        throttle.acquire(content.length);
+        return content;
+    }
+
+    private BackupCatalog catalog(Path projectBackupDirectory) throws IOException {
+        BackupCatalog catalog = catalogs.get(projectBackupDirectory);
+        if (catalog == null) {
+            catalog = BackupCatalog.load(backupRootDirectory, projectBackupDirectory, gson);
+            catalogs.put(projectBackupDirectory, catalog);
+        }
+        return catalog;
+    }
+
+    private BackupManifest latestManifest(Path projectBackupDirectory, BackupCatalog catalog) {
+        BackupCatalog.Entry latest = catalog.latest();
+        if (latest == null || !latest.manifest()) {
+            return null;
+        }
         try {
-            return Files.getLastModifiedTime(path).toInstant();
-        } catch (IOException exception) {
-            throw new UncheckedIOException("Unable to read last modified time for " + path, exception);
+            return readManifest(projectBackupDirectory.resolve(latest.fileName()));
+        } catch (IOException | RuntimeException exception) {
+            return null;
+        }
+    }
+
+    private boolean hasRecentBackup(BackupCatalog catalog, Instant now) {
+        BackupCatalog.Entry latest = catalog.latest();
+        return latest != null && latest.createdAt().plus(minimumInterval).isAfter(now);
+    }
+
+    private void trimBackups(Path projectBackupDirectory, BackupCatalog catalog) throws IOException {
+        boolean deleted = false;
+        for (BackupCatalog.Entry entry : catalog.removeOldest(maxBackupsPerProject)) {
+            deleted |= Files.deleteIfExists(projectBackupDirectory.resolve(entry.fileName()));
+        }
+        catalog.persist();
+        if (deleted) {
+            garbagePending = true;
+        }
+    }
+
+    private static String archiveHash(BackupManifest manifest) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (BackupManifest.Entry entry : manifest.entries()) {
+            fingerprint.append(entry.name()).append('\0').append(entry.hash() == null ? "" : entry.hash()).append('\n');
+        }
+        return EncodedArchiveEntry.contentHash(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void collectGarbage() throws IOException {
+        Set<String> referencedHashes = new HashSet<>();
+        List<Path> projectDirectories;
+        try (var stream = Files.list(backupRootDirectory)) {
+            projectDirectories = stream
+                    .filter(Files::isDirectory)
+                    .filter(path -> !path.getFileName().toString().equals(BLOBS_DIRECTORY))
+                    .filter(path -> !path.getFileName().toString().equals(BackupCatalog.DIRECTORY))
+                    .toList();
+        }
+        for (Path projectDirectory : projectDirectories) {
+            List<Path> manifests;
+            try (var stream = Files.list(projectDirectory)) {
+                manifests = stream
+                        .filter(path -> path.getFileName().toString().endsWith(ProjectStoragePaths.BACKUP_MANIFEST_EXTENSION))
+                        .toList();
+            }
+            for (Path manifestPath : manifests) {
+                BackupManifest manifest;
+                try {
+                    manifest = readManifest(manifestPath);
+                } catch (IOException | RuntimeException exception) {
+                    return;
+                }
+                for (BackupManifest.Entry entry : manifest.entries()) {
+                    if (entry.blob() != null) {
+                        referencedHashes.add(entry.blob());
+                    }
+                }
+            }
         }
+        blobStore.retainOnly(referencedHashes);
+    }
+
+    private BackupManifest readManifest(Path manifestPath) throws IOException {
+        try (Reader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            BackupManifest manifest = gson.fromJson(reader, BackupManifest.class);
+            if (manifest == null || manifest.entries() == null) {
+                throw new IllegalStateException("Invalid backup manifest: " + manifestPath);
+            }
+            if (manifest.version() > BackupManifest.CURRENT_VERSION) {
+                throw new IllegalStateException("Unsupported backup manifest version: " + manifest.version());
+            }
+            return manifest;
+        }
+    }
+
+    private void writeManifest(Path manifestPath, BackupManifest manifest) throws IOException {
+        ArchiveFiles.writeAtomically(manifestPath, output -> {
+            Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            gson.toJson(manifest, writer);
+            writer.flush();
+        });
+    }
+
+    private record PendingBackup(Instant createdAt, BackupManifest previous) {
     }
 }
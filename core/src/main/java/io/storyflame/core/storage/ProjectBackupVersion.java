@@ -0,0 +1,7 @@
+package io.storyflame.core.storage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+public record ProjectBackupVersion(Path path, Instant createdAt, long size, String archiveHash) {
+}
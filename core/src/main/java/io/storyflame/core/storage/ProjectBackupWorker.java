@@ -0,0 +1,74 @@
+package io.storyflame.core.storage;
+
+import io.storyflame.core.model.Project;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+public final class ProjectBackupWorker implements AutoCloseable {
+    private final ProjectBackupService backupService;
+    private final IoThrottle throttle;
+    private final ExecutorService executor;
+    private final Map<String, PendingBackup> pendingBackups = new ConcurrentHashMap<>();
+
+    public ProjectBackupWorker(ProjectBackupService backupService, long bytesPerSecond) {
+        this(backupService, new IoThrottle(bytesPerSecond), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storyflame-backup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }));
+    }
+
+    ProjectBackupWorker(ProjectBackupService backupService, IoThrottle throttle, ExecutorService executor) {
+        this.backupService = Objects.requireNonNull(backupService);
+        this.throttle = Objects.requireNonNull(throttle);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    public void submit(Path archivePath, Project project, Consumer<Exception> onError) {
+        Objects.requireNonNull(archivePath);
+        Objects.requireNonNull(project);
+        String projectId = project.getId();
+        if (pendingBackups.put(projectId, new PendingBackup(archivePath, project, onError)) != null) {
+            return;
+        }
+        try {
+            executor.execute(() -> runPending(projectId));
+        } catch (RejectedExecutionException exception) {
+            pendingBackups.remove(projectId);
+        }
+    }
+
+    public boolean hasPendingBackups() {
+        return !pendingBackups.isEmpty();
+    }
+
+    @Override
+    public void close() {
+        pendingBackups.clear();
+        executor.shutdownNow();
+    }
+
+    private void runPending(String projectId) {
+        PendingBackup pending = pendingBackups.remove(projectId);
+        if (pending == null) {
+            return;
+        }
+        try {
+            backupService.createBackup(pending.archivePath(), pending.project(), throttle);
+        } catch (Exception exception) {
+            if (pending.onError() != null && !executor.isShutdown()) {
+                pending.onError().accept(exception);
+            }
+        }
+    }
+
+    private record PendingBackup(Path archivePath, Project project, Consumer<Exception> onError) {
+    }
+}
@@ -0,0 +1,503 @@
+package io.storyflame.core.storage;
+
+import com.google.gson.Gson;
+import io.storyflame.core.archive.ProjectArchiveLayout;
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+
+public final class ProjectEditJournal implements AutoCloseable {
+    static final long MAX_JOURNAL_BYTES = 4L * 1024 * 1024;
+
+    private static final byte NEWLINE = '\n';
+    private static final String NO_ARCHIVE = "";
+    private static final Executor WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storyflame-edit-journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path archivePath;
+    private final Path path;
+    private final Gson gson;
+    private final Map<SceneKey, PendingEdit> pending = new LinkedHashMap<>();
+    private final Map<SceneKey, SceneState> scenes = new HashMap<>();
+    private long sequence;
+    private boolean drainScheduled;
+    private FileChannel channel;
+    private ArchiveStamp archiveStamp;
+    private volatile long size;
+    private long compactedSize;
+    private long checkpointSequence;
+    private volatile Exception failure;
+
+    public ProjectEditJournal(Path archivePath) {
+        this.archivePath = Objects.requireNonNull(archivePath);
+        this.path = ProjectStoragePaths.journalPath(archivePath);
+        this.gson = JsonMapperFactory.createCompact();
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public void recordSceneContent(String chapterId, String sceneId, String content) {
+        SceneKey key = new SceneKey(Objects.requireNonNull(chapterId), Objects.requireNonNull(sceneId));
+        String value = Objects.requireNonNullElse(content, "");
+        synchronized (pending) {
+            pending.remove(key);
+            pending.put(key, new PendingEdit(++sequence, value));
+            if (!drainScheduled) {
+                drainScheduled = true;
+                WRITER.execute(this::drainQuietly);
+            }
+        }
+    }
+
+    public long position() {
+        synchronized (pending) {
+            return sequence;
+        }
+    }
+
+    public synchronized void flush() {
+        try {
+            drain();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to append to edit journal: " + path, exception);
+        }
+    }
+
+    public synchronized List<SceneEdit> readEdits() {
+        flush();
+        return read().edits();
+    }
+
+    public synchronized int replay(Project project) {
+        return replay(project, archiveVersion(archivePath));
+    }
+
+    synchronized int replay(Project project, String archiveVersion) {
+        Objects.requireNonNull(project);
+        JournalContents contents = read();
+        if (contents.archiveVersion() == null || !contents.archiveVersion().equals(archiveVersion)) {
+            discard();
+            return 0;
+        }
+        int applied = 0;
+        for (SceneEdit edit : contents.edits()) {
+            Scene scene = findScene(project, edit.chapterId(), edit.sceneId());
+            if (scene != null) {
+                scene.setContent(edit.content());
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    public void compactThrough(long position) {
+        checkpoint(position, () -> {
+        });
+    }
+
+    synchronized void checkpoint(long position, Runnable save) {
+        flush();
+        save.run();
+        checkpointSequence = Math.max(checkpointSequence, position);
+        try {
+            rewrite(archiveVersion(archivePath));
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to compact edit journal: " + path, exception);
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    boolean hasUncompactedEdits() {
+        return position() > checkpointSequence;
+    }
+
+    Exception takeFailure() {
+        Exception current = failure;
+        failure = null;
+        return current;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            flush();
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            failure = exception;
+        }
+    }
+
+    private void drain() throws IOException {
+        List<Map.Entry<SceneKey, PendingEdit>> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending.entrySet());
+            pending.clear();
+            drainScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        ensureGeneration();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (Map.Entry<SceneKey, PendingEdit> entry : batch) {
+            SceneKey key = entry.getKey();
+            PendingEdit edit = entry.getValue();
+            SceneState state = scenes.get(key);
+            records.writeBytes(encode(state == null
+                    ? JournalRecord.full(key, edit.content())
+                    : JournalRecord.delta(key, state.content(), edit.content())));
+            scenes.put(key, new SceneState(edit.content(), edit.sequence()));
+        }
+        write(records.toByteArray());
+        if (size > Math.max(MAX_JOURNAL_BYTES, 2 * compactedSize)) {
+            rewrite(archiveStamp.version());
+        }
+    }
+
+    private void ensureGeneration() throws IOException {
+        ArchiveStamp current = ArchiveStamp.of(archivePath);
+        if (channel != null && Files.exists(path) && current.sameFile(archiveStamp)) {
+            return;
+        }
+        closeChannel();
+        String version = archiveVersion(archivePath);
+        archiveStamp = current.withVersion(version);
+        if (Files.exists(path) && scenes.isEmpty()) {
+            JournalContents contents = read();
+            if (version.equals(contents.archiveVersion())) {
+                channel = FileChannel.open(path, StandardOpenOption.WRITE);
+                channel.truncate(contents.validLength());
+                channel.position(contents.validLength());
+                size = contents.validLength();
+                compactedSize = size;
+                return;
+            }
+        }
+        scenes.clear();
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        size = 0;
+        compactedSize = 0;
+        write(encode(JournalRecord.header(version)));
+    }
+
+    private void rewrite(String version) throws IOException {
+        scenes.values().removeIf(state -> state.sequence() <= checkpointSequence);
+        closeChannel();
+        if (scenes.isEmpty()) {
+            Files.deleteIfExists(path);
+            archiveStamp = null;
+            size = 0;
+            compactedSize = 0;
+            return;
+        }
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        records.writeBytes(encode(JournalRecord.header(version)));
+        scenes.forEach((key, state) -> records.writeBytes(encode(JournalRecord.full(key, state.content()))));
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel rewritten = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+            while (buffer.hasRemaining()) {
+                rewritten.write(buffer);
+            }
+            rewritten.force(true);
+        }
+        try {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        archiveStamp = ArchiveStamp.of(archivePath).withVersion(version);
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        size = records.size();
+        compactedSize = size;
+    }
+
+    private void write(byte[] records) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(records);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        size += records.length;
+    }
+
+    private void discard() {
+        closeChannel();
+        scenes.clear();
+        archiveStamp = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to discard stale edit journal: " + path, exception);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        channel = null;
+    }
+
+    private JournalContents read() {
+        if (Files.notExists(path)) {
+            return new JournalContents(null, List.of(), 0);
+        }
+        String version = null;
+        List<SceneEdit> edits = new ArrayList<>();
+        Map<SceneKey, String> contents = new HashMap<>();
+        long validLength = 0;
+        long offset = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try (InputStream input = Files.newInputStream(path)) {
+            int count;
+            reading:
+            while ((count = input.read(buffer)) > 0) {
+                int start = 0;
+                for (int index = 0; index < count; index++) {
+                    if (buffer[index] != NEWLINE) {
+                        continue;
+                    }
+                    line.write(buffer, start, index - start);
+                    offset += index - start + 1;
+                    start = index + 1;
+                    JournalRecord record = decode(line.toString(StandardCharsets.UTF_8));
+                    line.reset();
+                    if (record == null) {
+                        break reading;
+                    }
+                    if (version == null) {
+                        if (record.archiveVersion() == null) {
+                            break reading;
+                        }
+                        version = record.archiveVersion();
+                    } else {
+                        SceneKey key = new SceneKey(record.chapterId(), record.sceneId());
+                        String content = record.apply(contents.get(key));
+                        if (content == null) {
+                            break reading;
+                        }
+                        contents.put(key, content);
+                        edits.add(new SceneEdit(key.chapterId(), key.sceneId(), content));
+                    }
+                    validLength = offset;
+                }
+                line.write(buffer, start, count - start);
+                offset += count - start;
+            }
+        } catch (NoSuchFileException exception) {
+            return new JournalContents(null, List.of(), 0);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to read edit journal: " + path, exception);
+        }
+        return new JournalContents(version, List.copyOf(edits), validLength);
+    }
+
+    private byte[] encode(JournalRecord record) {
+        String json = gson.toJson(record);
+        return (checksum(json) + " " + json + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private JournalRecord decode(String line) {
+        int separator = line.indexOf(' ');
+        if (separator <= 0) {
+            return null;
+        }
+        String json = line.substring(separator + 1);
+        if (!line.substring(0, separator).equals(checksum(json))) {
+            return null;
+        }
+        try {
+            return gson.fromJson(json, JournalRecord.class);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    static String archiveVersion(Path archivePath) {
+        if (Files.notExists(archivePath)) {
+            return NO_ARCHIVE;
+        }
+        try (ArchiveReader zip = ArchiveReader.open(archivePath, ArchiveReadOptions.STREAMED)) {
+            InputStream manifest = zip.open(ProjectArchiveLayout.MANIFEST_FILE);
+            if (manifest == null) {
+                return NO_ARCHIVE;
+            }
+            try (InputStream input = manifest) {
+                return archiveVersion(input.readAllBytes());
+            }
+        } catch (IOException exception) {
+            return NO_ARCHIVE;
+        }
+    }
+
+    static String archiveVersion(byte[] manifest) {
+        return manifest == null ? NO_ARCHIVE : EncodedArchiveEntry.contentHash(manifest);
+    }
+
+    private static String checksum(String json) {
+        CRC32 crc = new CRC32();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static Scene findScene(Project project, String chapterId, String sceneId) {
+        for (Chapter chapter : project.getChapters()) {
+            if (!chapter.getId().equals(chapterId)) {
+                continue;
+            }
+            for (Scene scene : chapter.getScenes()) {
+                if (scene.getId().equals(sceneId)) {
+                    return scene;
+                }
+            }
+        }
+        return null;
+    }
+
+    public record SceneEdit(String chapterId, String sceneId, String content) {
+    }
+
+    private record JournalRecord(
+            String archiveVersion,
+            String chapterId,
+            String sceneId,
+            String content,
+            Integer start,
+            Integer end,
+            String text
+    ) {
+        static JournalRecord header(String archiveVersion) {
+            return new JournalRecord(archiveVersion, null, null, null, null, null, null);
+        }
+
+        static JournalRecord full(SceneKey key, String content) {
+            return new JournalRecord(null, key.chapterId(), key.sceneId(), content, null, null, null);
+        }
+
+        static JournalRecord delta(SceneKey key, String previous, String content) {
+            int prefix = 0;
+            int limit = Math.min(previous.length(), content.length());
+            while (prefix < limit && previous.charAt(prefix) == content.charAt(prefix)) {
+                prefix++;
+            }
+            if (prefix > 0 && Character.isHighSurrogate(content.charAt(prefix - 1))) {
+                prefix--;
+            }
+            int suffix = 0;
+            while (suffix < limit - prefix
+                    && previous.charAt(previous.length() - 1 - suffix) == content.charAt(content.length() - 1 - suffix)) {
+                suffix++;
+            }
+            if (suffix > 0 && Character.isLowSurrogate(content.charAt(content.length() - suffix))) {
+                suffix--;
+            }
+            return new JournalRecord(
+                    null,
+                    key.chapterId(),
+                    key.sceneId(),
+                    null,
+                    prefix,
+                    previous.length() - suffix,
+                    content.substring(prefix, content.length() - suffix)
+            );
+        }
+
+        String apply(String previous) {
+            if (chapterId == null || sceneId == null) {
+                return null;
+            }
+            if (content != null) {
+                return content;
+            }
+            if (previous == null || start == null || end == null || text == null
+                    || start < 0 || start > end || end > previous.length()) {
+                return null;
+            }
+            return previous.substring(0, start) + text + previous.substring(end);
+        }
+    }
+
+    private record SceneKey(String chapterId, String sceneId) {
+    }
+
+    private record PendingEdit(long sequence, String content) {
+    }
+
+    private record SceneState(String content, long sequence) {
+    }
+
+    private record JournalContents(String archiveVersion, List<SceneEdit> edits, long validLength) {
+    }
+
+    private record ArchiveStamp(long size, FileTime modifiedAt, Object fileKey, String version) {
+        static ArchiveStamp of(Path archivePath) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(archivePath, BasicFileAttributes.class);
+                return new ArchiveStamp(attributes.size(), attributes.lastModifiedTime(), attributes.fileKey(), null);
+            } catch (IOException exception) {
+                return new ArchiveStamp(-1, null, null, null);
+            }
+        }
+
+        ArchiveStamp withVersion(String version) {
+            return new ArchiveStamp(size, modifiedAt, fileKey, version);
+        }
+
+        boolean sameFile(ArchiveStamp other) {
+            return other != null
+                    && size == other.size
+                    && Objects.equals(modifiedAt, other.modifiedAt)
+                    && Objects.equals(fileKey, other.fileKey);
+        }
+    }
+}
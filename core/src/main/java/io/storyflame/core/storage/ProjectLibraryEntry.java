@@ -0,0 +1,19 @@
+package io.storyflame.core.storage;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+public record ProjectLibraryEntry(
+        Path path,
+        long size,
+        Instant lastModified,
+        boolean readable,
+        String projectId,
+        String title,
+        String author,
+        int formatVersion,
+        int chapterCount,
+        int sceneCount,
+        int wordCount
+) {
+}
@@ -0,0 +1,179 @@
+package io.storyflame.core.storage;
+
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+final class ProjectLibraryIndex {
+    static final String INDEX_FILE = ".library-index.json";
+    private static final int INDEX_VERSION = 1;
+
+    private final Path baseDirectory;
+    private final Path indexFile;
+    private final Function<Path, ProjectLibraryEntry> summarizer;
+    private final Gson gson;
+    private Map<String, IndexedArchive> entries;
+
+    ProjectLibraryIndex(Path baseDirectory, Function<Path, ProjectLibraryEntry> summarizer) {
+        this.baseDirectory = Objects.requireNonNull(baseDirectory);
+        this.indexFile = baseDirectory.resolve(INDEX_FILE);
+        this.summarizer = Objects.requireNonNull(summarizer);
+        this.gson = JsonMapperFactory.createCompact();
+    }
+
+    synchronized List<ProjectLibraryEntry> refresh(List<Path> archives) {
+        if (entries == null) {
+            entries = load();
+        }
+        Map<String, IndexedArchive> refreshed = new LinkedHashMap<>();
+        List<ProjectLibraryEntry> summaries = new ArrayList<>();
+        boolean changed = false;
+        for (Path archive : archives) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            } catch (IOException exception) {
+                continue;
+            }
+            String fileName = archive.getFileName().toString();
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            IndexedArchive indexed = entries.get(fileName);
+            if (indexed == null || indexed.size() != size || indexed.lastModifiedMillis() != lastModified) {
+                indexed = IndexedArchive.from(fileName, size, lastModified, summarize(archive, size, lastModified));
+                changed = true;
+            }
+            refreshed.put(fileName, indexed);
+            summaries.add(indexed.toEntry(archive));
+        }
+        if (changed || refreshed.size() != entries.size()) {
+            entries = refreshed;
+            persist();
+        }
+        return List.copyOf(summaries);
+    }
+
+    private ProjectLibraryEntry summarize(Path archive, long size, long lastModified) {
+        try {
+            return summarizer.apply(archive);
+        } catch (RuntimeException exception) {
+            String fileName = archive.getFileName().toString();
+            return new ProjectLibraryEntry(
+                    archive,
+                    size,
+                    Instant.ofEpochMilli(lastModified),
+                    false,
+                    null,
+                    fileName.substring(0, fileName.length() - ProjectStoragePaths.ARCHIVE_EXTENSION.length()),
+                    "",
+                    0,
+                    0,
+                    0,
+                    0
+            );
+        }
+    }
+
+    private Map<String, IndexedArchive> load() {
+        Map<String, IndexedArchive> loaded = new HashMap<>();
+        if (Files.notExists(indexFile)) {
+            return loaded;
+        }
+        try (Reader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            IndexDocument document = gson.fromJson(reader, IndexDocument.class);
+            if (document == null || document.version() != INDEX_VERSION || document.entries() == null) {
+                return loaded;
+            }
+            for (IndexedArchive entry : document.entries()) {
+                if (entry != null && entry.fileName() != null) {
+                    loaded.put(entry.fileName(), entry);
+                }
+            }
+            return loaded;
+        } catch (IOException | RuntimeException exception) {
+            return new HashMap<>();
+        }
+    }
+
+    private void persist() {
+        Path temporary = indexFile.resolveSibling(INDEX_FILE + ".tmp");
+        try {
+            Files.createDirectories(baseDirectory);
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                gson.toJson(new IndexDocument(INDEX_VERSION, List.copyOf(entries.values())), writer);
+            }
+            try {
+                Files.move(temporary, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to write project library index: " + indexFile, exception);
+        }
+    }
+
+    private record IndexDocument(int version, List<IndexedArchive> entries) {
+    }
+
+    private record IndexedArchive(
+            String fileName,
+            long size,
+            long lastModifiedMillis,
+            boolean readable,
+            String projectId,
+            String title,
+            String author,
+            int formatVersion,
+            int chapterCount,
+            int sceneCount,
+            int wordCount
+    ) {
+        static IndexedArchive from(String fileName, long size, long lastModifiedMillis, ProjectLibraryEntry entry) {
+            return new IndexedArchive(
+                    fileName,
+                    size,
+                    lastModifiedMillis,
+                    entry.readable(),
+                    entry.projectId(),
+                    entry.title(),
+                    entry.author(),
+                    entry.formatVersion(),
+                    entry.chapterCount(),
+                    entry.sceneCount(),
+                    entry.wordCount()
+            );
+        }
+
+        ProjectLibraryEntry toEntry(Path path) {
+            return new ProjectLibraryEntry(
+                    path,
+                    size,
+                    Instant.ofEpochMilli(lastModifiedMillis),
+                    readable,
+                    projectId,
+                    title,
+                    author,
+                    formatVersion,
+                    chapterCount,
+                    sceneCount,
+                    wordCount
+            );
+        }
+    }
+}
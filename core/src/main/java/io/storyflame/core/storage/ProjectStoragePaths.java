@@ -1,11 +1,18 @@
 package io.storyflame.core.storage;
 
 import io.storyflame.core.model.Project;
+import io.storyflame.core.text.AccentFolding;
 import java.nio.file.Path;
-import java.text.Normalizer;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 
 public final class ProjectStoragePaths {
     public static final String ARCHIVE_EXTENSION = ".storyflame";
+    public static final String JOURNAL_EXTENSION = ".journal";
+    public static final String BACKUP_MANIFEST_EXTENSION = ".backup.json";
+    private static final DateTimeFormatter CONFLICT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
 
     private ProjectStoragePaths() {
     }
@@ -18,6 +25,18 @@ public final class ProjectStoragePaths {
         return Path.of(System.getProperty("user.home"), ".storyflame", "backups");
     }
 
+    public static Path journalPath(Path archivePath) {
+        return archivePath.resolveSibling(archivePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    public static Path conflictCopyPath(Path archivePath, Instant createdAt) {
+        String fileName = archivePath.getFileName().toString();
+        String stem = fileName.endsWith(ARCHIVE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - ARCHIVE_EXTENSION.length())
+                : fileName;
+        return archivePath.resolveSibling(stem + "-conflito-" + CONFLICT_TIMESTAMP.format(createdAt) + ARCHIVE_EXTENSION);
+    }
+
     public static Path suggestedArchivePath(Path baseDirectory, Project project) {
         String normalizedTitle = project.getTitle().isBlank() ? "untitled-project" : sanitize(project.getTitle());
         if (normalizedTitle.isBlank()) {
@@ -36,11 +55,22 @@ public final class ProjectStoragePaths {
     }
 
     public static String sanitize(String value) {
-        String normalized = Normalizer.normalize(value, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}+", "");
-        return normalized.toLowerCase()
-                .replaceAll("[^a-z0-9]+", "-")
-                .replaceAll("(^-+|-+$)", "");
+        String folded = AccentFolding.fold(value);
+        StringBuilder slug = new StringBuilder(folded.length());
+        boolean pendingSeparator = false;
+        for (int index = 0; index < folded.length(); index++) {
+            char current = folded.charAt(index);
+            if ((current >= 'a' && current <= 'z') || (current >= '0' && current <= '9')) {
+                if (pendingSeparator && !slug.isEmpty()) {
+                    slug.append('-');
+                }
+                slug.append(current);
+                pendingSeparator = false;
+            } else {
+                pendingSeparator = true;
+            }
+        }
+        return slug.toString();
     }
 
     public static Path backupDirectory(Path backupRootDirectory, Project project) {
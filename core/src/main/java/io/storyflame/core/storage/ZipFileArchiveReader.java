@@ -0,0 +1,37 @@
+package io.storyflame.core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+final class ZipFileArchiveReader implements ArchiveReader {
+    private final ZipFile zip;
+
+    ZipFileArchiveReader(Path path) throws IOException {
+        this.zip = new ZipFile(path.toFile());
+    }
+
+    @Override
+    public List<String> entryNames() {
+        return zip.stream().map(ZipEntry::getName).toList();
+    }
+
+    @Override
+    public boolean contains(String entryName) {
+        return zip.getEntry(entryName) != null;
+    }
+
+    @Override
+    public InputStream open(String entryName) throws IOException {
+        ZipEntry entry = zip.getEntry(entryName);
+        return entry == null ? null : zip.getInputStream(entry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        zip.close();
+    }
+}
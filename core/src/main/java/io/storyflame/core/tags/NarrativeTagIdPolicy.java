@@ -1,6 +1,6 @@
 package io.storyflame.core.tags;
 
-import java.text.Normalizer;
+import io.storyflame.core.text.AccentFolding;
 
 public final class NarrativeTagIdPolicy {
     private NarrativeTagIdPolicy() {
@@ -14,11 +14,15 @@ public final class NarrativeTagIdPolicy {
         if (value == null || value.isBlank()) {
             return "";
         }
-        String normalized = Normalizer.normalize(value, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}+", "")
-                .toLowerCase()
-                .replaceAll("[^a-z0-9]+", "");
-        return normalized;
+        String folded = AccentFolding.fold(value);
+        StringBuilder normalized = new StringBuilder(folded.length());
+        for (int index = 0; index < folded.length(); index++) {
+            char current = folded.charAt(index);
+            if ((current >= 'a' && current <= 'z') || (current >= '0' && current <= '9')) {
+                normalized.append(current);
+            }
+        }
+        return normalized.toString();
     }
 
     public static String suggestFromText(String value) {
@@ -0,0 +1,155 @@
+package io.storyflame.core.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public final class AccentFolding {
+    static final int REMOVED = -1;
+    static final int DECOMPOSE = -2;
+    private static final int BLOCK_SHIFT = 8;
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+    private static final int[] PRELOADED_BLOCKS = {0x00, 0x01, 0x02, 0x03, 0x04, 0x05, 0x1E, 0x1F, 0x20, 0x30};
+    private static final AtomicReferenceArray<char[]> BLOCKS =
+            new AtomicReferenceArray<>((Character.MAX_CODE_POINT >>> BLOCK_SHIFT) + 1);
+    private static final char NO_OUTPUT = '\uFFFF';
+    private static final char NO_TABLE_OUTPUT = '\uFFFE';
+    private static final char SAME_CODE_POINT = '\uFFFD';
+
+    static {
+        for (int block : PRELOADED_BLOCKS) {
+            BLOCKS.set(block, blockTable(block));
+        }
+    }
+
+    private AccentFolding() {
+    }
+
+    public static String fold(CharSequence value) {
+        if (value == null) {
+            return "";
+        }
+        int length = value.length();
+        int index = 0;
+        while (index < length) {
+            char current = value.charAt(index);
+            int folded = fold(current);
+            if (folded == current) {
+                index++;
+                continue;
+            }
+            if (folded == DECOMPOSE && Character.isHighSurrogate(current)) {
+                int codePoint = Character.codePointAt(value, index);
+                if (Character.isSupplementaryCodePoint(codePoint) && entry(codePoint) == SAME_CODE_POINT) {
+                    index += 2;
+                    continue;
+                }
+            }
+            StringBuilder target = new StringBuilder(length);
+            target.append(value, 0, index);
+            appendFolded(value, index, length, target);
+            return target.toString();
+        }
+        return value.toString();
+    }
+
+    public static void fold(CharSequence value, StringBuilder target) {
+        if (value != null) {
+            appendFolded(value, 0, value.length(), target);
+        }
+    }
+
+    static int fold(char value) {
+        char folded = entry(value);
+        if (folded == NO_OUTPUT) {
+            return REMOVED;
+        }
+        return folded == NO_TABLE_OUTPUT ? DECOMPOSE : folded;
+    }
+
+    static int foldAt(CharSequence value, int index, StringBuilder target) {
+        int folded = fold(value.charAt(index));
+        if (folded == REMOVED) {
+            return 1;
+        }
+        if (folded != DECOMPOSE) {
+            target.append((char) folded);
+            return 1;
+        }
+        int codePoint = Character.codePointAt(value, index);
+        if (Character.isSupplementaryCodePoint(codePoint)) {
+            char entry = entry(codePoint);
+            if (entry == SAME_CODE_POINT) {
+                target.appendCodePoint(codePoint);
+                return 2;
+            }
+            if (entry == NO_OUTPUT) {
+                return 2;
+            }
+        }
+        target.append(decompose(codePoint));
+        return Character.charCount(codePoint);
+    }
+
+    private static void appendFolded(CharSequence value, int start, int end, StringBuilder target) {
+        int index = start;
+        while (index < end) {
+            index += foldAt(value, index, target);
+        }
+    }
+
+    private static char entry(int codePoint) {
+        int block = codePoint >>> BLOCK_SHIFT;
+        char[] table = BLOCKS.get(block);
+        if (table == null) {
+            BLOCKS.compareAndSet(block, null, blockTable(block));
+            table = BLOCKS.get(block);
+        }
+        return table[codePoint & BLOCK_MASK];
+    }
+
+    private static char[] blockTable(int block) {
+        char[] table = new char[BLOCK_MASK + 1];
+        int first = block << BLOCK_SHIFT;
+        for (int offset = 0; offset < table.length; offset++) {
+            table[offset] = tableEntry(first + offset);
+        }
+        return table;
+    }
+
+    private static char tableEntry(int codePoint) {
+        if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            return NO_TABLE_OUTPUT;
+        }
+        if (isMark(codePoint)) {
+            return NO_OUTPUT;
+        }
+        String stripped = decompose(codePoint);
+        if (stripped.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        if (Character.isSupplementaryCodePoint(codePoint)) {
+            return stripped.equals(Character.toString(codePoint)) ? SAME_CODE_POINT : NO_TABLE_OUTPUT;
+        }
+        if (stripped.length() == 1 && stripped.charAt(0) != NO_OUTPUT && stripped.charAt(0) != NO_TABLE_OUTPUT) {
+            return stripped.charAt(0);
+        }
+        return NO_TABLE_OUTPUT;
+    }
+
+    private static String decompose(int codePoint) {
+        String decomposed = Normalizer.normalize(Character.toString(codePoint), Normalizer.Form.NFD);
+        StringBuilder stripped = new StringBuilder(decomposed.length());
+        decomposed.codePoints()
+                .filter(part -> !isMark(part))
+                .forEach(stripped::appendCodePoint);
+        return stripped.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isMark(int value) {
+        int type = Character.getType(value);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK;
+    }
+}
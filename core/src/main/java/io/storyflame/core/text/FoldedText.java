@@ -0,0 +1,60 @@
+package io.storyflame.core.text;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class FoldedText implements CharSequence {
+    private final StringBuilder folded = new StringBuilder();
+    private int[] sourceOffsets = new int[16];
+    private int sourceLength;
+
+    public FoldedText fold(CharSequence source) {
+        Objects.requireNonNull(source);
+        folded.setLength(0);
+        sourceLength = source.length();
+        if (sourceOffsets.length <= sourceLength) {
+            sourceOffsets = Arrays.copyOf(sourceOffsets, Math.max(sourceLength + 1, sourceOffsets.length * 2));
+        }
+        int index = 0;
+        while (index < sourceLength) {
+            int start = folded.length();
+            int consumed = AccentFolding.foldAt(source, index, folded);
+            if (sourceOffsets.length <= folded.length()) {
+                sourceOffsets = Arrays.copyOf(sourceOffsets, Math.max(folded.length() + 1, sourceOffsets.length * 2));
+            }
+            Arrays.fill(sourceOffsets, start, folded.length(), index);
+            index += consumed;
+        }
+        sourceOffsets[folded.length()] = sourceLength;
+        return this;
+    }
+
+    public int sourceOffset(int foldedIndex) {
+        Objects.checkIndex(foldedIndex, folded.length() + 1);
+        return sourceOffsets[foldedIndex];
+    }
+
+    public int indexOf(String foldedQuery) {
+        return folded.indexOf(foldedQuery);
+    }
+
+    @Override
+    public int length() {
+        return folded.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return folded.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return folded.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return folded.toString();
+    }
+}
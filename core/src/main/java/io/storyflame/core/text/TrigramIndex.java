@@ -0,0 +1,207 @@
+package io.storyflame.core.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class TrigramIndex {
+    public static final int MAX_DISTANCE = 2;
+
+    private static final char PADDING = '\u0000';
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private final Map<String, BitSet> postings = new HashMap<>();
+    private final Map<Integer, BitSet> lengths = new HashMap<>();
+
+    public static int defaultDistance(String term) {
+        return term.length() <= 4 ? 1 : MAX_DISTANCE;
+    }
+
+    public boolean add(String term) {
+        if (term == null || term.isEmpty() || ids.containsKey(term)) {
+            return false;
+        }
+        int id = freeIds.isEmpty() ? terms.size() : freeIds.pop();
+        if (id == terms.size()) {
+            terms.add(term);
+        } else {
+            terms.set(id, term);
+        }
+        ids.put(term, id);
+        for (String trigram : trigrams(term)) {
+            postings.computeIfAbsent(trigram, ignored -> new BitSet()).set(id);
+        }
+        lengths.computeIfAbsent(term.length(), ignored -> new BitSet()).set(id);
+        return true;
+    }
+
+    public boolean remove(String term) {
+        Integer id = ids.remove(term);
+        if (id == null) {
+            return false;
+        }
+        for (String trigram : trigrams(term)) {
+            BitSet termIds = postings.get(trigram);
+            termIds.clear(id);
+            if (termIds.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+        BitSet sameLength = lengths.get(term.length());
+        sameLength.clear(id);
+        if (sameLength.isEmpty()) {
+            lengths.remove(term.length());
+        }
+        terms.set(id, null);
+        freeIds.push(id);
+        return true;
+    }
+
+    public boolean contains(String term) {
+        return ids.containsKey(term);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    public List<String> containing(String fragment) {
+        if (fragment == null || fragment.isEmpty()) {
+            return List.of();
+        }
+        Integer exact = ids.get(fragment);
+        BitSet candidates = null;
+        if (fragment.length() >= 3) {
+            for (int index = 0; index + 3 <= fragment.length(); index++) {
+                BitSet termIds = postings.get(fragment.substring(index, index + 3));
+                if (termIds == null) {
+                    return List.of();
+                }
+                if (candidates == null) {
+                    candidates = (BitSet) termIds.clone();
+                } else {
+                    candidates.and(termIds);
+                }
+            }
+        } else {
+            candidates = new BitSet();
+            for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+                if (entry.getKey().contains(fragment)) {
+                    candidates.or(entry.getValue());
+                }
+            }
+        }
+        List<String> matches = new ArrayList<>();
+        if (exact != null) {
+            matches.add(fragment);
+            candidates.clear(exact);
+        }
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            String candidate = terms.get(id);
+            if (candidate.contains(fragment)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    public List<String> similar(String term, int maxDistance) {
+        if (term == null || term.isEmpty()) {
+            return List.of();
+        }
+        int distance = Math.max(0, Math.min(MAX_DISTANCE, maxDistance));
+        Set<String> queryTrigrams = trigrams(term);
+        int requiredShared = queryTrigrams.size() - 3 * distance;
+        BitSet candidates = new BitSet();
+        if (requiredShared > 0) {
+            int[] shared = new int[terms.size()];
+            for (String trigram : queryTrigrams) {
+                BitSet termIds = postings.get(trigram);
+                if (termIds == null) {
+                    continue;
+                }
+                for (int id = termIds.nextSetBit(0); id >= 0; id = termIds.nextSetBit(id + 1)) {
+                    if (++shared[id] == requiredShared) {
+                        candidates.set(id);
+                    }
+                }
+            }
+        } else {
+            for (int length = Math.max(1, term.length() - distance); length <= term.length() + distance; length++) {
+                BitSet sameLength = lengths.get(length);
+                if (sameLength != null) {
+                    candidates.or(sameLength);
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            String candidate = terms.get(id);
+            int candidateDistance = distance(term, candidate, distance);
+            if (candidateDistance <= distance) {
+                matches.add(new Match(candidate, candidateDistance));
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::term));
+        return matches.stream().map(Match::term).toList();
+    }
+
+    static int distance(CharSequence left, CharSequence right, int maxDistance) {
+        int leftLength = left.length();
+        int rightLength = right.length();
+        int bound = maxDistance + 1;
+        if (Math.abs(leftLength - rightLength) > maxDistance) {
+            return bound;
+        }
+        int[] previous = new int[rightLength + 1];
+        int[] current = new int[rightLength + 1];
+        for (int column = 0; column <= rightLength; column++) {
+            previous[column] = Math.min(column, bound);
+        }
+        for (int row = 1; row <= leftLength; row++) {
+            int first = Math.max(1, row - maxDistance);
+            int last = Math.min(rightLength, row + maxDistance);
+            current[first - 1] = first == 1 ? Math.min(row, bound) : bound;
+            int rowMinimum = current[first - 1];
+            char leftCharacter = left.charAt(row - 1);
+            for (int column = first; column <= last; column++) {
+                int substitution = previous[column - 1] + (leftCharacter == right.charAt(column - 1) ? 0 : 1);
+                int value = Math.min(substitution, Math.min(previous[column], current[column - 1]) + 1);
+                current[column] = Math.min(value, bound);
+                rowMinimum = Math.min(rowMinimum, current[column]);
+            }
+            if (last < rightLength) {
+                current[last + 1] = bound;
+            }
+            if (rowMinimum > maxDistance) {
+                return bound;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[rightLength];
+    }
+
+    private static Set<String> trigrams(String term) {
+        String padded = "" + PADDING + PADDING + term + PADDING + PADDING;
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int index = 0; index + 3 <= padded.length(); index++) {
+            trigrams.add(padded.substring(index, index + 3));
+        }
+        return trigrams;
+    }
+
+    private record Match(String term, int distance) {
+    }
+}
@@ -2,6 +2,8 @@ package io.storyflame.core.analysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.storyflame.core.model.Chapter;
@@ -52,6 +54,23 @@ class EmotionAnalysisServiceTest {
         assertTrue(cachedFirstChunk == secondReport.chunks().get(0));
     }
 
+    @Test
+    void sharesEmotionCacheSnapshotsUntilNextWrite() {
+        Project project = sampleProject();
+        new EmotionAnalysisService().analyze(project);
+        EmotionCache cache = project.getEmotionCache();
+        EmotionChunkAnalysis analysis = cache.getEntries().get(0).analysis();
+
+        EmotionCache snapshot = cache.snapshot();
+        assertEquals(cache.getEntries(), snapshot.getEntries());
+
+        cache.put("scene-extra", "hash", analysis);
+        assertEquals(3, cache.getEntries().size());
+        assertEquals(2, snapshot.getEntries().size());
+        assertNull(snapshot.find("scene-extra", "hash"));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getEntries().clear());
+    }
+
     @Test
     void countsRepeatedEmotionCuesAsStrongerSignal() {
         EmotionAnalysisService service = new EmotionAnalysisService();
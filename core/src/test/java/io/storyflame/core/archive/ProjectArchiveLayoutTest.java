@@ -1,6 +1,7 @@
 package io.storyflame.core.archive;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
@@ -16,5 +17,18 @@ class ProjectArchiveLayoutTest {
     void chapterFileUsesExpectedConvention() {
         assertEquals("chapters/ch-01.json", ProjectArchiveLayout.chapterFile("ch-01"));
     }
-}
 
+    @Test
+    void sceneContentFileLivesUnderChapterScenesDirectory() {
+        assertEquals("chapters/ch-01/scenes/sc-02.txt", ProjectArchiveLayout.sceneContentFile("ch-01", "sc-02"));
+    }
+
+    @Test
+    void mapsChapterEntriesBackToTheirChapterId() {
+        assertEquals("ch-01", ProjectArchiveLayout.chapterIdOf("chapters/ch-01.json"));
+        assertEquals("ch-01", ProjectArchiveLayout.chapterIdOf("chapters/ch-01/scenes/sc-02.txt"));
+        assertNull(ProjectArchiveLayout.chapterIdOf("chapters/"));
+        assertNull(ProjectArchiveLayout.chapterIdOf("characters/char-1.json"));
+        assertNull(ProjectArchiveLayout.chapterIdOf(ProjectArchiveLayout.PROJECT_FILE));
+    }
+}
@@ -44,6 +44,39 @@ class CharacterDirectoryTest {
         assertEquals(List.of("Lia"), byDescription.stream().map(Character::getName).toList());
     }
 
+    @Test
+    void fallsBackToTypoTolerantMatchingWhenNothingMatchesExactly() {
+        Project project = sampleProject();
+        project.getCharacters().add(new Character("char-3", "Aelindra Voss", "Guardia do farol"));
+
+        assertEquals(List.of("Aelindra Voss"), CharacterDirectory.search(project, "aelinda").stream().map(Character::getName).toList());
+        assertEquals(List.of("Aelindra Voss"), CharacterDirectory.search(project, "Aelindar Vos").stream().map(Character::getName).toList());
+        assertEquals(List.of("Noel"), CharacterDirectory.search(project, "noe").stream().map(Character::getName).toList());
+        assertEquals(List.of(), CharacterDirectory.search(project, "dragao"));
+    }
+
+    @Test
+    void reusesCharacterIndexAndUpdatesOnlyEditedCharacters() {
+        Project project = sampleProject();
+        Character guardian = new Character("char-3", "Aelindra Voss", "Guardia do farol");
+        project.getCharacters().add(guardian);
+        CharacterIndex index = CharacterIndex.of(project);
+
+        assertEquals(List.of("Aelindra Voss"), CharacterDirectory.search(project, "aelinda").stream().map(Character::getName).toList());
+        int vocabularySize = index.vocabularySize();
+        guardian.setName("Maelis Voss");
+
+        assertSame(index, CharacterIndex.of(project));
+        assertEquals(List.of(), CharacterDirectory.search(project, "aelinda"));
+        assertEquals(List.of("Maelis Voss"), CharacterDirectory.search(project, "maelys").stream().map(Character::getName).toList());
+        assertEquals(vocabularySize, index.vocabularySize());
+
+        project.getCharacters().remove(guardian);
+
+        assertEquals(List.of(), CharacterDirectory.search(project, "maelys"));
+        assertEquals(vocabularySize - 5, index.vocabularySize());
+    }
+
     private Project sampleProject() {
         Project project = Project.blank("Livro", "Marco");
         project.getCharacters().add(new Character("char-1", "Lia", "Capita mecanica"));
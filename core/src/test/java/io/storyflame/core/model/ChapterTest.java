@@ -0,0 +1,106 @@
+package io.storyflame.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ChapterTest {
+    @Test
+    void reusesSnapshotUntilChapterOrSceneChanges() {
+        Scene first = new Scene("scene-1", "Abertura", "Texto inicial.", null);
+        Scene second = new Scene("scene-2", "Virada", "Outro texto.", null);
+        Chapter chapter = new Chapter("chapter-1", "Capitulo", List.of(first, second));
+
+        Chapter snapshot = chapter.snapshot();
+        assertSame(snapshot, chapter.snapshot());
+
+        second.setContent("Texto revisado.");
+        Chapter edited = chapter.snapshot();
+        assertNotSame(snapshot, edited);
+        assertSame(snapshot.getScenes().get(0), edited.getScenes().get(0));
+        assertEquals("Outro texto.", snapshot.getScenes().get(1).getContent());
+        assertEquals("Texto revisado.", edited.getScenes().get(1).getContent());
+
+        chapter.getScenes().remove(first);
+        assertEquals(List.of(second.snapshot()), chapter.snapshot().getScenes());
+
+        chapter.setTitle("Capitulo renomeado");
+        assertEquals("Capitulo renomeado", chapter.snapshot().getTitle());
+    }
+
+    @Test
+    void snapshotsLazyChapterWithoutLoadingScenes() {
+        AtomicInteger loads = new AtomicInteger();
+        Chapter chapter = Chapter.lazy("chapter-1", "Capitulo", () -> {
+            loads.incrementAndGet();
+            return List.of(new Scene("scene-1", "Cena", "Texto", null));
+        });
+
+        Chapter snapshot = chapter.snapshot();
+
+        assertSame(snapshot, chapter.snapshot());
+        assertFalse(chapter.isScenesLoaded());
+        assertEquals(0, loads.get());
+        assertEquals("Texto", snapshot.getScenes().get(0).getContent());
+    }
+
+    @Test
+    void propagatesNestedChangesToOwningProjectOnly() {
+        Scene scene = new Scene("scene-1", "Cena", "Texto", null);
+        Project project = Project.blank("Livro", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(scene, new Scene("scene-2", "Outra", "", null))));
+        Project other = Project.blank("Outro", "Ana");
+        Chapter chapter = project.getChapters().get(0);
+
+        long projectRevision = project.getRevision();
+        long otherRevision = other.getRevision();
+        scene.setContent("Texto revisado");
+        assertTrue(project.getRevision() > projectRevision);
+        assertTrue(chapter.getContentRevision() > projectRevision);
+        assertEquals(otherRevision, other.getRevision());
+
+        projectRevision = project.getRevision();
+        chapter.getScenes().subList(0, 1).set(0, new Scene("scene-3", "Nova", "", null));
+        assertTrue(project.getRevision() > projectRevision);
+
+        projectRevision = project.getRevision();
+        ListIterator<Scene> scenes = chapter.getScenes().listIterator();
+        scenes.next();
+        scenes.set(scene);
+        assertTrue(project.getRevision() > projectRevision);
+
+        projectRevision = project.getRevision();
+        chapter.getScenes().subList(1, 2).clear();
+        assertTrue(project.getRevision() > projectRevision);
+        assertEquals(List.of(scene), chapter.getScenes());
+
+        projectRevision = project.getRevision();
+        scene.setTitle("Cena renomeada");
+        assertTrue(project.getRevision() > projectRevision);
+        assertEquals(otherRevision, other.getRevision());
+    }
+
+    @Test
+    void characterEditsReachProjectRevisionAndRefreshSnapshot() {
+        Project project = Project.blank("Livro", "Ana");
+        Character character = new Character("character-1", "Ana", "Ferreira");
+        project.getCharacters().add(character);
+        Character snapshot = character.snapshot();
+        long revision = project.getRevision();
+
+        assertSame(snapshot, character.snapshot());
+        character.setDescription("Ferreira da vila");
+
+        assertTrue(project.getRevision() > revision);
+        assertEquals(project.getRevision(), character.getRevision());
+        assertNotSame(snapshot, character.snapshot());
+        assertEquals("Ferreira da vila", character.snapshot().getDescription());
+    }
+}
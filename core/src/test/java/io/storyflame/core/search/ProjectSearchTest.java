@@ -1,10 +1,15 @@
 package io.storyflame.core.search;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.storyflame.core.model.Chapter;
 import io.storyflame.core.model.Project;
 import io.storyflame.core.model.Scene;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -69,4 +74,205 @@ class ProjectSearchTest {
 
         assertEquals(List.of(), ProjectSearch.search(project, "   "));
     }
+
+    @Test
+    void matchesPartialTermsAndPhrasesAcrossWordBoundaries() {
+        Project project = Project.blank("Livro", "Marco");
+        project.getChapters().add(new Chapter(
+                "chapter-1",
+                "Inicio",
+                List.of(new Scene("scene-1", "Porto", "O herói chegou ao portão, sem pressa.", null))
+        ));
+
+        assertEquals(1, ProjectSearch.search(project, "ao porta").size());
+        assertEquals(1, ProjectSearch.search(project, "ao portao").size());
+        assertEquals(1, ProjectSearch.search(project, "rtão, sem").size());
+        assertEquals(1, ProjectSearch.search(project, "EROI").size());
+        assertEquals(0, ProjectSearch.search(project, "portão ao").size());
+    }
+
+    @Test
+    void reflectsEditsAddedAndRemovedScenesBetweenSearches() {
+        Project project = Project.blank("Livro", "Marco");
+        Scene scene = new Scene("scene-1", "Porto", "A tempestade chegou.", null);
+        Chapter chapter = new Chapter("chapter-1", "Inicio", List.of(scene));
+        project.getChapters().add(chapter);
+        assertEquals(1, ProjectSearch.search(project, "tempestade").size());
+
+        scene.setContent("A calmaria voltou.");
+        assertEquals(0, ProjectSearch.search(project, "tempestade").size());
+        assertEquals(1, ProjectSearch.search(project, "calmaria").size());
+
+        chapter.getScenes().add(new Scene("scene-2", "Cais", "Outra tempestade.", null));
+        List<SearchMatch> matches = ProjectSearch.search(project, "tempestade");
+        assertEquals(1, matches.size());
+        assertEquals(1, matches.get(0).sceneIndex());
+
+        chapter.getScenes().remove(1);
+        chapter.setTitle("Tempestade final");
+        matches = ProjectSearch.search(project, "tempestade");
+        assertEquals(1, matches.size());
+        assertEquals(SearchTarget.CHAPTER, matches.get(0).target());
+    }
+
+    @Test
+    void reflectsReplacedAndReorderedScenesWithoutExplicitNotification() {
+        Project project = Project.blank("Livro", "Marco");
+        Chapter chapter = new Chapter("chapter-1", "Inicio", List.of(
+                new Scene("scene-1", "Porto", "A tempestade chegou.", null),
+                new Scene("scene-2", "Cais", "O farol apagou.", null)
+        ));
+        project.getChapters().add(chapter);
+        assertEquals(1, ProjectSearch.search(project, "farol").get(0).sceneIndex());
+        assertEquals(1, ProjectSearch.search(project, "farol").get(0).sceneIndex());
+
+        chapter.getScenes().set(0, new Scene("scene-3", "Ruina", "A torre caiu.", null));
+        assertEquals(0, ProjectSearch.search(project, "tempestade").size());
+        assertEquals(1, ProjectSearch.search(project, "torre").size());
+
+        Collections.swap(chapter.getScenes(), 0, 1);
+        assertEquals(0, ProjectSearch.search(project, "farol").get(0).sceneIndex());
+
+        project.getChapters().clear();
+        assertEquals(0, ProjectSearch.search(project, "farol").size());
+    }
+
+    @Test
+    void buildsExcerptFromSourceOffsetsWhenTextUsesCombiningMarks() {
+        Project project = Project.blank("Livro", "Marco");
+        String content = "Na\u0303o havia ningue\u0301m no porta\u0303o quando a chuva comec\u0327ou a cair sobre a cidade.";
+        project.getChapters().add(new Chapter("chapter-1", "Inicio", List.of(new Scene("scene-1", "Porto", content, null))));
+
+        List<SearchMatch> matches = ProjectSearch.search(project, "portao");
+
+        assertEquals(1, matches.size());
+        assertEquals("Na\u0303o havia ningue\u0301m no porta\u0303o quando a chuva comec\u0327ou...", matches.get(0).excerpt());
+    }
+
+    @Test
+    void ranksScenesByRelevanceAndPagesThroughTopResults() {
+        Project project = Project.blank("Livro", "Marco");
+        List<Scene> scenes = new ArrayList<>();
+        scenes.add(new Scene("scene-1", "Mercado", "A cidade acordou cedo. O dragao passou longe, entre muitas outras coisas que aconteciam no mercado.", null));
+        scenes.add(new Scene("scene-2", "Ninho", "O dragao rugiu. O dragao voou. O dragao pousou.", null));
+        scenes.add(new Scene("scene-3", "Cais", "Nenhum monstro apareceu no cais.", null));
+        scenes.add(new Scene("scene-4", "Torre", "Da torre, alguem viu o dragao.", null));
+        project.getChapters().add(new Chapter("chapter-1", "Inicio", scenes));
+
+        SearchPage first = ProjectSearch.searchRanked(project, "dragao", 0, 2);
+
+        assertEquals(3, first.totalMatches());
+        assertEquals(2, first.matches().size());
+        assertTrue(first.hasMore());
+        assertEquals(1, first.matches().get(0).sceneIndex());
+        assertEquals(3, first.matches().get(1).sceneIndex());
+
+        SearchPage second = ProjectSearch.searchRanked(project, "dragao", first.nextOffset(), 2);
+
+        assertEquals(1, second.matches().size());
+        assertEquals(0, second.matches().get(0).sceneIndex());
+        assertFalse(second.hasMore());
+        assertEquals("...cidade acordou cedo. O dragao passou longe, entre mui...", second.matches().get(0).excerpt());
+    }
+
+    @Test
+    void pagesPastTheEndWithoutOverflowingTheRankingCapacity() {
+        Project project = Project.blank("Livro", "Marco");
+        project.getChapters().add(new Chapter("chapter-1", "A fuga", List.of(
+                new Scene("scene-1", "Porto", "A fuga pelo porto.", null),
+                new Scene("scene-2", "Fuga final", "Sem saida.", null)
+        )));
+
+        SearchPage beyond = ProjectSearch.searchRanked(project, "fuga", Integer.MAX_VALUE - 1, 10);
+        assertEquals(3, beyond.totalMatches());
+        assertTrue(beyond.matches().isEmpty());
+        assertFalse(beyond.hasMore());
+
+        SearchPage unbounded = ProjectSearch.searchRanked(project, "fuga", 1, Integer.MAX_VALUE);
+        assertEquals(2, unbounded.matches().size());
+        assertFalse(unbounded.hasMore());
+    }
+
+    @Test
+    void rankedSearchReturnsSameMatchesAsManuscriptOrderSearch() {
+        Project project = Project.blank("Livro", "Marco");
+        project.getChapters().add(new Chapter("chapter-1", "A fuga", List.of(
+                new Scene("scene-1", "Porto", "A fuga pelo porto.", null),
+                new Scene("scene-2", "Fuga final", "Sem saida.", null)
+        )));
+
+        List<SearchMatch> ordered = ProjectSearch.search(project, "fuga");
+        SearchPage ranked = ProjectSearch.searchRanked(project, "fuga", 0, 10);
+
+        assertEquals(ordered.size(), ranked.totalMatches());
+        assertTrue(ranked.matches().containsAll(ordered));
+        assertEquals(0, ProjectSearch.searchRanked(project, "   ", 0, 10).totalMatches());
+        assertEquals(0, ProjectSearch.searchRanked(project, "fuga", 0, 0).matches().size());
+        assertThrows(IllegalArgumentException.class, () -> ProjectSearch.searchRanked(project, "fuga", -1, 10));
+    }
+
+    @Test
+    void evaluatesPhraseBooleanAndProximityQueries() {
+        Project project = Project.blank("Livro", "Marco");
+        project.getChapters().add(new Chapter("chapter-1", "Inicio", List.of(
+                new Scene("scene-1", "Forja", "Ana Clara ergueu a velha espada diante do rei.", null),
+                new Scene("scene-2", "Estrada", "Clara e Ana partiram cedo; muito depois, longe dali, surgiu a espada.", null),
+                new Scene("scene-3", "Porto", "Noa esperava no cais com o mapa.", null)
+        )));
+
+        List<SearchMatch> phrase = ProjectSearch.search(project, "\"ana clara\"");
+        assertEquals(1, phrase.size());
+        assertEquals(0, phrase.get(0).sceneIndex());
+        assertEquals(SearchTarget.SCENE_CONTENT, phrase.get(0).target());
+
+        List<SearchMatch> near = ProjectSearch.search(project, "Ana NEAR espada");
+        assertEquals(1, near.size());
+        assertEquals(0, near.get(0).sceneIndex());
+        assertEquals(2, ProjectSearch.search(project, "ana NEAR/10 espada").size());
+
+        assertEquals(2, ProjectSearch.search(project, "espada AND ana").size());
+        assertEquals(List.of(1, 2), ProjectSearch.search(project, "(noa OR estrada OR partiram) NOT forja").stream()
+                .filter(match -> match.target() == SearchTarget.SCENE_CONTENT)
+                .map(SearchMatch::sceneIndex)
+                .toList());
+        assertEquals(1, ProjectSearch.search(project, "espada NOT \"ana clara\"").size());
+
+        List<SearchMatch> excerpt = ProjectSearch.search(project, "mapa OR nenhum");
+        assertEquals("...esperava no cais com o mapa.", excerpt.get(0).excerpt());
+        SearchPage ranked = ProjectSearch.searchRanked(project, "ana AND espada", 0, 10);
+        assertEquals(2, ranked.totalMatches());
+        assertEquals(0, ranked.matches().get(0).sceneIndex());
+    }
+
+    @Test
+    void matchesWholeTermsInPhraseAndProximityQueries() {
+        Project project = Project.blank("Livro", "Marco");
+        project.getChapters().add(new Chapter("chapter-1", "Inicio", List.of(
+                new Scene("scene-1", "Feira", "Comprou banana espadarte no mercado.", null),
+                new Scene("scene-2", "Arena", "Mariana observava o espadachim treinar.", null)
+        )));
+
+        assertEquals(0, ProjectSearch.search(project, "\"ana espada\"").size());
+        assertEquals(0, ProjectSearch.search(project, "Ana NEAR espada").size());
+        assertEquals(0, ProjectSearch.searchRanked(project, "ana AND espada", 0, 10).totalMatches());
+        assertEquals(1, ProjectSearch.search(project, "\"banana espadarte\"").size());
+        assertEquals(1, ProjectSearch.search(project, "mariana NEAR espadachim").size());
+        assertEquals(1, ProjectSearch.search(project, "ana espada").size());
+    }
+
+    @Test
+    void findsMisspelledWordsWithFuzzyOperator() {
+        Project project = Project.blank("Livro", "Marco");
+        Scene scene = new Scene("scene-1", "Torre", "Aelindra subiu a torre de Kharvos.", null);
+        project.getChapters().add(new Chapter("chapter-1", "Inicio", List.of(scene)));
+
+        assertEquals(0, ProjectSearch.search(project, "Aelinda").size());
+        assertEquals(1, ProjectSearch.search(project, "Aelinda~").size());
+        assertEquals(1, ProjectSearch.search(project, "kharvox~1 AND torre").size());
+        assertEquals(0, ProjectSearch.search(project, "kharvox~0").size());
+        assertEquals("Aelindra subiu a torre de Kharvo...", ProjectSearch.searchRanked(project, "aelimdra~", 0, 5).matches().get(0).excerpt());
+
+        scene.setContent("Ninguem subiu a torre.");
+        assertEquals(0, ProjectSearch.search(project, "Aelinda~").size());
+    }
 }
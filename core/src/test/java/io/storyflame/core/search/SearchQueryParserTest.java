@@ -0,0 +1,64 @@
+package io.storyflame.core.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SearchQueryParserTest {
+    @Test
+    void leavesPlainQueriesToSubstringSearch() {
+        assertNull(SearchQueryParser.parse("ao portão"));
+        assertNull(SearchQueryParser.parse("   "));
+        assertNull(SearchQueryParser.parse(null));
+    }
+
+    @Test
+    void parsesPhrasesBooleanOperatorsAndProximity() {
+        assertEquals(
+                new SearchQuery.Phrase(List.of("ana", "clara")),
+                SearchQueryParser.parse("\"Ana Clará\"")
+        );
+        assertEquals(
+                new SearchQuery.Near(new SearchQuery.Term("ana"), new SearchQuery.Term("espada"), SearchQueryParser.DEFAULT_NEAR_DISTANCE),
+                SearchQueryParser.parse("Ana NEAR espada")
+        );
+        assertEquals(
+                new SearchQuery.Or(List.of(
+                        new SearchQuery.And(List.of(new SearchQuery.Term("lia"), new SearchQuery.Not(new SearchQuery.Term("noa")))),
+                        new SearchQuery.Near(new SearchQuery.Term("mapa"), new SearchQuery.Term("porto"), 3)
+                )),
+                SearchQueryParser.parse("lia AND NOT noa OR mapa NEAR/3 porto")
+        );
+        assertEquals(
+                new SearchQuery.And(List.of(
+                        new SearchQuery.Or(List.of(new SearchQuery.Term("lia"), new SearchQuery.Term("noa"))),
+                        new SearchQuery.Term("farol")
+                )),
+                SearchQueryParser.parse("(lia OR noa) farol")
+        );
+    }
+
+    @Test
+    void parsesFuzzyTermsWithOptionalDistance() {
+        assertEquals(new SearchQuery.Fuzzy("aelindra", 2), SearchQueryParser.parse("Aelindra~"));
+        assertEquals(new SearchQuery.Fuzzy("lia", 1), SearchQueryParser.parse("Lía~"));
+        assertEquals(new SearchQuery.Fuzzy("lia", 2), SearchQueryParser.parse("lia~9"));
+        assertEquals(
+                new SearchQuery.And(List.of(new SearchQuery.Fuzzy("kharvos", 1), new SearchQuery.Term("torre"))),
+                SearchQueryParser.parse("kharvos~1 torre")
+        );
+    }
+
+    @Test
+    void toleratesIncompleteQueriesWhileTyping() {
+        assertEquals(new SearchQuery.Phrase(List.of("ana", "cla")), SearchQueryParser.parse("\"ana cla"));
+        assertEquals(
+                new SearchQuery.Or(List.of(new SearchQuery.Term("lia"), new SearchQuery.Term("noa"))),
+                SearchQueryParser.parse("(lia OR noa")
+        );
+        assertEquals(new SearchQuery.Term("lia"), SearchQueryParser.parse("lia AND"));
+        assertEquals(new SearchQuery.Term("lia"), SearchQueryParser.parse("lia NOT"));
+    }
+}
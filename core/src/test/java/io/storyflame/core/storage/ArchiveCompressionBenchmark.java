@@ -0,0 +1,84 @@
+package io.storyflame.core.storage;
+
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Character;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public final class ArchiveCompressionBenchmark {
+    private static final String[] WORDS = {
+            "a", "estacao", "piscou", "quando", "Lia", "atravessou", "o", "corredor", "silencioso", "e",
+            "sentiu", "medo", "do", "alarme", "que", "ecoava", "no", "casco", "enquanto", "Noa",
+            "ajustava", "os", "motores", "sem", "dizer", "nada", "sobre", "a", "noite", "anterior"
+    };
+
+    private ArchiveCompressionBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Project project = manuscript(60, 10, 900);
+        Map<String, ArchiveCompression> modes = new LinkedHashMap<>();
+        modes.put("fastest", ArchiveCompression.FASTEST);
+        modes.put("default", ArchiveCompression.DEFAULT);
+        modes.put("smallest", ArchiveCompression.SMALLEST);
+        modes.put("stored", new ArchiveCompression(0, 0));
+        Path directory = Files.createTempDirectory("storyflame-compression-benchmark");
+        System.out.printf("%-10s %12s %12s %12s%n", "mode", "bytes", "save ms", "open ms");
+        for (Map.Entry<String, ArchiveCompression> mode : modes.entrySet()) {
+            long saveNanos = 0;
+            long openNanos = 0;
+            long size = 0;
+            for (int round = 0; round < rounds; round++) {
+                ProjectArchiveStore store = new ProjectArchiveStore(directory.resolve(mode.getKey() + "-" + round), mode.getValue());
+                long started = System.nanoTime();
+                Path archive = store.save(project);
+                saveNanos += System.nanoTime() - started;
+                started = System.nanoTime();
+                store.open(archive);
+                openNanos += System.nanoTime() - started;
+                size = Files.size(archive);
+            }
+            System.out.printf(
+                    "%-10s %12d %12.1f %12.1f%n",
+                    mode.getKey(),
+                    size,
+                    saveNanos / 1_000_000.0 / rounds,
+                    openNanos / 1_000_000.0 / rounds
+            );
+        }
+    }
+
+    private static Project manuscript(int chapterCount, int scenesPerChapter, int wordsPerScene) {
+        Random random = new Random(42);
+        Project project = Project.blank("Benchmark", "StoryFlame");
+        for (int characterIndex = 0; characterIndex < 20; characterIndex++) {
+            project.getCharacters().add(new Character("char-" + characterIndex, "Personagem " + characterIndex, "Papel " + characterIndex));
+        }
+        for (int chapterIndex = 0; chapterIndex < chapterCount; chapterIndex++) {
+            List<Scene> scenes = new ArrayList<>();
+            for (int sceneIndex = 0; sceneIndex < scenesPerChapter; sceneIndex++) {
+                StringBuilder content = new StringBuilder();
+                for (int wordIndex = 0; wordIndex < wordsPerScene; wordIndex++) {
+                    content.append(WORDS[random.nextInt(WORDS.length)]).append(wordIndex % 14 == 13 ? ". " : " ");
+                }
+                scenes.add(new Scene(
+                        "scene-%d-%d".formatted(chapterIndex, sceneIndex),
+                        "Cena %d.%d".formatted(chapterIndex, sceneIndex),
+                        "Sinopse da cena " + sceneIndex,
+                        content.toString(),
+                        "char-" + (sceneIndex % 20)
+                ));
+            }
+            project.getChapters().add(new Chapter("chapter-" + chapterIndex, "Capitulo " + chapterIndex, scenes));
+        }
+        return project;
+    }
+}
@@ -0,0 +1,87 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import io.storyflame.core.analysis.EmotionAnalysisReport;
+import io.storyflame.core.analysis.EmotionAnalysisService;
+import io.storyflame.core.analysis.EmotionCacheEntry;
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Character;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import io.storyflame.core.tags.CharacterTagProfile;
+import io.storyflame.core.tags.NarrativeTag;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ArchiveJsonAdaptersTest {
+    private final Gson compact = JsonMapperFactory.createCompact();
+    private final Gson pretty = JsonMapperFactory.create();
+
+    @Test
+    void writesSameDocumentsAsReflectiveMappingWithoutWhitespace() {
+        Project project = sampleProject();
+        List<Object> documents = List.of(
+                ProjectArchiveStore.ProjectDocument.from(project),
+                ProjectArchiveStore.ChapterDocument.from(project.getChapters().get(0)),
+                ProjectArchiveStore.CharacterDocument.from(project.getCharacters().get(0)),
+                project.getNarrativeTags().get(0),
+                project.getCharacterTagProfiles().get(0),
+                project.getEmotionAnalysis(),
+                project.getEmotionCache().getEntries().get(0)
+        );
+
+        for (Object document : documents) {
+            String compactJson = compact.toJson(document);
+            assertFalse(compactJson.contains("\n"));
+            assertEquals(JsonParser.parseString(pretty.toJson(document)), JsonParser.parseString(compactJson));
+        }
+    }
+
+    @Test
+    void readsPrettyPrintedDocuments() {
+        Project project = sampleProject();
+        ProjectArchiveStore.ProjectDocument projectDocument = ProjectArchiveStore.ProjectDocument.from(project);
+        ProjectArchiveStore.ChapterDocument chapterDocument = ProjectArchiveStore.ChapterDocument.from(project.getChapters().get(0));
+        EmotionCacheEntry cacheEntry = project.getEmotionCache().getEntries().get(0);
+
+        assertEquals(projectDocument, compact.fromJson(pretty.toJson(projectDocument), ProjectArchiveStore.ProjectDocument.class));
+        assertEquals(chapterDocument, compact.fromJson(pretty.toJson(chapterDocument), ProjectArchiveStore.ChapterDocument.class));
+        assertEquals(cacheEntry, compact.fromJson(pretty.toJson(cacheEntry), EmotionCacheEntry.class));
+        assertEquals(project.getEmotionAnalysis(), compact.fromJson(pretty.toJson(project.getEmotionAnalysis()), EmotionAnalysisReport.class));
+        CharacterTagProfile profile = compact.fromJson(pretty.toJson(project.getCharacterTagProfiles().get(0)), CharacterTagProfile.class);
+        assertEquals("char-1", profile.getCharacterId());
+        assertEquals("Lia:", profile.getPrefix());
+        assertEquals(List.of("custom-1"), profile.getPreferredTagIds());
+    }
+
+    @Test
+    void ignoresUnknownFieldsAndKeepsMissingOnesEmpty() {
+        ProjectArchiveStore.ChapterDocument document = compact.fromJson(
+                "{\"id\":\"chapter-1\",\"extra\":{\"nested\":[1,2]},\"scenes\":[{\"id\":\"scene-1\",\"content\":\"Texto\"}]}",
+                ProjectArchiveStore.ChapterDocument.class
+        );
+
+        Chapter chapter = document.toModel();
+        assertEquals("chapter-1", chapter.getId());
+        assertEquals("Texto", chapter.getScenes().get(0).getContent());
+        assertTrue(chapter.getScenes().get(0).getSynopsis().isEmpty());
+    }
+
+    private Project sampleProject() {
+        Project project = Project.blank("Nebula Hearts", "Marco");
+        project.getCharacters().add(new Character("char-1", "Lia", "Pilot"));
+        project.getNarrativeTags().add(new NarrativeTag("custom-1", "Custom", "Descricao", "observou tudo"));
+        project.getCharacterTagProfiles().add(new CharacterTagProfile("char-1", "Lia:", List.of("custom-1")));
+        project.getChapters().add(new Chapter("chapter-1", "Arrival", List.of(
+                new Scene("scene-1", "Docking", "Chegada ao anel.", "A estacao piscou, e todos sorriram de alegria.", "char-1"),
+                new Scene("scene-2", "Alarm", "", "O alarme \"ecoou\"\nno casco com medo.", null)
+        )));
+        new EmotionAnalysisService().analyze(project);
+        return project;
+    }
+}
@@ -0,0 +1,56 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import org.junit.jupiter.api.Test;
+
+class ArchiveTasksTest {
+    @Test
+    void reusesWorkerThreadsUntilClosed() throws Exception {
+        ArchiveTasks archiveTasks = new ArchiveTasks(2);
+        Set<Thread> workers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        workers.addAll(archiveTasks.run(currentThreadTasks(16)));
+        workers.addAll(archiveTasks.run(currentThreadTasks(16)));
+        archiveTasks.close();
+
+        assertTrue(workers.size() <= 2, "workers: " + workers.size());
+        for (Thread worker : workers) {
+            assertTrue(worker.isDaemon());
+            worker.join(5_000);
+            assertFalse(worker.isAlive());
+        }
+        assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), archiveTasks.run(currentThreadTasks(2), 1));
+    }
+
+    @Test
+    void runsNestedTasksOnTheWorkerThread() throws Exception {
+        try (ArchiveTasks archiveTasks = new ArchiveTasks(2)) {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int index = 0; index < 8; index++) {
+                tasks.add(() -> {
+                    Thread worker = Thread.currentThread();
+                    return archiveTasks.run(currentThreadTasks(8)).stream().allMatch(thread -> thread == worker);
+                });
+            }
+
+            assertEquals(Collections.nCopies(8, true), archiveTasks.run(tasks));
+        }
+    }
+
+    private static List<Callable<Thread>> currentThreadTasks(int count) {
+        List<Callable<Thread>> tasks = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            tasks.add(Thread::currentThread);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,42 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class IoThrottleTest {
+    @Test
+    void spacesTransfersToConfiguredRate() throws Exception {
+        AtomicLong clock = new AtomicLong();
+        List<Long> sleeps = new ArrayList<>();
+        IoThrottle throttle = new IoThrottle(1_000, clock::get, nanos -> {
+            sleeps.add(nanos);
+            clock.addAndGet(nanos);
+        });
+
+        throttle.acquire(500);
+        throttle.acquire(500);
+        throttle.acquire(2_000);
+
+        assertEquals(List.of(TimeUnit.MILLISECONDS.toNanos(500), TimeUnit.MILLISECONDS.toNanos(500)), sleeps);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        throttle.acquire(100);
+        assertEquals(2, sleeps.size());
+    }
+
+    @Test
+    void unlimitedThrottleNeverSleeps() throws Exception {
+        List<Long> sleeps = new ArrayList<>();
+        IoThrottle throttle = new IoThrottle(0, System::nanoTime, sleeps::add);
+
+        throttle.acquire(Long.MAX_VALUE / 2);
+        throttle.acquire(1_000_000);
+
+        assertTrue(sleeps.isEmpty());
+    }
+}
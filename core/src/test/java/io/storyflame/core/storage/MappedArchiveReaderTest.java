@@ -0,0 +1,132 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.archive.ProjectArchiveLayout;
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Character;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedArchiveReaderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsSameEntriesAsZipFile() throws Exception {
+        Path archive = new ProjectArchiveStore(tempDir, ArchiveCompression.SMALLEST).save(sampleProject());
+
+        try (ZipFile zip = new ZipFile(archive.toFile());
+             MappedArchiveReader reader = MappedArchiveReader.open(archive)) {
+            List<String> names = zip.stream().map(ZipEntry::getName).toList();
+            assertEquals(names, reader.entryNames());
+            boolean sawStored = false;
+            for (ZipEntry entry : zip.stream().toList()) {
+                sawStored |= !entry.isDirectory() && entry.getMethod() == ZipEntry.STORED;
+                try (InputStream expected = zip.getInputStream(entry); InputStream actual = reader.open(entry.getName())) {
+                    assertArrayEquals(expected.readAllBytes(), actual.readAllBytes(), entry.getName());
+                }
+            }
+            assertTrue(sawStored);
+            assertTrue(reader.contains(ProjectArchiveLayout.PROJECT_FILE));
+            assertFalse(reader.contains("missing.json"));
+            assertNull(reader.open("missing.json"));
+        }
+    }
+
+    @Test
+    void readsArchivesWrittenByStandardZipWriter() throws Exception {
+        Path archive = tempDir.resolve("standard.zip");
+        byte[] content = "Texto longo repetido. ".repeat(500).getBytes(StandardCharsets.UTF_8);
+        try (ZipOutputStream output = new ZipOutputStream(Files.newOutputStream(archive))) {
+            output.setComment("comentario");
+            output.putNextEntry(new ZipEntry("cena.txt"));
+            output.write(content);
+            output.closeEntry();
+        }
+
+        try (MappedArchiveReader reader = MappedArchiveReader.open(archive); InputStream input = reader.open("cena.txt")) {
+            byte[] buffer = new byte[37];
+            ByteArrayOutputStream read = new ByteArrayOutputStream();
+            int count;
+            while ((count = input.read(buffer)) > 0) {
+                read.write(buffer, 0, count);
+            }
+            assertArrayEquals(content, read.toByteArray());
+        }
+    }
+
+    @Test
+    void opensProjectIdenticallyThroughMappedAndStreamedReads() {
+        Project project = sampleProject();
+        Path archive = new ProjectArchiveStore(tempDir).save(project);
+
+        Project mapped = new ProjectArchiveStore(tempDir, ArchiveCompression.DEFAULT, ArchiveReadOptions.MAPPED).open(archive);
+        Project streamed = new ProjectArchiveStore(tempDir, ArchiveCompression.DEFAULT, ArchiveReadOptions.STREAMED).open(archive);
+        Project lazy = new ProjectArchiveStore(tempDir, ArchiveCompression.DEFAULT, ArchiveReadOptions.MAPPED).openLazily(archive);
+
+        for (Project loaded : List.of(mapped, lazy)) {
+            assertEquals(streamed.getTitle(), loaded.getTitle());
+            assertEquals(streamed.getCharacters().size(), loaded.getCharacters().size());
+            for (int chapterIndex = 0; chapterIndex < streamed.getChapters().size(); chapterIndex++) {
+                List<Scene> expected = streamed.getChapters().get(chapterIndex).getScenes();
+                List<Scene> actual = loaded.getChapters().get(chapterIndex).getScenes();
+                assertEquals(expected.size(), actual.size());
+                for (int sceneIndex = 0; sceneIndex < expected.size(); sceneIndex++) {
+                    assertEquals(expected.get(sceneIndex).getContent(), actual.get(sceneIndex).getContent());
+                }
+            }
+        }
+        assertTrue(new ProjectArchiveInspector(ArchiveReadOptions.MAPPED).inspect(archive).valid());
+    }
+
+    @Test
+    void rejectsFilesThatAreNotZipArchives() throws Exception {
+        Path notZip = Files.writeString(tempDir.resolve("broken.storyflame"), "not a zip archive");
+        Path truncated = tempDir.resolve("truncated.storyflame");
+        byte[] valid = Files.readAllBytes(new ProjectArchiveStore(tempDir).save(sampleProject()));
+        try (OutputStream output = Files.newOutputStream(truncated)) {
+            output.write(valid, 0, valid.length / 2);
+        }
+
+        assertThrows(ZipException.class, () -> MappedArchiveReader.open(notZip));
+        assertThrows(ZipException.class, () -> MappedArchiveReader.open(truncated));
+        assertFalse(new ProjectArchiveInspector(ArchiveReadOptions.MAPPED).inspect(notZip).valid());
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveReadOptions(-1));
+    }
+
+    private Project sampleProject() {
+        Project project = Project.blank("Mapped Archive", "Reader");
+        project.getCharacters().add(new Character("char-1", "Lia", "Pilot"));
+        for (int chapterIndex = 0; chapterIndex < 6; chapterIndex++) {
+            List<Scene> scenes = new ArrayList<>();
+            for (int sceneIndex = 0; sceneIndex < 4; sceneIndex++) {
+                String content = sceneIndex == 0
+                        ? "Curta."
+                        : ("Capitulo %d, cena %d. ".formatted(chapterIndex, sceneIndex)).repeat(200);
+                scenes.add(new Scene("scene-%d-%d".formatted(chapterIndex, sceneIndex), "Cena " + sceneIndex, content, "char-1"));
+            }
+            project.getChapters().add(new Chapter("chapter-" + chapterIndex, "Capitulo " + chapterIndex, scenes));
+        }
+        return project;
+    }
+}
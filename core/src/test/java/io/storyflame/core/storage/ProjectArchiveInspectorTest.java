@@ -78,6 +78,27 @@ class ProjectArchiveInspectorTest {
         assertTrue(exception.getMessage().contains("Invalid manifest.json"));
     }
 
+    @Test
+    void flagsVersionOneArchiveForMigration() throws Exception {
+        Path archive = tempDir.resolve("version-one.storyflame");
+        writeArchive(archive, Map.of(
+                ProjectArchiveLayout.MANIFEST_FILE, """
+                        {"format":"storyflame-zip","version":1,"appVersion":"0.2.0-SNAPSHOT","createdAt":"2026-03-29T00:00:00Z"}
+                        """,
+                ProjectArchiveLayout.PROJECT_FILE, """
+                        {"id":"project-1","title":"Livro","author":"Ana","createdAt":"2026-03-29T00:00:00Z","updatedAt":"2026-03-29T00:00:00Z","chapterIds":[],"characterIds":[]}
+                        """,
+                ProjectArchiveLayout.NARRATIVE_TAGS_FILE, "[]",
+                ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE, "[]"
+        ));
+
+        ProjectArchiveInspection inspection = new ProjectArchiveInspector().inspect(archive);
+
+        assertTrue(inspection.valid());
+        assertTrue(inspection.requiresMigration());
+        assertEquals(1, inspection.detectedVersion());
+    }
+
     private void writeArchive(Path archive, Map<String, String> fileEntries) throws Exception {
         try (ZipOutputStream output = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
             output.putNextEntry(new ZipEntry(ProjectArchiveLayout.CHAPTERS_DIRECTORY));
@@ -0,0 +1,88 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.archive.ProjectArchiveLayout;
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectArchiveMigratorTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void migratesLegacyArchivesInParallelAndKeepsGoingAfterFailures() throws Exception {
+        Path library = tempDir.resolve("library");
+        ProjectArchiveStore store = new ProjectArchiveStore(library);
+        for (int index = 0; index < 6; index++) {
+            Path current = store.save(sampleProject("Livro " + index), library.resolve("book-" + index + ".storyflame"));
+            if (index % 2 == 0) {
+                Path legacy = tempDir.resolve("legacy.storyflame");
+                writeWithoutManifest(current, legacy);
+                Files.move(legacy, current, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.writeString(library.resolve("broken.storyflame"), "not a zip", StandardCharsets.UTF_8);
+        Files.writeString(library.resolve("notes.txt"), "ignored", StandardCharsets.UTF_8);
+        List<ArchiveMigrationResult> progress = new ArrayList<>();
+
+        ArchiveMigrationReport report = new ProjectArchiveMigrator(4).migrateDirectory(library, progress::add);
+
+        assertEquals(7, report.results().size());
+        assertEquals(7, progress.size());
+        assertEquals(3, report.count(ArchiveMigrationResult.Status.MIGRATED));
+        assertEquals(3, report.count(ArchiveMigrationResult.Status.CURRENT));
+        assertEquals(1, report.count(ArchiveMigrationResult.Status.FAILED));
+        assertTrue(report.hasFailures());
+        ArchiveMigrationResult broken = report.results().get(6);
+        assertEquals("broken.storyflame", broken.path().getFileName().toString());
+        assertEquals(ArchiveMigrationResult.Status.FAILED, broken.status());
+        assertFalse(broken.issues().isEmpty());
+        for (int index = 0; index < 6; index += 2) {
+            Path migrated = library.resolve("book-" + index + ".storyflame");
+            ProjectArchiveInspection inspection = store.inspect(migrated);
+            assertFalse(inspection.requiresMigration());
+            assertEquals(ProjectArchiveLayout.SPEC_VERSION_NUMBER, inspection.detectedVersion());
+            assertEquals("Texto do Livro " + index, store.open(migrated).getChapters().get(0).getScenes().get(0).getContent());
+        }
+    }
+
+    private void writeWithoutManifest(Path sourceArchive, Path targetArchive) throws Exception {
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(sourceArchive)));
+             ZipOutputStream output = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(targetArchive)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals(ProjectArchiveLayout.MANIFEST_FILE)) {
+                    continue;
+                }
+                output.putNextEntry(new ZipEntry(entry.getName()));
+                zip.transferTo(output);
+                output.closeEntry();
+            }
+        }
+    }
+
+    private Project sampleProject(String title) {
+        Project project = Project.blank(title, "Autora");
+        project.getChapters().add(new Chapter("chapter-1", "Capitulo", List.of(
+                new Scene("scene-1", "Cena", "Texto do " + title, null)
+        )));
+        return project;
+    }
+}
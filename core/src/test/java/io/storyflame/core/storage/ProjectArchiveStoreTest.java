@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.gson.JsonParser;
 import io.storyflame.core.archive.ProjectArchiveLayout;
 import io.storyflame.core.analysis.EmotionAnalysisService;
 import io.storyflame.core.model.Chapter;
@@ -17,12 +18,19 @@ import io.storyflame.core.tags.NarrativeTag;
 import io.storyflame.core.validation.ProjectValidationOperation;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 import org.junit.jupiter.api.Test;
@@ -54,6 +62,308 @@ class ProjectArchiveStoreTest {
         );
     }
 
+    @Test
+    void reencodesOnlyChangedEntriesOnRepeatedSave() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = largeProject();
+        Path archive = store.save(project);
+        int entryCount = store.lastSavedArchive(archive).encodedEntries();
+
+        project.getChapters().get(7).getScenes().get(3).setContent("Uma palavra nova.");
+        store.save(project, archive);
+
+        ArchiveEntryCache.SavedArchive savedArchive = store.lastSavedArchive(archive);
+        assertEquals(entryCount, savedArchive.encodedEntries() + savedArchive.reusedEntries());
+        assertTrue(savedArchive.encodedEntries() <= 4);
+        Project loaded = store.open(archive);
+        assertEquals("Uma palavra nova.", loaded.getChapters().get(7).getScenes().get(3).getContent());
+        assertEquals(
+                project.getChapters().get(119).getScenes().get(11).getContent(),
+                loaded.getChapters().get(119).getScenes().get(11).getContent()
+        );
+    }
+
+    @Test
+    void copiesUnchangedEntriesFromArchiveOnFirstSaveAfterOpen() throws Exception {
+        Path archive = new ProjectArchiveStore(tempDir).save(largeProject());
+        int entryCount;
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            entryCount = zip.size();
+        }
+
+        ProjectArchiveStore eagerStore = new ProjectArchiveStore(tempDir);
+        Project eager = eagerStore.open(archive);
+        eager.getChapters().get(7).getScenes().get(3).setContent("Uma palavra nova.");
+        eagerStore.save(eager, archive);
+        ArchiveEntryCache.SavedArchive eagerSave = eagerStore.lastSavedArchive(archive);
+        assertTrue(eagerSave.encodedEntries() <= 4);
+        assertTrue(eagerSave.copiedEntries() >= entryCount - 8);
+
+        ProjectArchiveStore lazyStore = new ProjectArchiveStore(tempDir);
+        Project lazy = lazyStore.openLazily(archive);
+        lazy.getChapters().get(9).getScenes().get(1).setContent("Outra palavra.");
+        lazyStore.save(lazy, archive);
+        ArchiveEntryCache.SavedArchive lazySave = lazyStore.lastSavedArchive(archive);
+        assertTrue(lazySave.encodedEntries() <= 4);
+        assertTrue(lazySave.copiedEntries() >= entryCount - 8);
+        assertFalse(lazy.getChapters().get(119).isScenesLoaded());
+
+        Project loaded = new ProjectArchiveStore(tempDir).open(archive);
+        assertEquals("Uma palavra nova.", loaded.getChapters().get(7).getScenes().get(3).getContent());
+        assertEquals("Outra palavra.", loaded.getChapters().get(9).getScenes().get(1).getContent());
+        assertEquals(
+                largeProject().getChapters().get(119).getScenes().get(11).getContent(),
+                loaded.getChapters().get(119).getScenes().get(11).getContent()
+        );
+        assertTrue(new ProjectArchiveStore(tempDir).detectExternalChanges(archive).isEmpty());
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            for (ZipEntry entry : zip.stream().toList()) {
+                zip.getInputStream(entry).readAllBytes();
+            }
+        }
+    }
+
+    @Test
+    void writesArchiveReadableByStandardZipReader() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject());
+        List<String> entryNames = new ArrayList<>();
+
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entryNames.add(entry.getName());
+                zip.readAllBytes();
+            }
+        }
+
+        assertTrue(entryNames.containsAll(ProjectArchiveLayout.requiredEntries()));
+        assertTrue(entryNames.contains(ProjectArchiveLayout.chapterFile("chapter-1")));
+        assertTrue(entryNames.contains(ProjectArchiveLayout.characterFile("char-2")));
+    }
+
+    @Test
+    void keepsSavingThroughTheSharedExecutorAndAfterClose() {
+        Project project = largeProject();
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir, 8);
+        Path archive = store.save(project, tempDir.resolve("shared.storyflame"));
+        project.getChapters().get(7).getScenes().get(3).setContent("Primeira revisao.");
+        store.save(project, archive);
+        store.close();
+        project.getChapters().get(9).getScenes().get(1).setContent("Salvo depois de fechar.");
+
+        store.save(project, archive);
+
+        Project reopened = new ProjectArchiveStore(tempDir, 1).open(archive);
+        assertEquals("Primeira revisao.", reopened.getChapters().get(7).getScenes().get(3).getContent());
+        assertEquals("Salvo depois de fechar.", reopened.getChapters().get(9).getScenes().get(1).getContent());
+    }
+
+    @Test
+    void writesSameEntriesWhenSavingInParallelAndSequentially() throws Exception {
+        Project project = largeProject();
+        Path parallelArchive = new ProjectArchiveStore(tempDir, 8).save(project, tempDir.resolve("parallel.storyflame"));
+        Path sequentialArchive = new ProjectArchiveStore(tempDir, 1).save(project, tempDir.resolve("sequential.storyflame"));
+
+        try (ZipFile parallel = new ZipFile(parallelArchive.toFile()); ZipFile sequential = new ZipFile(sequentialArchive.toFile())) {
+            List<String> parallelNames = parallel.stream().map(ZipEntry::getName).toList();
+            assertEquals(sequential.stream().map(ZipEntry::getName).toList(), parallelNames);
+            for (String name : parallelNames) {
+                if (name.equals(ProjectArchiveLayout.MANIFEST_FILE) || name.equals(ProjectArchiveLayout.PROJECT_FILE)) {
+                    continue;
+                }
+                ZipEntry parallelEntry = parallel.getEntry(name);
+                ZipEntry sequentialEntry = sequential.getEntry(name);
+                assertEquals(sequentialEntry.getCrc(), parallelEntry.getCrc(), name);
+                assertEquals(sequentialEntry.getCompressedSize(), parallelEntry.getCompressedSize(), name);
+            }
+        }
+    }
+
+    @Test
+    void storesSceneContentAsRawTextEntries() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        project.getChapters().get(0).getScenes().get(0).setContent("Linha \"um\"\nLinha dois — ação.");
+        Path archive = store.save(project);
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            String sceneText = new String(
+                    zip.getInputStream(zip.getEntry(ProjectArchiveLayout.sceneContentFile("chapter-1", "scene-1"))).readAllBytes(),
+                    java.nio.charset.StandardCharsets.UTF_8
+            );
+            String chapterJson = new String(
+                    zip.getInputStream(zip.getEntry(ProjectArchiveLayout.chapterFile("chapter-1"))).readAllBytes(),
+                    java.nio.charset.StandardCharsets.UTF_8
+            );
+            assertEquals("Linha \"um\"\nLinha dois — ação.", sceneText);
+            assertFalse(chapterJson.contains("\"content\""));
+        }
+        assertEquals("Linha \"um\"\nLinha dois — ação.", store.open(archive).getChapters().get(0).getScenes().get(0).getContent());
+    }
+
+    @Test
+    void keepsInlineContentForRepeatedSceneIdsWithinChapter() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = Project.blank("Repetido", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(
+                new Scene("scene-1", "A", "primeira", null),
+                new Scene("scene-1", "B", "segunda", null)
+        )));
+
+        Project loaded = store.open(store.save(project));
+
+        assertEquals("primeira", loaded.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals("segunda", loaded.getChapters().get(0).getScenes().get(1).getContent());
+    }
+
+    @Test
+    void opensVersionOneArchiveAndMigratesSceneContentToTextEntries() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path legacyArchive = tempDir.resolve("v1.storyflame");
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put(ProjectArchiveLayout.MANIFEST_FILE, """
+                {"format":"storyflame-zip","version":1,"appVersion":"0.2.0-SNAPSHOT","createdAt":"2026-03-29T00:00:00Z"}
+                """);
+        entries.put(ProjectArchiveLayout.PROJECT_FILE, """
+                {"id":"project-1","title":"Livro","author":"Ana","createdAt":"2026-03-29T00:00:00Z","updatedAt":"2026-03-29T00:00:00Z","chapterIds":["chapter-1"],"characterIds":[]}
+                """);
+        entries.put(ProjectArchiveLayout.NARRATIVE_TAGS_FILE, "[]");
+        entries.put(ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE, "[]");
+        entries.put(ProjectArchiveLayout.chapterFile("chapter-1"), """
+                {
+                  "id": "chapter-1",
+                  "title": "Inicio",
+                  "scenes": [
+                    {"id": "scene-1", "title": "Cena", "synopsis": "", "content": "Texto \\"antigo\\"\\ncom quebra."}
+                  ]
+                }
+                """);
+        writeArchive(legacyArchive, entries);
+
+        OpenedProjectArchive opened = store.openInspected(legacyArchive);
+        Path migratedArchive = store.migrateArchive(legacyArchive, tempDir.resolve("v2.storyflame"));
+
+        assertTrue(opened.inspection().requiresMigration());
+        assertEquals(1, opened.inspection().detectedVersion());
+        assertEquals("Texto \"antigo\"\ncom quebra.", opened.project().getChapters().get(0).getScenes().get(0).getContent());
+        ProjectArchiveInspection migratedInspection = store.inspect(migratedArchive);
+        assertFalse(migratedInspection.requiresMigration());
+        assertEquals(ProjectArchiveLayout.SPEC_VERSION_NUMBER, migratedInspection.detectedVersion());
+        try (ZipFile zip = new ZipFile(migratedArchive.toFile())) {
+            assertNotNull(zip.getEntry(ProjectArchiveLayout.sceneContentFile("chapter-1", "scene-1")));
+        }
+        assertEquals("Texto \"antigo\"\ncom quebra.", store.open(migratedArchive).getChapters().get(0).getScenes().get(0).getContent());
+    }
+
+    @Test
+    void opensLazilyAndLoadsChapterScenesOnFirstAccess() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = largeProject();
+        Path archive = store.save(project);
+
+        Project loaded = store.openLazily(archive);
+
+        assertEquals(120, loaded.getChapters().size());
+        assertEquals(80, loaded.getCharacters().size());
+        assertEquals("Chapter 42", loaded.getChapters().get(42).getTitle());
+        assertTrue(loaded.getChapters().stream().noneMatch(Chapter::isScenesLoaded));
+        assertEquals(
+                project.getChapters().get(42).getScenes().get(5).getContent(),
+                loaded.getChapters().get(42).getScenes().get(5).getContent()
+        );
+        assertTrue(loaded.getChapters().get(42).isScenesLoaded());
+        assertFalse(loaded.getChapters().get(41).isScenesLoaded());
+    }
+
+    @Test
+    void savesLazilyOpenedProjectWithoutLoadingUntouchedChapters() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = largeProject();
+        Path archive = store.save(project);
+        Project loaded = store.openLazily(archive);
+        loaded.getChapters().get(3).getScenes().get(0).setContent("Texto revisado.");
+        Path renamedArchive = tempDir.resolve("renamed.storyflame");
+
+        store.save(loaded, renamedArchive);
+        Files.delete(archive);
+
+        assertEquals(1, loaded.getChapters().stream().filter(Chapter::isScenesLoaded).count());
+        Project reopened = store.open(renamedArchive);
+        assertEquals("Texto revisado.", reopened.getChapters().get(3).getScenes().get(0).getContent());
+        assertEquals(
+                project.getChapters().get(100).getScenes().get(2).getContent(),
+                reopened.getChapters().get(100).getScenes().get(2).getContent()
+        );
+        assertEquals(
+                project.getChapters().get(100).getScenes().get(2).getContent(),
+                loaded.getChapters().get(100).getScenes().get(2).getContent()
+        );
+    }
+
+    @Test
+    void opensLegacyArchiveWithoutChapterTitlesEagerlyInLazyMode() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject());
+        Path legacyArchive = tempDir.resolve("legacy-project-document.storyflame");
+        rewriteArchiveEntry(
+                archive,
+                legacyArchive,
+                ProjectArchiveLayout.PROJECT_FILE,
+                content -> content.replaceAll("(?s),\\s*\"chapterTitles\":\\s*\\{[^}]*}", "")
+        );
+
+        Project loaded = store.openLazily(legacyArchive);
+
+        assertTrue(loaded.getChapters().get(0).isScenesLoaded());
+        assertEquals("Arrival", loaded.getChapters().get(0).getTitle());
+        assertEquals("The station lights flickered.", loaded.getChapters().get(0).getScenes().get(0).getContent());
+    }
+
+    @Test
+    void keepsPreviousArchiveWhenSaveIsInterruptedMidWrite() throws Exception {
+        Path archive = tempDir.resolve("atomic").resolve("book.storyflame");
+        Project project = largeProject();
+        new ProjectArchiveStore(tempDir).save(project, archive);
+        long previousSize = Files.size(archive);
+        ProjectArchiveStore interruptedStore = new ProjectArchiveStore(tempDir, 1, output -> new FilterOutputStream(output) {
+            private long written;
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) throws IOException {
+                written += length;
+                if (written > 64 * 1024) {
+                    throw new IOException("simulated crash");
+                }
+                out.write(buffer, offset, length);
+            }
+        });
+        project.getChapters().get(0).getScenes().get(0).setContent("Versao que nunca chega ao disco.");
+
+        assertThrows(java.io.UncheckedIOException.class, () -> interruptedStore.save(project, archive));
+
+        assertEquals(previousSize, Files.size(archive));
+        assertTrue(new ProjectArchiveStore(tempDir).open(archive).getChapters().get(0).getScenes().get(0).getContent().startsWith("Long body"));
+        try (var files = Files.list(archive.getParent())) {
+            assertEquals(List.of(archive), files.toList());
+        }
+    }
+
+    @Test
+    void replacesExistingArchiveWithoutLeavingTemporaryFiles() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = store.save(project, tempDir.resolve("replace").resolve("book.storyflame"));
+        project.setTitle("Titulo novo");
+
+        store.save(project, archive);
+
+        assertEquals("Titulo novo", store.open(archive).getTitle());
+        try (var files = Files.list(archive.getParent())) {
+            assertEquals(List.of(archive), files.toList());
+        }
+    }
+
     @Test
     void listsSavedProjectsInBaseDirectory() {
         ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
@@ -81,6 +391,45 @@ class ProjectArchiveStoreTest {
         assertFalse(loaded.getChapters().get(119).getScenes().get(11).getContent().isBlank());
     }
 
+    @Test
+    void opensLargeProjectWithSameContentInParallelAndSequentially() {
+        Path archive = new ProjectArchiveStore(tempDir).save(largeProject());
+
+        Project parallel = new ProjectArchiveStore(tempDir, 8).open(archive);
+        Project sequential = new ProjectArchiveStore(tempDir, 1).open(archive);
+
+        assertEquals(
+                sequential.getChapters().stream().map(Chapter::getId).toList(),
+                parallel.getChapters().stream().map(Chapter::getId).toList()
+        );
+        assertEquals(
+                sequential.getCharacters().stream().map(Character::getId).toList(),
+                parallel.getCharacters().stream().map(Character::getId).toList()
+        );
+        for (int chapterIndex = 0; chapterIndex < sequential.getChapters().size(); chapterIndex++) {
+            List<Scene> expectedScenes = sequential.getChapters().get(chapterIndex).getScenes();
+            List<Scene> actualScenes = parallel.getChapters().get(chapterIndex).getScenes();
+            assertEquals(expectedScenes.size(), actualScenes.size());
+            for (int sceneIndex = 0; sceneIndex < expectedScenes.size(); sceneIndex++) {
+                assertEquals(expectedScenes.get(sceneIndex).getId(), actualScenes.get(sceneIndex).getId());
+                assertEquals(expectedScenes.get(sceneIndex).getContent(), actualScenes.get(sceneIndex).getContent());
+            }
+        }
+    }
+
+    @Test
+    void reportsMalformedChapterWhenOpeningLargeProjectInParallel() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir, 8);
+        Path archive = store.save(largeProject());
+        Path brokenArchive = tempDir.resolve("broken-large.storyflame");
+
+        rewriteArchiveEntry(archive, brokenArchive, ProjectArchiveLayout.chapterFile("chapter-77"), "{\"id\":");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> store.open(brokenArchive));
+
+        assertTrue(exception.getMessage().contains("Invalid archive entry: chapter document"));
+    }
+
     @Test
     void preservesLongSceneContentAcrossSaveAndOpen() {
         ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
@@ -176,6 +525,51 @@ class ProjectArchiveStoreTest {
         assertEquals("Nebula Hearts", loaded.getTitle());
     }
 
+    @Test
+    void reportsInspectionAlongsideProjectWhenOpening() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject());
+        Path legacyArchive = tempDir.resolve("legacy-inspected.storyflame");
+        createLegacyArchiveWithoutManifest(archive, legacyArchive);
+
+        OpenedProjectArchive opened = store.openInspected(legacyArchive);
+
+        assertTrue(opened.inspection().valid());
+        assertTrue(opened.inspection().requiresMigration());
+        assertEquals(0, opened.inspection().detectedVersion());
+        assertEquals("Nebula Hearts", opened.project().getTitle());
+        assertEquals(2, opened.project().getChapters().get(0).getScenes().size());
+    }
+
+    @Test
+    void rejectsFileThatIsNotZipArchive() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path notArchive = tempDir.resolve("plain-text.storyflame");
+        Files.writeString(notArchive, "nao sou um pacote");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> store.open(notArchive));
+
+        assertTrue(exception.getMessage().contains("Pacote sem project.json"));
+    }
+
+    @Test
+    void opensArchiveWrittenWithPrettyPrintedJson() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject());
+        Path prettyArchive = tempDir.resolve("pretty.storyflame");
+        com.google.gson.Gson prettyGson = JsonMapperFactory.create();
+
+        rewriteArchiveEntry(
+                archive,
+                prettyArchive,
+                ProjectArchiveLayout.chapterFile("chapter-1"),
+                content -> prettyGson.toJson(com.google.gson.JsonParser.parseString(content))
+        );
+
+        Project loaded = store.open(prettyArchive);
+        assertEquals("An alarm echoed across the hull.", loaded.getChapters().get(0).getScenes().get(1).getContent());
+    }
+
     @Test
     void opensLegacyArchiveWithoutSceneSynopsisField() throws Exception {
         ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
@@ -376,6 +770,93 @@ class ProjectArchiveStoreTest {
         );
     }
 
+    @Test
+    void skipsRewritingArchiveWhenNoEntryChanged() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = tempDir.resolve("unchanged.storyflame");
+        assertTrue(store.saveIfChanged(project, archive));
+        byte[] savedBytes = Files.readAllBytes(archive);
+        Instant savedUpdatedAt = project.getUpdatedAt();
+
+        assertFalse(store.saveIfChanged(project, archive));
+        assertFalse(new ProjectArchiveStore(tempDir).saveIfChanged(store.open(archive), archive));
+        assertTrue(Arrays.equals(savedBytes, Files.readAllBytes(archive)));
+        assertEquals(savedUpdatedAt, project.getUpdatedAt());
+
+        project.getChapters().get(0).getScenes().get(1).setContent("A different alarm.");
+        assertTrue(store.saveIfChanged(project, archive));
+        assertEquals("A different alarm.", store.open(archive).getChapters().get(0).getScenes().get(1).getContent());
+    }
+
+    @Test
+    void recordsContentHashOfEveryEntryInManifest() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject(), tempDir.resolve("hashes.storyflame"));
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            String manifest = new String(zip.getInputStream(zip.getEntry(ProjectArchiveLayout.MANIFEST_FILE)).readAllBytes());
+            var entries = JsonParser.parseString(manifest).getAsJsonObject().getAsJsonObject("entries");
+            String sceneEntry = ProjectArchiveLayout.sceneContentFile("chapter-1", "scene-1");
+            byte[] sceneBytes = zip.getInputStream(zip.getEntry(sceneEntry)).readAllBytes();
+
+            assertEquals(EncodedArchiveEntry.contentHash(sceneBytes), entries.get(sceneEntry).getAsString());
+            assertTrue(entries.has(ProjectArchiveLayout.PROJECT_FILE));
+            assertFalse(entries.has(ProjectArchiveLayout.MANIFEST_FILE));
+            assertFalse(entries.has(ProjectArchiveLayout.CHAPTERS_DIRECTORY));
+        }
+    }
+
+    @Test
+    void honoursConfiguredCompressionAndStoresTinyEntries() throws Exception {
+        Project project = largeProject();
+        Path fastest = new ProjectArchiveStore(tempDir.resolve("fast"), ArchiveCompression.FASTEST).save(project);
+        Path smallest = new ProjectArchiveStore(tempDir.resolve("small"), ArchiveCompression.SMALLEST).save(project);
+        Path uncompressed = new ProjectArchiveStore(tempDir.resolve("raw"), new ArchiveCompression(0, 0)).save(project);
+
+        assertTrue(Files.size(smallest) <= Files.size(fastest));
+        assertTrue(Files.size(fastest) < Files.size(uncompressed));
+        try (ZipFile zip = new ZipFile(smallest.toFile())) {
+            assertEquals(ZipEntry.STORED, zip.getEntry(ProjectArchiveLayout.CHARACTER_TAG_PROFILES_FILE).getMethod());
+            assertEquals(ZipEntry.DEFLATED, zip.getEntry(ProjectArchiveLayout.PROJECT_FILE).getMethod());
+        }
+        for (Path archive : List.of(fastest, smallest, uncompressed)) {
+            Project reopened = new ProjectArchiveStore(tempDir).open(archive);
+            assertEquals(project.getChapters().size(), reopened.getChapters().size());
+            assertEquals(
+                    project.getChapters().get(7).getScenes().get(3).getContent(),
+                    reopened.getChapters().get(7).getScenes().get(3).getContent()
+            );
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ArchiveCompression(12, 0));
+    }
+
+    @Test
+    void loadsAnalysisOnFirstAccessAndCopiesItUnchangedOnSave() throws Exception {
+        Project project = sampleProject();
+        new EmotionAnalysisService().analyze(project);
+        Path archive = new ProjectArchiveStore(tempDir).save(project, tempDir.resolve("analysis.storyflame"));
+        byte[] savedCache = entryBytes(archive, ProjectArchiveLayout.EMOTION_CACHE_FILE);
+
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project reopened = store.open(archive);
+        assertFalse(reopened.isAnalysisLoaded());
+        reopened.getChapters().get(0).getScenes().get(0).setContent("The station went dark.");
+        store.save(reopened, archive);
+
+        assertFalse(reopened.isAnalysisLoaded());
+        assertTrue(Arrays.equals(savedCache, entryBytes(archive, ProjectArchiveLayout.EMOTION_CACHE_FILE)));
+        assertEquals(project.getEmotionAnalysis().chunkCount(), reopened.getEmotionAnalysis().chunkCount());
+        assertTrue(reopened.isAnalysisLoaded());
+        assertEquals(project.getEmotionCache().getEntries(), store.open(archive).getEmotionCache().getEntries());
+    }
+
+    private byte[] entryBytes(Path archive, String entryName) throws IOException {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            return zip.getInputStream(zip.getEntry(entryName)).readAllBytes();
+        }
+    }
+
     private Project sampleProject() {
         Project project = Project.blank("Nebula Hearts", "Marco");
         project.getCharacters().add(new Character("char-1", "Lia", "Pilot"));
@@ -444,6 +925,20 @@ class ProjectArchiveStoreTest {
         }
     }
 
+    private void writeArchive(Path archive, Map<String, String> fileEntries) throws Exception {
+        try (ZipOutputStream output = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+            output.putNextEntry(new ZipEntry(ProjectArchiveLayout.CHAPTERS_DIRECTORY));
+            output.closeEntry();
+            output.putNextEntry(new ZipEntry(ProjectArchiveLayout.CHARACTERS_DIRECTORY));
+            output.closeEntry();
+            for (Map.Entry<String, String> entry : fileEntries.entrySet()) {
+                output.putNextEntry(new ZipEntry(entry.getKey()));
+                output.write(entry.getValue().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+                output.closeEntry();
+            }
+        }
+    }
+
     private void rewriteArchiveEntry(Path sourceArchive, Path targetArchive, String entryName, String replacementContent) throws Exception {
         rewriteArchiveEntry(sourceArchive, targetArchive, entryName, content -> replacementContent);
     }
@@ -0,0 +1,162 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.archive.ProjectArchiveLayout;
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Character;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectArchiveWatcherTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void ignoresArchivesWrittenByTheSameStore() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = store.save(project, tempDir.resolve("own.storyflame"));
+
+        assertTrue(store.detectExternalChanges(archive).isEmpty());
+        project.getChapters().get(0).getScenes().get(0).setContent("Editado aqui.");
+        store.save(project, archive);
+        assertTrue(store.detectExternalChanges(archive).isEmpty());
+        assertTrue(store.detectExternalChanges(tempDir.resolve("unknown.storyflame")).isEmpty());
+    }
+
+    @Test
+    void reloadsOnlyChaptersChangedByAnotherWriter() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = store.save(project, tempDir.resolve("shared.storyflame"));
+        Chapter untouched = project.getChapters().get(0);
+
+        ProjectArchiveStore otherStore = new ProjectArchiveStore(tempDir);
+        Project external = otherStore.open(archive);
+        external.getChapters().get(1).getScenes().get(0).setContent("Escrito em outra janela.");
+        otherStore.save(external, archive);
+
+        ArchiveChangeSet changes = store.detectExternalChanges(archive);
+        assertFalse(changes.requiresFullReload());
+        assertEquals(Set.of("chapter-2"), changes.changedChapterIds());
+        assertTrue(changes.changedEntries().contains(ProjectArchiveLayout.sceneContentFile("chapter-2", "scene-2-1")));
+
+        assertTrue(store.reloadChanges(project, archive, changes));
+        assertSame(untouched, project.getChapters().get(0));
+        assertEquals("Escrito em outra janela.", project.getChapters().get(1).getScenes().get(0).getContent());
+        assertEquals(external.getUpdatedAt(), project.getUpdatedAt());
+        assertTrue(store.detectExternalChanges(archive).isEmpty());
+    }
+
+    @Test
+    void requiresFullReloadWhenProjectStructureChanged() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = store.save(project, tempDir.resolve("structure.storyflame"));
+
+        ProjectArchiveStore otherStore = new ProjectArchiveStore(tempDir);
+        Project external = otherStore.open(archive);
+        external.getChapters().add(new Chapter("chapter-3", "Epilogo", List.of(new Scene("scene-3-1", "Fim", "", null))));
+        otherStore.save(external, archive);
+
+        ArchiveChangeSet changes = store.detectExternalChanges(archive);
+        assertFalse(changes.isEmpty());
+        assertFalse(store.reloadChanges(project, archive, changes));
+        assertEquals(2, project.getChapters().size());
+
+        external.getCharacters().add(new Character("char-2", "Noa", "Engineer"));
+        otherStore.save(external, archive);
+        assertTrue(store.detectExternalChanges(archive).requiresFullReload());
+    }
+
+    @Test
+    void notifiesListenerWhenArchiveChangesOnDisk() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject(), tempDir.resolve("watched.storyflame"));
+        LinkedBlockingQueue<ArchiveChangeSet> notifications = new LinkedBlockingQueue<>();
+
+        LinkedBlockingQueue<RuntimeException> errors = new LinkedBlockingQueue<>();
+
+        try (ProjectArchiveWatcher watcher = new ProjectArchiveWatcher(store, notifications::add, errors::add)) {
+            ProjectArchiveStore otherStore = new ProjectArchiveStore(tempDir);
+            Project external = otherStore.open(archive);
+            external.getChapters().get(0).getScenes().get(0).setContent("Mudanca externa.");
+            otherStore.save(external, archive);
+
+            ArchiveChangeSet changes = notifications.poll(30, TimeUnit.SECONDS);
+            assertEquals(archive.toAbsolutePath().normalize(), changes.path().toAbsolutePath().normalize());
+            assertEquals(Set.of("chapter-1"), changes.changedChapterIds());
+            assertTrue(errors.isEmpty());
+        }
+    }
+
+    @Test
+    void reportsListenerFailuresToErrorCallback() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject(), tempDir.resolve("failing.storyflame"));
+        LinkedBlockingQueue<RuntimeException> errors = new LinkedBlockingQueue<>();
+        IllegalStateException failure = new IllegalStateException("listener failed");
+
+        try (ProjectArchiveWatcher watcher = new ProjectArchiveWatcher(store, changes -> {
+            throw failure;
+        }, errors::add)) {
+            ProjectArchiveStore otherStore = new ProjectArchiveStore(tempDir);
+            Project external = otherStore.open(archive);
+            external.getChapters().get(0).getScenes().get(0).setContent("Mudanca externa.");
+            otherStore.save(external, archive);
+
+            assertSame(failure, errors.poll(30, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void keepsLocalChaptersWhileReloadingTheRest() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = store.save(project, tempDir.resolve("conflict.storyflame"));
+        project.getChapters().get(0).getScenes().get(0).setContent("Versao local.");
+
+        ProjectArchiveStore otherStore = new ProjectArchiveStore(tempDir);
+        Project external = otherStore.open(archive);
+        external.getChapters().get(0).getScenes().get(0).setContent("Versao externa.");
+        external.getChapters().get(1).getScenes().get(0).setContent("Outro capitulo externo.");
+        otherStore.save(external, archive);
+
+        ArchiveChangeSet changes = store.detectExternalChanges(archive);
+        assertEquals(Set.of("chapter-1", "chapter-2"), changes.changedChapterIds());
+        Set<String> kept = Set.of("chapter-1");
+        ArchiveChangeSet others = changes.withoutChapters(kept);
+        assertEquals(Set.of("chapter-2"), others.changedChapterIds());
+        assertTrue(store.reloadChanges(project, archive, others));
+        assertEquals(Set.of("chapter-1"), store.detectExternalChanges(archive).changedChapterIds());
+
+        store.acknowledgeExternalChanges(archive, changes.onlyChapters(kept));
+
+        assertTrue(store.detectExternalChanges(archive).isEmpty());
+        assertEquals("Versao local.", project.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals("Outro capitulo externo.", project.getChapters().get(1).getScenes().get(0).getContent());
+    }
+
+    private Project sampleProject() {
+        Project project = Project.blank("Nebula Hearts", "Marco");
+        project.getCharacters().add(new Character("char-1", "Lia", "Pilot"));
+        for (int chapterIndex = 1; chapterIndex <= 2; chapterIndex++) {
+            List<Scene> scenes = new ArrayList<>();
+            scenes.add(new Scene("scene-%d-1".formatted(chapterIndex), "Abertura", "Texto inicial " + chapterIndex + ".", "char-1"));
+            project.getChapters().add(new Chapter("chapter-" + chapterIndex, "Capitulo " + chapterIndex, scenes));
+        }
+        return project;
+    }
+}
@@ -1,11 +1,13 @@
 package io.storyflame.core.storage;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.ModelRevision;
 import io.storyflame.core.model.Project;
 import io.storyflame.core.model.Scene;
 import java.io.UncheckedIOException;
@@ -14,6 +16,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ScheduledFuture;
@@ -122,13 +125,214 @@ class ProjectAutosaveServiceTest {
         }
     }
 
+    @Test
+    void keepsLazilyOpenedChaptersUnloadedWhenSnapshotting() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Project project = Project.blank("Lazy", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "primeira", null))));
+        project.getChapters().add(new Chapter("chapter-2", "Dois", List.of(new Scene("scene-2", "Cena", "segunda", null))));
+        Path archivePath = store.save(project, tempDir.resolve("lazy.storyflame"));
+        Project lazyProject = store.openLazily(archivePath);
+        lazyProject.getChapters().get(0).getScenes().get(0).setContent("primeira revisada");
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, Duration.ofSeconds(1), scheduler)) {
+            autosaveService.schedule(lazyProject, archivePath, null, null);
+            scheduler.runAll();
+        }
+
+        assertFalse(lazyProject.getChapters().get(1).isScenesLoaded());
+        Project loaded = store.open(archivePath);
+        assertEquals("primeira revisada", loaded.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals("segunda", loaded.getChapters().get(1).getScenes().get(0).getContent());
+    }
+
+    @Test
+    void journalsSceneEditsUntilCompactingSaveRuns() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Project project = Project.blank("Journal", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "original", null))));
+        Path archivePath = store.save(project, tempDir.resolve("journaled.storyflame"));
+        Scene scene = project.getChapters().get(0).getScenes().get(0);
+        scene.setContent("editado");
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, Duration.ofSeconds(1), scheduler)) {
+            autosaveService.scheduleSceneEdit(project, archivePath, "chapter-1", scene, null, null);
+            autosaveService.journal(archivePath).flush();
+
+            assertTrue(Files.exists(ProjectStoragePaths.journalPath(archivePath)));
+            assertEquals("editado", store.open(archivePath).getChapters().get(0).getScenes().get(0).getContent());
+
+            scheduler.runAll();
+
+            assertFalse(Files.exists(ProjectStoragePaths.journalPath(archivePath)));
+            assertEquals("editado", store.open(archivePath).getChapters().get(0).getScenes().get(0).getContent());
+        }
+    }
+
+    @Test
+    void foldsPendingJournalIntoArchiveOnClose() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Project project = Project.blank("Journal", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "original", null))));
+        Path archivePath = store.save(project, tempDir.resolve("close.storyflame"));
+        Scene scene = project.getChapters().get(0).getScenes().get(0);
+        scene.setContent("antes de fechar");
+
+        ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, Duration.ofSeconds(1), scheduler);
+        autosaveService.scheduleSceneEdit(project, archivePath, "chapter-1", scene, null, null);
+        autosaveService.close();
+
+        assertEquals(0, scheduler.executedCount());
+        assertFalse(Files.exists(ProjectStoragePaths.journalPath(archivePath)));
+        assertEquals("antes de fechar", store.open(archivePath).getChapters().get(0).getScenes().get(0).getContent());
+    }
+
+    @Test
+    void idleAutosaveAfterSavedEditLeavesArchiveUntouched() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Project project = Project.blank("Idle", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "original", null))));
+        Path archivePath = store.save(project, tempDir.resolve("idle.storyflame"));
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, Duration.ofSeconds(1), scheduler)) {
+            project.getChapters().get(0).getScenes().get(0).setContent("editado");
+            autosaveService.schedule(project, archivePath, null, null);
+            scheduler.runAll();
+            byte[] afterEdit = Files.readAllBytes(archivePath);
+            assertEquals("editado", store.open(archivePath).getChapters().get(0).getScenes().get(0).getContent());
+
+            for (int idle = 0; idle < 3; idle++) {
+                autosaveService.schedule(project, archivePath, null, null);
+                scheduler.runAll();
+                assertArrayEquals(afterEdit, Files.readAllBytes(archivePath));
+            }
+            assertTrue(store.detectExternalChanges(archivePath).isEmpty());
+
+            project.setTitle("Idle revisado");
+            autosaveService.schedule(project, archivePath, null, null);
+            scheduler.runAll();
+            assertEquals("Idle revisado", store.open(archivePath).getTitle());
+        }
+    }
+
+    @Test
+    void sceneEditsOnlyAppendToJournalUntilIdleCompaction() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Duration delay = Duration.ofSeconds(2);
+        Project project = Project.blank("Digitando", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "", null))));
+        Path archivePath = store.save(project, tempDir.resolve("typing.storyflame"));
+        byte[] original = Files.readAllBytes(archivePath);
+        Scene scene = project.getChapters().get(0).getScenes().get(0);
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, delay, scheduler)) {
+            StringBuilder typed = new StringBuilder();
+            for (int edit = 0; edit < 20; edit++) {
+                typed.append("palavra ").append(edit).append(' ');
+                scene.setContent(typed.toString());
+                autosaveService.scheduleSceneEdit(project, archivePath, "chapter-1", scene, null, null);
+                autosaveService.journal(archivePath).flush();
+                scheduler.runDue(delay);
+            }
+
+            assertEquals(0, scheduler.executedCount());
+            assertArrayEquals(original, Files.readAllBytes(archivePath));
+            Project recovered = store.open(archivePath);
+            autosaveService.journal(archivePath).replay(recovered);
+            assertEquals(typed.toString(), recovered.getChapters().get(0).getScenes().get(0).getContent());
+
+            scheduler.runDue(delay.multipliedBy(ProjectAutosaveService.COMPACTION_DELAY_FACTOR));
+
+            assertEquals(1, scheduler.executedCount());
+            assertFalse(Files.exists(ProjectStoragePaths.journalPath(archivePath)));
+            assertEquals(typed.toString(), store.open(archivePath).getChapters().get(0).getScenes().get(0).getContent());
+        }
+    }
+
+    @Test
+    void sceneEditKeepsPendingStructuralSaveOnShortDelay() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Duration delay = Duration.ofSeconds(2);
+        Project project = Project.blank("Estrutura", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "original", null))));
+        Path archivePath = store.save(project, tempDir.resolve("structural.storyflame"));
+        Scene scene = project.getChapters().get(0).getScenes().get(0);
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, delay, scheduler)) {
+            project.setTitle("Estrutura revisada");
+            autosaveService.schedule(project, archivePath, null, null);
+            scene.setContent("editado");
+            autosaveService.scheduleSceneEdit(project, archivePath, "chapter-1", scene, null, null);
+            scheduler.runDue(delay);
+
+            assertEquals(1, scheduler.executedCount());
+            Project loaded = store.open(archivePath);
+            assertEquals("Estrutura revisada", loaded.getTitle());
+            assertEquals("editado", loaded.getChapters().get(0).getScenes().get(0).getContent());
+        }
+    }
+
+    @Test
+    void reportsChaptersEditedSinceLastSave() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Project project = Project.blank("Conflito", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "um", null))));
+        project.getChapters().add(new Chapter("chapter-2", "Dois", List.of(new Scene("scene-2", "Cena", "dois", null))));
+        Path archivePath = store.save(project, tempDir.resolve("dirty.storyflame"));
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, Duration.ofSeconds(1), scheduler)) {
+            assertEquals(Set.of("chapter-1", "chapter-2"), autosaveService.unsavedChapterIds(project, archivePath));
+            autosaveService.markSaved(archivePath, ModelRevision.current());
+            assertEquals(Set.of(), autosaveService.unsavedChapterIds(project, archivePath));
+
+            Scene scene = project.getChapters().get(1).getScenes().get(0);
+            scene.setContent("dois revisado");
+            autosaveService.scheduleSceneEdit(project, archivePath, "chapter-2", scene, null, null);
+            assertEquals(Set.of("chapter-2"), autosaveService.unsavedChapterIds(project, archivePath));
+
+            scheduler.runAll();
+            assertEquals(Set.of(), autosaveService.unsavedChapterIds(project, archivePath));
+
+            project.getChapters().get(0).setTitle("Um revisado");
+            assertEquals(Set.of("chapter-1"), autosaveService.unsavedChapterIds(project, archivePath));
+        }
+    }
+
+    @Test
+    void treatsReplayedJournalEditsAsUnsavedAfterOpening() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        ManualScheduler scheduler = new ManualScheduler();
+        Project project = Project.blank("Reaberto", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(new Scene("scene-1", "Cena", "um", null))));
+        project.getChapters().add(new Chapter("chapter-2", "Dois", List.of(new Scene("scene-2", "Cena", "dois", null))));
+        Path archivePath = store.save(project, tempDir.resolve("reopened.storyflame"));
+        try (ProjectEditJournal journal = new ProjectEditJournal(archivePath)) {
+            journal.recordSceneContent("chapter-2", "scene-2", "dois no diario");
+        }
+
+        try (ProjectAutosaveService autosaveService = new ProjectAutosaveService(store, Duration.ofSeconds(1), scheduler)) {
+            Project reopened = store.open(archivePath);
+            autosaveService.markLoaded(archivePath);
+
+            assertEquals("dois no diario", reopened.getChapters().get(1).getScenes().get(0).getContent());
+            assertEquals(Set.of("chapter-2"), autosaveService.unsavedChapterIds(reopened, archivePath));
+        }
+    }
+
     private static final class ManualScheduler implements ProjectAutosaveService.Scheduler {
         private final List<ManualScheduledFuture> scheduled = new ArrayList<>();
         private int executedCount;
 
         @Override
         public ScheduledFuture<?> schedule(Runnable task, Duration delay) {
-            ManualScheduledFuture future = new ManualScheduledFuture(task);
+            ManualScheduledFuture future = new ManualScheduledFuture(task, delay);
             scheduled.add(future);
             return future;
         }
@@ -138,8 +342,12 @@ class ProjectAutosaveServiceTest {
         }
 
         void runAll() {
-            for (ManualScheduledFuture future : scheduled) {
-                if (!future.isCancelled()) {
+            runDue(null);
+        }
+
+        void runDue(Duration elapsed) {
+            for (ManualScheduledFuture future : List.copyOf(scheduled)) {
+                if (!future.isDone() && (elapsed == null || future.delay.compareTo(elapsed) <= 0)) {
                     future.run();
                     executedCount++;
                 }
@@ -157,11 +365,13 @@ class ProjectAutosaveServiceTest {
 
     private static final class ManualScheduledFuture implements ScheduledFuture<Object> {
         private final Runnable task;
+        private final Duration delay;
         private boolean cancelled;
         private boolean done;
 
-        private ManualScheduledFuture(Runnable task) {
+        private ManualScheduledFuture(Runnable task, Duration delay) {
             this.task = task;
+            this.delay = delay;
         }
 
         void run() {
@@ -0,0 +1,225 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectBackupServiceTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void restoresBackupAsOpenableArchive() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        ProjectBackupService backupService = new ProjectBackupService(tempDir.resolve("backups"), 5, Duration.ZERO);
+        Path backup = backupService.createBackup(archive, project);
+        project.getChapters().get(0).getScenes().get(0).setContent("Texto posterior ao backup.");
+        store.save(project, archive);
+
+        Path restored = backupService.restoreBackup(backup, tempDir.resolve("restored").resolve("book.storyflame"));
+
+        Project loaded = store.open(restored);
+        assertEquals("Cena 0 do capitulo 0. ".repeat(40), loaded.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals(6, loaded.getChapters().size());
+    }
+
+    @Test
+    void keepsArchiveEntriesCompressedThroughBackupAndRestore() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        ProjectBackupService backupService = new ProjectBackupService(tempDir.resolve("backups"), 5, Duration.ZERO);
+        Path backup = backupService.createBackup(archive, project);
+        Path restoredDirectory = tempDir.resolve("restored");
+        Path restored = backupService.restoreBackup(backup, restoredDirectory.resolve("book.storyflame"));
+
+        try (FileChannel originalChannel = FileChannel.open(archive, StandardOpenOption.READ);
+             FileChannel restoredChannel = FileChannel.open(restored, StandardOpenOption.READ)) {
+            Map<String, ArchiveCentralDirectory.Entry> original = ArchiveCentralDirectory.read(originalChannel);
+            Map<String, ArchiveCentralDirectory.Entry> copied = ArchiveCentralDirectory.read(restoredChannel);
+            assertEquals(original.keySet(), copied.keySet());
+            for (ArchiveCentralDirectory.Entry entry : original.values()) {
+                ArchiveCentralDirectory.Entry restoredEntry = copied.get(entry.name());
+                assertEquals(entry.method(), restoredEntry.method(), entry.name());
+                assertArrayEquals(
+                        ArchiveCentralDirectory.rawData(originalChannel, entry),
+                        ArchiveCentralDirectory.rawData(restoredChannel, restoredEntry),
+                        entry.name()
+                );
+            }
+        }
+        try (var files = Files.list(restoredDirectory)) {
+            assertEquals(List.of(restored), files.toList());
+        }
+    }
+
+    @Test
+    void storesOnlyChangedEntriesInLaterBackups() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        Path backupRoot = tempDir.resolve("backups");
+        ProjectBackupService backupService = new ProjectBackupService(backupRoot, 5, Duration.ZERO);
+
+        assertNotNull(backupService.createBackup(archive, project));
+        long blobsAfterFirstBackup = countBlobs(backupRoot);
+        project.getChapters().get(3).getScenes().get(1).setContent("Uma unica cena alterada.");
+        store.save(project, archive);
+        Thread.sleep(1100);
+        assertNotNull(backupService.createBackup(archive, project));
+
+        long newBlobs = countBlobs(backupRoot) - blobsAfterFirstBackup;
+        assertTrue(newBlobs > 0 && newBlobs <= 3, "new blobs: " + newBlobs);
+    }
+
+    @Test
+    void collectsBlobsNoLongerReferencedAfterTrimming() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        Path backupRoot = tempDir.resolve("backups");
+        ProjectBackupService backupService = new ProjectBackupService(backupRoot, 1, Duration.ZERO);
+        backupService.createBackup(archive, project);
+        for (Chapter chapter : project.getChapters()) {
+            chapter.getScenes().get(0).setContent("Reescrita completa de " + chapter.getId());
+        }
+        store.save(project, archive);
+        Thread.sleep(1100);
+
+        Path latestBackup = backupService.createBackup(archive, project);
+
+        Path freshRoot = tempDir.resolve("fresh-backups");
+        new ProjectBackupService(freshRoot, 1, Duration.ZERO).createBackup(archive, project);
+        assertEquals(countBlobs(freshRoot), countBlobs(backupRoot));
+        assertEquals(
+                "Reescrita completa de chapter-2",
+                store.open(backupService.restoreBackup(latestBackup, tempDir.resolve("latest.storyflame")))
+                        .getChapters().get(2).getScenes().get(0).getContent()
+        );
+    }
+
+    @Test
+    void listsRestorableVersionsFromPersistedCatalog() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        Path backupRoot = tempDir.resolve("backups");
+        Path projectBackupDirectory = ProjectStoragePaths.backupDirectory(backupRoot, project);
+        Files.createDirectories(projectBackupDirectory);
+        Path legacyBackup = projectBackupDirectory.resolve("20200101-000000-backup-longo.storyflame");
+        Files.copy(archive, legacyBackup);
+        Files.setLastModifiedTime(legacyBackup, FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+        ProjectBackupService backupService = new ProjectBackupService(backupRoot, 2, Duration.ZERO);
+
+        Path first = backupService.createBackup(archive, project);
+        project.getChapters().get(0).getScenes().get(0).setContent("Nova versao.");
+        store.save(project, archive);
+        Thread.sleep(1100);
+        Path second = backupService.createBackup(archive, project);
+
+        List<ProjectBackupVersion> versions = new ProjectBackupService(backupRoot, 2, Duration.ZERO).listBackups(project);
+        assertEquals(List.of(second, first), versions.stream().map(ProjectBackupVersion::path).toList());
+        assertEquals(Files.size(archive), versions.get(0).size());
+        assertNotNull(versions.get(0).archiveHash());
+        assertFalse(versions.get(0).archiveHash().equals(versions.get(1).archiveHash()));
+        assertFalse(Files.exists(legacyBackup));
+        assertEquals(
+                "Nova versao.",
+                store.open(backupService.restoreBackup(versions.get(0).path(), tempDir.resolve("latest.storyflame")))
+                        .getChapters().get(0).getScenes().get(0).getContent()
+        );
+    }
+
+    @Test
+    void skipsBackupWithinMinimumIntervalUsingCatalog() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        Path backupRoot = tempDir.resolve("backups");
+
+        assertNotNull(new ProjectBackupService(backupRoot, 5, Duration.ofHours(1)).createBackup(archive, project));
+        assertNull(new ProjectBackupService(backupRoot, 5, Duration.ofHours(1)).createBackup(archive, project));
+        assertEquals(1, new ProjectBackupService(backupRoot, 5, Duration.ofHours(1)).listBackups(project).size());
+    }
+
+    @Test
+    void throttledBackupDoesNotHoldTheServiceWhileSleeping() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project project = sampleProject();
+        Path archive = store.save(project);
+        Project other = sampleProject();
+        other.setTitle("Outro livro");
+        Path otherArchive = store.save(other);
+        ProjectBackupService backupService = new ProjectBackupService(tempDir.resolve("backups"), 5, Duration.ZERO);
+        CountDownLatch sleeping = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IoThrottle throttle = new IoThrottle(1, System::nanoTime, nanos -> {
+            sleeping.countDown();
+            release.await();
+        });
+        AtomicReference<Path> throttledBackup = new AtomicReference<>();
+        Thread worker = new Thread(() -> throttledBackup.set(backupService.createBackup(archive, project, throttle)));
+        worker.start();
+
+        try {
+            assertTrue(sleeping.await(5, TimeUnit.SECONDS));
+            assertNull(backupService.createBackup(archive, project));
+            assertNotNull(backupService.createBackup(otherArchive, other));
+            assertEquals(1, backupService.listBackups(other).size());
+            assertTrue(backupService.listBackups(project).isEmpty());
+        } finally {
+            release.countDown();
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        assertNotNull(throttledBackup.get());
+        assertEquals(1, backupService.listBackups(project).size());
+    }
+
+    private long countBlobs(Path backupRoot) throws Exception {
+        try (var stream = Files.walk(backupRoot.resolve("blobs"))) {
+            return stream.filter(Files::isRegularFile).count();
+        }
+    }
+
+    private Project sampleProject() {
+        Project project = Project.blank("Backup Longo", "Ana");
+        for (int chapterIndex = 0; chapterIndex < 6; chapterIndex++) {
+            List<Scene> scenes = new ArrayList<>();
+            for (int sceneIndex = 0; sceneIndex < 4; sceneIndex++) {
+                scenes.add(new Scene(
+                        "scene-%d-%d".formatted(chapterIndex, sceneIndex),
+                        "Cena " + sceneIndex,
+                        ("Cena %d do capitulo %d. ".formatted(sceneIndex, chapterIndex)).repeat(40),
+                        null
+                ));
+            }
+            project.getChapters().add(new Chapter("chapter-" + chapterIndex, "Capitulo " + chapterIndex, scenes));
+        }
+        return project;
+    }
+}
@@ -0,0 +1,104 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.model.Project;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectBackupWorkerTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void coalescesPendingBackupsPerProject() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir.resolve("projects"));
+        Project first = Project.blank("Primeiro", "Ana");
+        Project second = Project.blank("Segundo", "Ana");
+        Path firstArchive = store.save(first);
+        Path secondArchive = store.save(second);
+        Path backupRoot = tempDir.resolve("backups");
+        ProjectBackupService backupService = new ProjectBackupService(backupRoot, 5, Duration.ZERO);
+        ManualExecutor executor = new ManualExecutor();
+        List<Exception> errors = new ArrayList<>();
+        ProjectBackupWorker worker = new ProjectBackupWorker(backupService, IoThrottle.UNLIMITED, executor);
+
+        worker.submit(tempDir.resolve("missing.storyflame"), first, errors::add);
+        worker.submit(firstArchive, first, errors::add);
+        worker.submit(secondArchive, second, errors::add);
+        worker.submit(firstArchive, first, errors::add);
+
+        assertEquals(2, executor.tasks.size());
+        assertTrue(worker.hasPendingBackups());
+        executor.runAll();
+        assertFalse(worker.hasPendingBackups());
+        assertTrue(errors.isEmpty());
+        assertEquals(1, countManifests(ProjectStoragePaths.backupDirectory(backupRoot, first)));
+        assertEquals(1, countManifests(ProjectStoragePaths.backupDirectory(backupRoot, second)));
+
+        worker.submit(firstArchive, first, errors::add);
+        assertEquals(1, executor.tasks.size());
+        worker.close();
+        executor.runAll();
+        assertFalse(worker.hasPendingBackups());
+    }
+
+    private long countManifests(Path directory) throws Exception {
+        try (var stream = Files.list(directory)) {
+            return stream.filter(path -> path.getFileName().toString().endsWith(ProjectStoragePaths.BACKUP_MANIFEST_EXTENSION)).count();
+        }
+    }
+
+    private static final class ManualExecutor extends AbstractExecutorService {
+        private final Deque<Runnable> tasks = new ArrayDeque<>();
+        private boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.poll().run();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
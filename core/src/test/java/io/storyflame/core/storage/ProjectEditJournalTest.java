@@ -0,0 +1,164 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectEditJournalTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void replaysRecordedSceneEditsWhenOpeningArchive() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject(), tempDir.resolve("journal.storyflame"));
+        ProjectEditJournal journal = new ProjectEditJournal(archive);
+
+        journal.recordSceneContent("chapter-1", "scene-2", "Primeira revisao.");
+        journal.recordSceneContent("chapter-1", "scene-2", "Segunda revisao\ncom \"aspas\".");
+        journal.recordSceneContent("chapter-404", "scene-1", "Ignorado.");
+        journal.flush();
+
+        Project loaded = store.open(archive);
+        assertEquals("Texto um.", loaded.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals("Segunda revisao\ncom \"aspas\".", loaded.getChapters().get(0).getScenes().get(1).getContent());
+        assertEquals("Segunda revisao\ncom \"aspas\".", store.openLazily(archive).getChapters().get(0).getScenes().get(1).getContent());
+    }
+
+    @Test
+    void ignoresTornTailAndAppendsAfterLastValidRecord() throws Exception {
+        Path archive = tempDir.resolve("torn.storyflame");
+        ProjectEditJournal journal = new ProjectEditJournal(archive);
+        journal.recordSceneContent("chapter-1", "scene-1", "um");
+        journal.flush();
+        journal.recordSceneContent("chapter-1", "scene-1", "dois");
+        journal.flush();
+        Files.writeString(journal.getPath(), "1234abcd {\"chapterId\":\"chapter-1\",\"sce", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(2, new ProjectEditJournal(archive).readEdits().size());
+
+        ProjectEditJournal reopened = new ProjectEditJournal(archive);
+        reopened.recordSceneContent("chapter-1", "scene-1", "tres");
+        assertEquals(
+                List.of("um", "dois", "tres"),
+                reopened.readEdits().stream().map(ProjectEditJournal.SceneEdit::content).toList()
+        );
+    }
+
+    @Test
+    void stopsReplayAtRecordWithWrongChecksum() throws Exception {
+        Path archive = tempDir.resolve("checksum.storyflame");
+        ProjectEditJournal journal = new ProjectEditJournal(archive);
+        journal.recordSceneContent("chapter-1", "scene-1", "valido");
+        journal.flush();
+        Files.writeString(
+                journal.getPath(),
+                "0 {\"chapterId\":\"chapter-1\",\"sceneId\":\"scene-1\",\"content\":\"corrompido\"}\n",
+                StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND
+        );
+
+        assertEquals(List.of(new ProjectEditJournal.SceneEdit("chapter-1", "scene-1", "valido")), journal.readEdits());
+    }
+
+    @Test
+    void compactsOnlyRecordsCoveredBySavedPosition() {
+        ProjectEditJournal journal = new ProjectEditJournal(tempDir.resolve("compact.storyflame"));
+        journal.recordSceneContent("chapter-1", "scene-1", "salvo");
+        long savedPosition = journal.position();
+        journal.recordSceneContent("chapter-1", "scene-1", "pendente");
+
+        journal.compactThrough(savedPosition);
+
+        assertEquals(List.of(new ProjectEditJournal.SceneEdit("chapter-1", "scene-1", "pendente")), journal.readEdits());
+        journal.compactThrough(journal.position());
+        assertFalse(Files.exists(journal.getPath()));
+    }
+
+    @Test
+    void replaysDeltasRecordedAcrossFlushes() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path archive = store.save(sampleProject(), tempDir.resolve("delta.storyflame"));
+        ProjectEditJournal journal = new ProjectEditJournal(archive);
+        List<String> revisions = List.of(
+                "Texto",
+                "Texto dois",
+                "Texto \uD83D\uDD25 dois",
+                "Texto \uD83D\uDE00 dois",
+                "Outro texto \uD83D\uDE00 dois.",
+                ""
+        );
+
+        for (String revision : revisions) {
+            journal.recordSceneContent("chapter-1", "scene-1", revision);
+            journal.flush();
+        }
+        journal.recordSceneContent("chapter-1", "scene-2", "Final da cena.");
+        journal.close();
+
+        assertEquals(
+                List.of("Texto", "Texto dois", "Texto \uD83D\uDD25 dois", "Texto \uD83D\uDE00 dois", "Outro texto \uD83D\uDE00 dois.", "", "Final da cena."),
+                new ProjectEditJournal(archive).readEdits().stream().map(ProjectEditJournal.SceneEdit::content).toList()
+        );
+        Project loaded = store.open(archive);
+        assertEquals("", loaded.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals("Final da cena.", loaded.getChapters().get(0).getScenes().get(1).getContent());
+    }
+
+    @Test
+    void discardsJournalRecordedAgainstAnotherArchiveVersion() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Project project = sampleProject();
+        Path archive = store.save(project, tempDir.resolve("stale.storyflame"));
+        ProjectEditJournal journal = new ProjectEditJournal(archive);
+        journal.recordSceneContent("chapter-1", "scene-1", "Editado antes da restauracao.");
+        journal.flush();
+
+        project.getChapters().get(0).getScenes().get(0).setContent("Versao restaurada.");
+        store.save(project, archive);
+
+        assertEquals("Versao restaurada.", store.open(archive).getChapters().get(0).getScenes().get(0).getContent());
+        assertFalse(Files.exists(journal.getPath()));
+
+        journal.recordSceneContent("chapter-1", "scene-2", "Editado depois.");
+        journal.flush();
+        Project loaded = store.open(archive);
+        assertEquals("Versao restaurada.", loaded.getChapters().get(0).getScenes().get(0).getContent());
+        assertEquals("Editado depois.", loaded.getChapters().get(0).getScenes().get(1).getContent());
+    }
+
+    @Test
+    void keepsJournalBoundedWhileTyping() throws Exception {
+        ProjectEditJournal journal = new ProjectEditJournal(tempDir.resolve("bounded.storyflame"));
+        String last = null;
+        for (int revision = 0; revision < 120; revision++) {
+            last = String.valueOf((char) ('a' + revision % 26)).repeat(64 * 1024) + revision;
+            journal.recordSceneContent("chapter-1", "scene-1", last);
+            journal.flush();
+            assertTrue(Files.size(journal.getPath()) <= ProjectEditJournal.MAX_JOURNAL_BYTES + 2 * 64 * 1024);
+        }
+
+        List<ProjectEditJournal.SceneEdit> edits = new ProjectEditJournal(tempDir.resolve("bounded.storyflame")).readEdits();
+        assertEquals(last, edits.get(edits.size() - 1).content());
+    }
+
+    private Project sampleProject() {
+        Project project = Project.blank("Journal", "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(
+                new Scene("scene-1", "Cena 1", "Texto um.", null),
+                new Scene("scene-2", "Cena 2", "Texto dois.", null)
+        )));
+        return project;
+    }
+}
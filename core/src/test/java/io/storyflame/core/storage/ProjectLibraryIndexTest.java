@@ -0,0 +1,88 @@
+package io.storyflame.core.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.storyflame.core.model.Chapter;
+import io.storyflame.core.model.Project;
+import io.storyflame.core.model.Scene;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectLibraryIndexTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void summarizesArchivesAndPersistsIndex() {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        store.save(project("Aurora", "um dois tres", "quatro cinco"));
+        store.save(project("Borealis", "seis", ""));
+
+        List<ProjectLibraryEntry> summaries = store.listProjectSummaries();
+
+        assertEquals(List.of("Aurora", "Borealis"), summaries.stream().map(ProjectLibraryEntry::title).toList());
+        ProjectLibraryEntry aurora = summaries.get(0);
+        assertTrue(aurora.readable());
+        assertEquals("Ana", aurora.author());
+        assertEquals(1, aurora.chapterCount());
+        assertEquals(2, aurora.sceneCount());
+        assertEquals(5, aurora.wordCount());
+        assertTrue(Files.exists(tempDir.resolve(ProjectLibraryIndex.INDEX_FILE)));
+    }
+
+    @Test
+    void reopensOnlyArchivesWhoseSizeOrModificationTimeChanged() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path aurora = store.save(project("Aurora", "um", "dois"));
+        Path borealis = store.save(project("Borealis", "tres", "quatro"));
+        List<Path> summarized = new ArrayList<>();
+        Function<Path, ProjectLibraryEntry> summarizer = path -> {
+            summarized.add(path);
+            return store.summarize(path);
+        };
+
+        new ProjectLibraryIndex(tempDir, summarizer).refresh(store.listProjects());
+        ProjectLibraryIndex reloaded = new ProjectLibraryIndex(tempDir, summarizer);
+        reloaded.refresh(store.listProjects());
+        assertEquals(List.of(aurora, borealis), summarized);
+
+        store.save(project("Aurora", "um dois tres quatro", "cinco"), aurora);
+        Files.setLastModifiedTime(aurora, FileTime.fromMillis(Files.getLastModifiedTime(aurora).toMillis() + 2000));
+        List<ProjectLibraryEntry> summaries = reloaded.refresh(store.listProjects());
+
+        assertEquals(List.of(aurora, borealis, aurora), summarized);
+        assertEquals(5, summaries.get(0).wordCount());
+    }
+
+    @Test
+    void dropsDeletedArchivesAndFlagsUnreadableOnes() throws Exception {
+        ProjectArchiveStore store = new ProjectArchiveStore(tempDir);
+        Path aurora = store.save(project("Aurora", "um", "dois"));
+        store.listProjectSummaries();
+        Files.delete(aurora);
+        Files.writeString(tempDir.resolve("quebrado.storyflame"), "nao e zip");
+
+        List<ProjectLibraryEntry> summaries = store.listProjectSummaries();
+
+        assertEquals(1, summaries.size());
+        assertFalse(summaries.get(0).readable());
+        assertEquals("quebrado", summaries.get(0).title());
+    }
+
+    private Project project(String title, String firstScene, String secondScene) {
+        Project project = Project.blank(title, "Ana");
+        project.getChapters().add(new Chapter("chapter-1", "Um", List.of(
+                new Scene("scene-1", "Cena 1", firstScene, null),
+                new Scene("scene-2", "Cena 2", secondScene, null)
+        )));
+        return project;
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.storyflame.core.model.Project;
 import java.nio.file.Path;
+import java.time.Instant;
 import org.junit.jupiter.api.Test;
 
 class ProjectStoragePathsTest {
@@ -28,4 +29,13 @@ class ProjectStoragePathsTest {
 
         assertEquals(currentPath, resolvedPath);
     }
+
+    @Test
+    void placesConflictCopyNextToArchive() {
+        Path archive = Path.of("/tmp/storyflame-projects/meu-livro.storyflame");
+
+        Path copy = ProjectStoragePaths.conflictCopyPath(archive, Instant.parse("2026-03-04T05:06:07Z"));
+
+        assertEquals(Path.of("/tmp/storyflame-projects/meu-livro-conflito-20260304-050607.storyflame"), copy);
+    }
 }
@@ -0,0 +1,104 @@
+package io.storyflame.core.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class AccentFoldingTest {
+    @Test
+    void matchesDecomposeAndStripMarksFolding() {
+        List<String> samples = List.of(
+                "Ação, CORAÇÃO e pão-de-ló",
+                "Ça ira, Noël, naïve, Øresund, Ærø",
+                "Ἀθῆναι ΆΈΉ άέή",
+                "Йошкар-Ола, ёлка",
+                "ẞ ṡ Ỳ ỹ",
+                "café com combinação",
+                "İstanbul 123 !?"
+        );
+        for (String sample : samples) {
+            String expected = Normalizer.normalize(sample, Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}+", "")
+                    .toLowerCase(Locale.ROOT);
+            assertEquals(expected, AccentFolding.fold(sample), sample);
+        }
+    }
+
+    @Test
+    void foldsCharactersOutsideLookupTablesLikeNormalizer() {
+        List<String> samples = List.of(
+                "\u212B \u2126hm \u212Aelvin",
+                "\uFB01m do \uFB02uxo",
+                "\uF900\uF91D \u3392 \uFF21\uFF22\uFF23",
+                "\uD801\uDC00\uD801\uDC01 \uD835\uDC00",
+                "\u6587\u5B57 \u30AC\u30D1"
+        );
+        for (String sample : samples) {
+            String expected = Normalizer.normalize(sample, Normalizer.Form.NFD)
+                    .replaceAll("\\p{M}+", "")
+                    .toLowerCase(Locale.ROOT);
+            assertEquals(expected, AccentFolding.fold(sample), sample);
+            StringBuilder buffer = new StringBuilder();
+            AccentFolding.fold(sample, buffer);
+            assertEquals(expected, buffer.toString(), sample);
+            assertEquals(expected, new FoldedText().fold(sample).toString(), sample);
+        }
+        assertEquals("a", AccentFolding.fold("\u212B"));
+        String ideographs = "\u6587\u5B57";
+        assertSame(ideographs, AccentFolding.fold(ideographs));
+    }
+
+    @Test
+    void keepsDialoguePunctuationOnFastPath() {
+        String dialogue = "\u2014 voce vem? \u2014 perguntou ela\u2026 \u201Csim\u201D, \u3001\u3002 \uD83D\uDD25";
+        assertSame(dialogue, AccentFolding.fold(dialogue));
+
+        String accented = "\u2014 Voc\u00EA vem? \u2014 perguntou ela\u2026 \u201CSim\u201D";
+        String expected = Normalizer.normalize(accented, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        assertEquals(expected, AccentFolding.fold(accented));
+        assertEquals("\u2014 voce vem? \u2014 perguntou ela\u2026 \u201Csim\u201D", expected);
+    }
+
+    @Test
+    void returnsSameStringWhenNothingChangesAndAppendsIntoReusableBuffer() {
+        String plain = "sem acentos 42";
+        assertSame(plain, AccentFolding.fold(plain));
+        assertEquals("", AccentFolding.fold(null));
+
+        StringBuilder buffer = new StringBuilder();
+        AccentFolding.fold("Olá", buffer);
+        buffer.append('|');
+        AccentFolding.fold(new StringBuilder("MAÇÃ"), buffer);
+        assertEquals("ola|maca", buffer.toString());
+    }
+
+    @Test
+    void mapsFoldedOffsetsBackToSource() {
+        String source = "Sa\u0303o Joa\u0303o";
+        FoldedText folded = new FoldedText().fold(source);
+
+        assertEquals("sao joao", folded.toString());
+        int match = folded.indexOf("joao");
+        assertEquals(4, match);
+        assertEquals(5, folded.sourceOffset(match));
+        assertEquals(source.length(), folded.sourceOffset(match + "joao".length()));
+        assertEquals("Joa\u0303o", source.substring(folded.sourceOffset(match), folded.sourceOffset(match + 4)));
+
+        String outside = "x\u212By\uD801\uDC00z";
+        folded.fold(outside);
+        assertEquals(outside.length(), folded.sourceOffset(folded.length()));
+        assertEquals(1, folded.sourceOffset(folded.indexOf("ay")));
+        assertEquals(3, folded.sourceOffset(folded.indexOf("z") - 2));
+        assertEquals(5, folded.sourceOffset(folded.indexOf("z")));
+
+        folded.fold("AB");
+        assertEquals("ab", folded.toString());
+        assertEquals(2, folded.sourceOffset(2));
+    }
+}
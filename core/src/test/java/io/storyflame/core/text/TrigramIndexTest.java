@@ -0,0 +1,133 @@
+package io.storyflame.core.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TrigramIndexTest {
+    @Test
+    void findsTermsWithinEditDistanceOrderedByDistance() {
+        TrigramIndex index = new TrigramIndex();
+        List.of("aelindra", "aelindor", "elindra", "lia", "noa", "farol").forEach(index::add);
+
+        assertEquals(List.of("aelindra", "elindra", "aelindor"), index.similar("aelindra", 2));
+        assertEquals(List.of("aelindra"), index.similar("aelinda", 1));
+        assertEquals(List.of("lia", "noa"), index.similar("lua", 2));
+        assertEquals(List.of(), index.similar("xyz", 1));
+    }
+
+    @Test
+    void removesTermsAndReusesTheirSlots() {
+        TrigramIndex index = new TrigramIndex();
+        assertTrue(index.add("tempestade"));
+        assertFalse(index.add("tempestade"));
+        assertTrue(index.remove("tempestade"));
+        assertFalse(index.remove("tempestade"));
+        assertTrue(index.add("calmaria"));
+
+        assertEquals(List.of(), index.similar("tempestad", 1));
+        assertEquals(List.of("calmaria"), index.similar("calmara", 1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void findsTermsContainingFragmentWithoutScanningVocabulary() {
+        TrigramIndex index = new TrigramIndex();
+        List.of("dragao", "dragoes", "adraga", "rasgado", "draco", "a1").forEach(index::add);
+
+        assertEquals(List.of("dragao"), index.containing("dragao"));
+        assertEquals(List.of("adraga", "dragao", "dragoes"), index.containing("drag").stream().sorted().toList());
+        assertEquals(List.of("adraga", "draco", "dragao", "dragoes"), index.containing("dra").stream().sorted().toList());
+        assertEquals(List.of("adraga", "draco", "dragao", "dragoes", "rasgado"), index.containing("ra").stream().sorted().toList());
+        assertEquals(List.of("a1"), index.containing("1"));
+        assertEquals(List.of(), index.containing("xyz"));
+        assertEquals(List.of(), index.containing(""));
+    }
+
+    @Test
+    void computesBoundedEditDistance() {
+        assertEquals(0, TrigramIndex.distance("espada", "espada", 2));
+        assertEquals(1, TrigramIndex.distance("espada", "espad", 2));
+        assertEquals(2, TrigramIndex.distance("espada", "epsada", 2));
+        assertEquals(3, TrigramIndex.distance("espada", "lanterna", 2));
+    }
+
+    @Test
+    void bandedDistanceAgreesWithFullDistanceWithinTheBound() {
+        Random random = new Random(7);
+        for (int sample = 0; sample < 2_000; sample++) {
+            String left = randomWord(random);
+            String right = random.nextBoolean() ? mutate(left, random) : randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                int expected = Math.min(fullDistance(left, right), maxDistance + 1);
+                assertEquals(expected, TrigramIndex.distance(left, right, maxDistance), left + " / " + right + " @ " + maxDistance);
+            }
+        }
+        assertEquals(3, TrigramIndex.distance("abcdefgh", "xxabcdef", 2));
+        assertEquals(2, TrigramIndex.distance("abcdefgh", "xxabcdefgh", 2));
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = random.nextInt(9);
+        for (int index = 0; index < length; index++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+
+    private static String mutate(String word, Random random) {
+        StringBuilder mutated = new StringBuilder(word);
+        for (int edit = random.nextInt(4); edit > 0; edit--) {
+            int position = mutated.isEmpty() ? 0 : random.nextInt(mutated.length());
+            switch (random.nextInt(3)) {
+                case 0 -> mutated.insert(position, (char) ('a' + random.nextInt(3)));
+                case 1 -> {
+                    if (!mutated.isEmpty()) {
+                        mutated.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (!mutated.isEmpty()) {
+                        mutated.setCharAt(position, (char) ('a' + random.nextInt(3)));
+                    }
+                }
+            }
+        }
+        return mutated.toString();
+    }
+
+    private static int fullDistance(String left, String right) {
+        int[][] distances = new int[left.length() + 1][right.length() + 1];
+        for (int row = 0; row <= left.length(); row++) {
+            for (int column = 0; column <= right.length(); column++) {
+                if (row == 0 || column == 0) {
+                    distances[row][column] = row + column;
+                } else {
+                    int substitution = distances[row - 1][column - 1] + (left.charAt(row - 1) == right.charAt(column - 1) ? 0 : 1);
+                    distances[row][column] = Math.min(substitution, Math.min(distances[row - 1][column], distances[row][column - 1]) + 1);
+                }
+            }
+        }
+        return distances[left.length()][right.length()];
+    }
+
+    @Test
+    void answersLookupsQuicklyOnLargeVocabularies() {
+        TrigramIndex index = new TrigramIndex();
+        for (int term = 0; term < 50_000; term++) {
+            index.add(Integer.toString(term * 7919, 36) + "ar");
+        }
+        index.add("aelindra");
+
+        long start = System.nanoTime();
+        for (int lookup = 0; lookup < 20; lookup++) {
+            assertEquals(List.of("aelindra"), index.similar("aelimdra", 2));
+        }
+        assertTrue(System.nanoTime() - start < 2_000_000_000L);
+    }
+}
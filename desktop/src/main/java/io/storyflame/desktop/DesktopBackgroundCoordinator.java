@@ -15,6 +15,12 @@ import javax.swing.JOptionPane;
 import javax.swing.SwingWorker;
 
 final class DesktopBackgroundCoordinator {
+    enum ExternalChangeResolution {
+        KEEP_LOCAL,
+        TAKE_EXTERNAL,
+        SAVE_COPY
+    }
+
     @FunctionalInterface
     interface Operation<T> {
         T run() throws Exception;
@@ -102,6 +108,27 @@ final class DesktopBackgroundCoordinator {
         return confirmation == JOptionPane.YES_OPTION;
     }
 
+    ExternalChangeResolution resolveExternalChange(List<String> chapterTitles) {
+        Object[] options = {"Manter minhas alteracoes", "Usar versao externa", "Salvar copia e recarregar"};
+        int choice = JOptionPane.showOptionDialog(
+                frame,
+                "O projeto foi alterado fora do StoryFlame.\n"
+                        + "Estes capitulos tambem tem alteracoes locais ainda nao salvas:\n\n"
+                        + String.join("\n", chapterTitles),
+                "Conflito de alteracoes",
+                JOptionPane.DEFAULT_OPTION,
+                JOptionPane.WARNING_MESSAGE,
+                null,
+                options,
+                options[0]
+        );
+        return switch (choice) {
+            case 1 -> ExternalChangeResolution.TAKE_EXTERNAL;
+            case 2 -> ExternalChangeResolution.SAVE_COPY;
+            default -> ExternalChangeResolution.KEEP_LOCAL;
+        };
+    }
+
     void handleAutosaveFailure(Path autosavePath, Exception exception) {
         Throwable rootCause = exception.getCause() != null ? exception.getCause() : exception;
         String detail = rootCause.getMessage() == null || rootCause.getMessage().isBlank()
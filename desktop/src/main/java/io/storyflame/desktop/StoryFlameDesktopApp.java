@@ -9,16 +9,21 @@ import io.storyflame.core.analysis.EmotionAnalysisService;
 import io.storyflame.core.character.CharacterDirectory;
 import io.storyflame.core.model.Chapter;
 import io.storyflame.core.model.Character;
+import io.storyflame.core.model.ModelRevision;
 import io.storyflame.core.model.Project;
 import io.storyflame.core.model.Scene;
 import io.storyflame.core.publication.PublicationExportService;
 import io.storyflame.core.publication.PublicationFormat;
 import io.storyflame.core.search.ProjectSearch;
 import io.storyflame.core.search.SearchMatch;
+import io.storyflame.core.search.SearchPage;
 import io.storyflame.core.search.SearchTarget;
+import io.storyflame.core.storage.ArchiveChangeSet;
 import io.storyflame.core.storage.ProjectArchiveStore;
+import io.storyflame.core.storage.ProjectArchiveWatcher;
 import io.storyflame.core.storage.ProjectAutosaveService;
 import io.storyflame.core.storage.ProjectBackupService;
+import io.storyflame.core.storage.ProjectBackupWorker;
 import io.storyflame.core.storage.ProjectStoragePaths;
 import io.storyflame.core.tags.CharacterTagProfile;
 import io.storyflame.core.tags.CharacterTagProfileSynchronizer;
@@ -39,6 +44,7 @@ import java.awt.GridLayout;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -87,10 +93,13 @@ import javax.swing.undo.UndoManager;
 public final class StoryFlameDesktopApp {
     private static final String UNDO_ACTION_KEY = "storyflame-undo";
     private static final String REDO_ACTION_KEY = "storyflame-redo";
+    private static final long BACKUP_BYTES_PER_SECOND = 4L * 1024 * 1024;
+    private static final int SEARCH_PAGE_SIZE = 100;
 
     private final ProjectArchiveStore store;
     private final ProjectAutosaveService autosaveService;
     private final ProjectBackupService backupService;
+    private final ProjectBackupWorker backupWorker;
     private final ProjectApplicationService projectApplicationService;
     private final ProjectCharacterApplicationService projectCharacterApplicationService;
     private final ProjectEditorApplicationService projectEditorApplicationService;
@@ -123,6 +132,7 @@ public final class StoryFlameDesktopApp {
     private final JLabel sceneCountLabel;
     private final JLabel characterCountLabel;
     private final JLabel searchCountLabel;
+    private final JButton searchMoreButton;
     private final JLabel tagCountLabel;
     private final JLabel favoriteTagCountLabel;
     private final JLabel recentTagCountLabel;
@@ -167,6 +177,8 @@ public final class StoryFlameDesktopApp {
     private final JTree editorStructureTree;
     private final UndoManager sceneUndoManager;
     private final List<SearchMatch> searchMatches;
+    private int searchTotalMatches;
+    private int searchNextOffset = -1;
     private final List<NarrativeTag> visibleTags;
     private final List<NarrativeTag> visibleTagSuggestions;
     private final List<Character> visibleCharacters;
@@ -195,6 +207,7 @@ public final class StoryFlameDesktopApp {
     private boolean syncingUi;
     private DesktopBackgroundCoordinator backgroundCoordinator;
     private DesktopProjectWorkflow projectWorkflow;
+    private ProjectArchiveWatcher archiveWatcher;
     private final DesktopEditorStructureCoordinator editorStructureCoordinator;
     private final DesktopCharacterCoordinator characterCoordinator;
     private final DesktopCharacterWorkflow characterWorkflow;
@@ -231,6 +244,7 @@ public final class StoryFlameDesktopApp {
                 8,
                 Duration.ofMinutes(5)
         );
+        this.backupWorker = new ProjectBackupWorker(this.backupService, BACKUP_BYTES_PER_SECOND);
         this.projectApplicationService = new ProjectApplicationService(this.store, this.backupService);
         this.projectCharacterApplicationService = new ProjectCharacterApplicationService();
         this.projectEditorApplicationService = new ProjectEditorApplicationService();
@@ -263,6 +277,7 @@ public final class StoryFlameDesktopApp {
         this.sceneCountLabel = new JLabel("0 cenas");
         this.characterCountLabel = new JLabel("0 personagens");
         this.searchCountLabel = new JLabel("0 resultados");
+        this.searchMoreButton = new JButton("Mais resultados");
         this.tagCountLabel = new JLabel("0 tags");
         this.favoriteTagCountLabel = new JLabel(DesktopWritingProductivityFormatter.favoriteCountLabel(0));
         this.recentTagCountLabel = new JLabel(DesktopWritingProductivityFormatter.recentCountLabel(0));
@@ -979,6 +994,11 @@ public final class StoryFlameDesktopApp {
                 backgroundCoordinator,
                 statusLabel
         );
+        archiveWatcher = new ProjectArchiveWatcher(
+                store,
+                changes -> SwingUtilities.invokeLater(() -> onArchiveChangedExternally(changes)),
+                exception -> SwingUtilities.invokeLater(() -> reportExternalReloadFailure(exception))
+        );
         frame.setName("mainFrame");
         frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
         frame.setSize(1280, 820);
@@ -990,6 +1010,9 @@ public final class StoryFlameDesktopApp {
             @Override
             public void windowClosing(java.awt.event.WindowEvent event) {
                 autosaveService.close();
+                backupWorker.close();
+                archiveWatcher.close();
+                store.close();
             }
         });
 
@@ -1009,6 +1032,11 @@ public final class StoryFlameDesktopApp {
 
     void closeWindowForTests() {
         autosaveService.close();
+        backupWorker.close();
+        if (archiveWatcher != null) {
+            archiveWatcher.close();
+        }
+        store.close();
         if (frame != null) {
             frame.dispose();
         }
@@ -1186,6 +1214,11 @@ public final class StoryFlameDesktopApp {
         tabbedPane.addTab("Personagens", buildCharacterPanel());
         tabbedPane.addTab("Tags", buildTagsPanel());
         tabbedPane.addTab("Analise", buildAnalysisPanel());
+        tabbedPane.addChangeListener(event -> {
+            if (isAnalysisTabSelected()) {
+                renderEmotionAnalysis();
+            }
+        });
     }
 
     private JPanel buildEditorPanel() {
@@ -1261,8 +1294,13 @@ public final class StoryFlameDesktopApp {
         JPanel footer = new JPanel(new BorderLayout(8, 8));
         JButton openButton = new JButton("Abrir resultado");
         openButton.addActionListener(event -> navigateToSearchSelection());
+        searchMoreButton.setEnabled(false);
+        searchMoreButton.addActionListener(event -> loadMoreSearchResults());
+        JPanel actions = new JPanel(new GridLayout(1, 2, 8, 8));
+        actions.add(searchMoreButton);
+        actions.add(openButton);
         footer.add(buildEditorBadge(searchCountLabel), BorderLayout.CENTER);
-        footer.add(openButton, BorderLayout.EAST);
+        footer.add(actions, BorderLayout.EAST);
         root.add(footer, BorderLayout.SOUTH);
         return root;
     }
@@ -1680,8 +1718,10 @@ public final class StoryFlameDesktopApp {
             return;
         }
         syncProjectFromFields();
+        long savedRevision = ModelRevision.current();
         projectWorkflow.saveProject(currentProject, currentPath, savedPath -> {
             currentPath = savedPath;
+            autosaveService.markSaved(savedPath, savedRevision);
             renderSummary();
             statusLabel.setText(DesktopOperationStatusFormatter.success("Projeto salvo em " + currentPath));
         });
@@ -1794,7 +1834,7 @@ public final class StoryFlameDesktopApp {
         renderSummary();
         scheduleSearchRefresh();
         showTagSuggestionPopup(false);
-        scheduleAutosave();
+        scheduleSceneAutosave();
         statusLabel.setText("Alteracoes pendentes...");
     }
 
@@ -2042,23 +2082,47 @@ public final class StoryFlameDesktopApp {
     private void refreshSearchResultsNow() {
         searchMatches.clear();
         searchListModel.clear();
+        searchTotalMatches = 0;
+        searchNextOffset = -1;
         if (currentProject == null) {
+            updateSearchCount();
             renderSummary();
             return;
         }
-        searchMatches.addAll(ProjectSearch.search(currentProject, searchField.getText()));
-        for (SearchMatch match : searchMatches) {
-            searchListModel.addElement(formatSearchLabel(match));
-        }
-        searchCountLabel.setText(searchMatches.size() + " resultados");
+        appendSearchPage(ProjectSearch.searchRanked(currentProject, searchField.getText(), 0, SEARCH_PAGE_SIZE));
         if (!searchField.getText().isBlank()) {
             statusLabel.setText(searchMatches.isEmpty()
-                    ? "Nenhum resultado para \"" + searchField.getText().trim() + "\"."
-                    : searchMatches.size() + " resultado(s) encontrados.");
+                    ? "Nenhum resultado para \"" + searchField.getText().trim() + "\". Use palavra~ para busca aproximada."
+                    : searchTotalMatches + " resultado(s) encontrados.");
+        }
+        renderSummary();
+    }
+
+    private void loadMoreSearchResults() {
+        if (currentProject == null || searchNextOffset < 0) {
+            return;
         }
+        appendSearchPage(ProjectSearch.searchRanked(currentProject, searchField.getText(), searchNextOffset, SEARCH_PAGE_SIZE));
         renderSummary();
     }
 
+    private void appendSearchPage(SearchPage page) {
+        searchMatches.addAll(page.matches());
+        for (SearchMatch match : page.matches()) {
+            searchListModel.addElement(formatSearchLabel(match));
+        }
+        searchTotalMatches = page.totalMatches();
+        searchNextOffset = page.nextOffset();
+        updateSearchCount();
+    }
+
+    private void updateSearchCount() {
+        searchCountLabel.setText(searchMatches.size() < searchTotalMatches
+                ? searchMatches.size() + " de " + searchTotalMatches + " resultados"
+                : searchMatches.size() + " resultados");
+        searchMoreButton.setEnabled(searchNextOffset >= 0);
+    }
+
     private void refreshCharacterLists() {
         characterCoordinator.refreshCharacterLists();
     }
@@ -2213,18 +2277,158 @@ public final class StoryFlameDesktopApp {
     private void applyLoadedProjectState(DesktopProjectWorkflow.LoadedProjectState state) {
         currentPath = state.path();
         currentProject = state.project();
-        selectedChapter = currentProject.getChapters().get(0);
-        selectedScene = selectedChapter.getScenes().get(0);
+        selectedChapter = currentProject.getChapters().isEmpty() ? null : currentProject.getChapters().get(0);
+        selectedScene = selectedChapter == null || selectedChapter.getScenes().isEmpty() ? null : selectedChapter.getScenes().get(0);
         selectedCharacter = currentProject.getCharacters().isEmpty() ? null : currentProject.getCharacters().get(0);
+        if (currentPath != null) {
+            autosaveService.markLoaded(currentPath);
+        }
         syncFieldsFromProject();
         statusLabel.setText(state.statusPrefix() + currentPath);
         focusEditorFrame();
     }
 
+    private void onArchiveChangedExternally(ArchiveChangeSet changes) {
+        if (currentProject == null || currentPath == null
+                || !currentPath.toAbsolutePath().normalize().equals(changes.path().toAbsolutePath().normalize())) {
+            return;
+        }
+        syncProjectFromFields();
+        Set<String> unsavedChapterIds = autosaveService.unsavedChapterIds(currentProject, currentPath);
+        Set<String> conflicts = new LinkedHashSet<>(unsavedChapterIds);
+        if (!changes.requiresFullReload()) {
+            conflicts.retainAll(changes.changedChapterIds());
+        }
+        if (conflicts.isEmpty()) {
+            applyExternalChanges(changes, unsavedChapterIds);
+            return;
+        }
+        resolveExternalConflict(conflicts, () -> applyExternalChanges(changes, Set.of()), () -> keepLocalChanges(changes, conflicts));
+    }
+
+    private void resolveExternalConflict(Set<String> conflictingChapterIds, Runnable takeExternal, Runnable keepLocal) {
+        List<String> chapterTitles = currentProject.getChapters().stream()
+                .filter(chapter -> conflictingChapterIds.contains(chapter.getId()))
+                .map(chapter -> displayTitle(chapter.getTitle(), "Capitulo sem titulo"))
+                .toList();
+        switch (backgroundCoordinator.resolveExternalChange(chapterTitles)) {
+            case TAKE_EXTERNAL -> takeExternal.run();
+            case SAVE_COPY -> saveConflictCopy(takeExternal);
+            default -> keepLocal.run();
+        }
+    }
+
+    private void applyExternalChanges(ArchiveChangeSet changes, Set<String> unsavedChapterIds) {
+        String selectedChapterId = selectedChapter == null ? null : selectedChapter.getId();
+        String selectedSceneId = selectedScene == null ? null : selectedScene.getId();
+        boolean reloaded;
+        try {
+            reloaded = store.reloadChanges(currentProject, currentPath, changes);
+        } catch (RuntimeException exception) {
+            reportExternalReloadFailure(exception);
+            return;
+        }
+        if (!reloaded) {
+            if (unsavedChapterIds.isEmpty()) {
+                projectWorkflow.openProject(currentPath, this::applyLoadedProjectState);
+            } else {
+                resolveExternalConflict(
+                        unsavedChapterIds,
+                        () -> projectWorkflow.openProject(currentPath, this::applyLoadedProjectState),
+                        () -> keepAllLocalChanges(changes)
+                );
+            }
+            return;
+        }
+        restoreSelection(selectedChapterId, selectedSceneId);
+        scheduleAutosave();
+        statusLabel.setText("Alteracoes externas recarregadas: " + changes.changedChapterIds().size() + " capitulo(s).");
+    }
+
+    private void keepLocalChanges(ArchiveChangeSet changes, Set<String> keptChapterIds) {
+        if (changes.requiresFullReload()) {
+            keepAllLocalChanges(changes);
+            return;
+        }
+        String selectedChapterId = selectedChapter == null ? null : selectedChapter.getId();
+        String selectedSceneId = selectedScene == null ? null : selectedScene.getId();
+        ArchiveChangeSet externalChanges = changes.withoutChapters(keptChapterIds);
+        try {
+            if (!externalChanges.changedEntries().isEmpty() && !store.reloadChanges(currentProject, currentPath, externalChanges)) {
+                keepAllLocalChanges(changes);
+                return;
+            }
+            store.acknowledgeExternalChanges(currentPath, changes.onlyChapters(keptChapterIds));
+        } catch (RuntimeException exception) {
+            reportExternalReloadFailure(exception);
+            return;
+        }
+        restoreSelection(selectedChapterId, selectedSceneId);
+        scheduleAutosave();
+        statusLabel.setText("Alteracoes locais mantidas em " + keptChapterIds.size()
+                + " capitulo(s); demais alteracoes externas recarregadas.");
+    }
+
+    private void keepAllLocalChanges(ArchiveChangeSet changes) {
+        try {
+            store.acknowledgeExternalChanges(currentPath, changes);
+        } catch (RuntimeException exception) {
+            reportExternalReloadFailure(exception);
+            return;
+        }
+        scheduleAutosave();
+        statusLabel.setText("Alteracoes locais mantidas; a versao externa sera substituida no proximo salvamento.");
+    }
+
+    private void saveConflictCopy(Runnable afterSaved) {
+        Project project = currentProject;
+        Path copyPath = ProjectStoragePaths.conflictCopyPath(currentPath, Instant.now());
+        backgroundCoordinator.run(
+                "Salvando copia das alteracoes locais em " + copyPath,
+                () -> store.exportArchive(project, copyPath),
+                savedPath -> {
+                    afterSaved.run();
+                    statusLabel.setText("Copia das alteracoes locais salva em " + savedPath + "; versao externa carregada.");
+                },
+                "Nao foi possivel salvar a copia das alteracoes locais."
+        );
+    }
+
+    private void reportExternalReloadFailure(RuntimeException exception) {
+        String failure = exception.getMessage() == null ? exception.getClass().getSimpleName() : exception.getMessage();
+        statusLabel.setText(DesktopOperationStatusFormatter.failure(
+                "Falha ao recarregar alteracoes externas: " + failure + ". Alteracoes locais mantidas."
+        ));
+    }
+
+    private void restoreSelection(String selectedChapterId, String selectedSceneId) {
+        if (currentProject.getChapters().isEmpty()) {
+            selectedChapter = null;
+            selectedScene = null;
+        } else {
+            selectedChapter = currentProject.getChapters().stream()
+                    .filter(chapter -> chapter.getId().equals(selectedChapterId))
+                    .findFirst()
+                    .orElseGet(() -> currentProject.getChapters().get(0));
+            selectedScene = selectedChapter.getScenes().stream()
+                    .filter(scene -> scene.getId().equals(selectedSceneId))
+                    .findFirst()
+                    .orElseGet(() -> selectedChapter.getScenes().isEmpty() ? null : selectedChapter.getScenes().get(0));
+        }
+        syncFieldsFromProject();
+    }
+
     private void renderEmotionAnalysis() {
+        if (currentProject != null && !currentProject.isAnalysisLoaded() && !isAnalysisTabSelected()) {
+            return;
+        }
         analysisPanel.render(currentProject == null ? null : currentProject.getEmotionAnalysis());
     }
 
+    private boolean isAnalysisTabSelected() {
+        return tabbedPane != null && tabbedPane.getSelectedIndex() == tabbedPane.indexOfTab("Analise");
+    }
+
     private void renderEmotionAnalysisFailure() {
         analysisPanel.showFailure(currentProject == null ? null : currentProject.getEmotionAnalysis());
     }
@@ -2233,11 +2437,11 @@ public final class StoryFlameDesktopApp {
         if (currentProject == null || archivePath == null) {
             return;
         }
-        try {
-            backupService.createBackup(archivePath, currentProject);
-        } catch (Exception exception) {
-            SwingUtilities.invokeLater(() -> statusLabel.setText(DesktopOperationStatusFormatter.partialBackupFailure()));
-        }
+        backupWorker.submit(
+                archivePath,
+                currentProject,
+                exception -> SwingUtilities.invokeLater(() -> statusLabel.setText(DesktopOperationStatusFormatter.partialBackupFailure()))
+        );
     }
 
     private Path resolveSavePath(Path previousPath) {
@@ -2645,6 +2849,19 @@ public final class StoryFlameDesktopApp {
         );
     }
 
+    private void scheduleSceneAutosave() {
+        if (selectedChapter == null || selectedScene == null) {
+            scheduleAutosave();
+            return;
+        }
+        currentPath = resolveSavePath(currentPath);
+        Path autosavePath = currentPath;
+        autosaveService.scheduleSceneEdit(currentProject, autosavePath, selectedChapter.getId(), selectedScene, () ->
+                        SwingUtilities.invokeLater(() -> statusLabel.setText("Alteracoes automaticas salvas em " + autosavePath)),
+                exception -> SwingUtilities.invokeLater(() -> backgroundCoordinator.handleAutosaveFailure(autosavePath, exception))
+        );
+    }
+
     private String displayTitle(String value, String fallbackPrefix) {
         if (value == null || value.isBlank()) {
             return fallbackPrefix;